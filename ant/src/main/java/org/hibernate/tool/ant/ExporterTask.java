@@ -48,11 +48,21 @@ public abstract class ExporterTask {
 	
 	/*final*/ public void execute() {
 	
-		Exporter exporter = configureExporter(createExporter() );
-		exporter.start();
+		execute(createConfiguredExporter());
 		
 	}
 	
+	/**
+	 * Starts the exporter of this task, on its own or in the pipeline of the parent task.
+	 */
+	protected void execute(Exporter exporter) {
+		exporter.start();
+	}
+	
+	Exporter createConfiguredExporter() {
+		return configureExporter(createExporter() );
+	}
+	
 	protected abstract Exporter createExporter();
 
 	public File getDestdir() {
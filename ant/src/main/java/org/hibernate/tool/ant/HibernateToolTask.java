@@ -19,7 +19,6 @@ package org.hibernate.tool.ant;
 
 import java.io.File;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Properties;
 
@@ -31,6 +30,8 @@ import org.apache.tools.ant.types.Environment;
 import org.apache.tools.ant.types.Path;
 import org.apache.tools.ant.types.PropertySet;
 import org.hibernate.tool.ant.util.ExceptionUtil;
+import org.hibernate.tool.api.export.Exporter;
+import org.hibernate.tool.api.export.ExporterPipeline;
 import org.hibernate.tool.api.metadata.MetadataDescriptor;
 import org.hibernate.tool.util.StringUtil;
 
@@ -42,10 +43,12 @@ public class HibernateToolTask extends Task {
 
 	ConfigurationTask configurationTask;
 	File destDir;
+	int threads = 1;
 	List<ExporterTask> generators = new ArrayList<ExporterTask>();
 	Path classPath;
 	Path templatePath;
 	Properties properties = new Properties();
+	private volatile TaskExporter failedTask;
 
 	public HibernateToolTask() {
 		super();
@@ -170,25 +173,26 @@ public class HibernateToolTask extends Task {
 		}
 		log("Executing Hibernate Tool with a " + configurationTask.getDescription() );
 		validateParameters();
-		Iterator<ExporterTask> iterator = generators.iterator();
-
 		AntClassLoader loader = getProject().createClassLoader(classPath);
 
-		ExporterTask generatorTask = null;
-		int count = 1;
+		failedTask = null;
 		try {
 			ClassLoader classLoader = this.getClass().getClassLoader();
 			loader.setParent(classLoader ); // if this is not set, classes from the taskdef cannot be found - which is crucial for e.g. annotations.
 			loader.setThreadContextLoader();
 
-			while (iterator.hasNext() ) {
-				generatorTask = iterator.next();
-				log(count++ + ". task: " + generatorTask.getName() );
-				generatorTask.execute();
+			// the metadata is built once and shared by all exporters
+			ExporterPipeline pipeline = new ExporterPipeline(getMetadataDescriptor());
+			pipeline.setThreads(threads);
+			int count = 1;
+			for (ExporterTask generatorTask : generators) {
+				pipeline.addExporter(new TaskExporter(count++, generatorTask));
 			}
+			pipeline.start();
 		}
 		catch (RuntimeException re) {
-			reportException(re, count, generatorTask);
+			TaskExporter failed = failedTask;
+			reportException(re, failed == null ? 0 : failed.count, failed == null ? null : failed.task);
 		}
 		finally {
 			if (loader != null) {
@@ -199,7 +203,12 @@ public class HibernateToolTask extends Task {
 	}
 
 	private void reportException(Throwable re, int count, ExporterTask generatorTask) {
-		log("An exception occurred while running exporter #" + count + ":" + generatorTask, Project.MSG_ERR);
+		if (generatorTask == null) {
+			log("An exception occurred while preparing the exporters", Project.MSG_ERR);
+		}
+		else {
+			log("An exception occurred while running exporter #" + count + ":" + generatorTask, Project.MSG_ERR);
+		}
 		log("To get the full stack trace run ant with -verbose", Project.MSG_ERR);
 
 		log(re.toString(), Project.MSG_ERR);
@@ -242,6 +251,13 @@ public class HibernateToolTask extends Task {
 		}
 	}
 
+	/**
+	 * Sets the number of exporters running at the same time, one runs them one after the other.
+	 */
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+
 	public File getDestDir() {
 		return destDir;
 	}
@@ -291,11 +307,51 @@ public class HibernateToolTask extends Task {
 		properties.put( key, value );
 	}
 
+	// the exporter of a task in the pipeline, which remembers the first task that failed;
+	// the task configures its exporter only when it runs, after the tasks before it
+	private class TaskExporter implements Exporter {
+
+		private final int count;
+		private final ExporterTask task;
+		private final Properties properties = new Properties();
+
+		TaskExporter(int count, ExporterTask task) {
+			this.count = count;
+			this.task = task;
+		}
+
+		@Override
+		public Properties getProperties() {
+			return properties;
+		}
+
+		@Override
+		public void start() {
+			log(count + ". task: " + task.getName() );
+			try {
+				Exporter exporter = task.createConfiguredExporter();
+				// the metadata descriptor of the pipeline replaces the one of the task
+				exporter.getProperties().putAll(properties);
+				task.execute(exporter);
+			}
+			catch (RuntimeException re) {
+				synchronized (HibernateToolTask.this) {
+					if (failedTask == null) {
+						failedTask = this;
+					}
+				}
+				throw re;
+			}
+		}
+
+	}
+
 	@Override
 	public Object clone() throws CloneNotSupportedException {
 		HibernateToolTask htt = (HibernateToolTask) super.clone();
 		htt.configurationTask = this.configurationTask;
 		htt.destDir = this.destDir;
+		htt.threads = this.threads;
 		htt.generators.addAll(this.generators);
 		htt.classPath = this.classPath;
 		htt.templatePath = this.templatePath;
@@ -43,6 +43,7 @@ public class JDBCConfigurationTask extends ConfigurationTask {
 	String reverseEngineeringStrategyClass;
 	String packageName;
 	Path revengFiles;
+	File revengReportFile;
 
 	boolean detectOneToOne = true;
 	boolean detectManyToMany = true;
@@ -55,6 +56,9 @@ public class JDBCConfigurationTask extends ConfigurationTask {
 		Properties properties = loadProperties();
 		RevengStrategy res = createReverseEngineeringStrategy();
 		properties.put(MetadataConstants.PREFER_BASIC_COMPOSITE_IDS, preferBasicCompositeIds);
+		if (revengReportFile != null) {
+			properties.put(MetadataConstants.METADATA_REPORT_FILE, revengReportFile);
+		}
 		return MetadataDescriptorFactory
 				.createReverseEngineeringDescriptor(
 						res, 
@@ -99,6 +103,10 @@ public class JDBCConfigurationTask extends ConfigurationTask {
 		revengFiles = p;		
 	}
 	
+	public void setRevEngReportFile(File file) {
+		revengReportFile = file;
+	}
+	
 	public void setPreferBasicCompositeIds(boolean b) {
 		preferBasicCompositeIds = b;
 	}
@@ -138,6 +146,7 @@ public class JDBCConfigurationTask extends ConfigurationTask {
 		jct.reverseEngineeringStrategyClass = this.reverseEngineeringStrategyClass;
 		jct.packageName = this.packageName;
 		jct.revengFiles = this.revengFiles;
+		jct.revengReportFile = this.revengReportFile;
 		jct.detectOneToOne = this.detectOneToOne;
 		jct.detectManyToMany = this.detectManyToMany;
 		jct.detectOptimisticLock = this.detectOptimisticLock;
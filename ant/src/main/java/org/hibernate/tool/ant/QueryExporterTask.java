@@ -32,6 +32,10 @@ public class QueryExporterTask extends ExporterTask {
 
 	private String query = "";
 	private String filename;
+	private String format;
+	private int fetchSize;
+	private int maxRows;
+	private int threads;
 	List<HQL> queries = new ArrayList<HQL>();
 
 	public QueryExporterTask(HibernateToolTask parent) {
@@ -52,6 +56,18 @@ public class QueryExporterTask extends ExporterTask {
 		}
 		exporter.getProperties().put(ExporterConstants.QUERY_LIST, queryStrings);
 		exporter.getProperties().put(ExporterConstants.OUTPUT_FILE_NAME, filename);
+		if(!StringUtil.isEmptyOrNull(format)) {
+			exporter.getProperties().put(ExporterConstants.QUERY_FORMAT, format);
+		}
+		if(fetchSize > 0) {
+			exporter.getProperties().put(ExporterConstants.QUERY_FETCH_SIZE, fetchSize);
+		}
+		if(maxRows > 0) {
+			exporter.getProperties().put(ExporterConstants.QUERY_MAX_ROWS, maxRows);
+		}
+		if(threads > 0) {
+			exporter.getProperties().put(ExporterConstants.QUERY_THREADS, threads);
+		}
         return exporter;
 	}
 
@@ -100,10 +116,26 @@ public class QueryExporterTask extends ExporterTask {
 	public void setDestFile(String filename) {
 		this.filename = filename;
 	}
+
+	public void setFormat(String format) {
+		this.format = format;
+	}
+
+	public void setFetchSize(int fetchSize) {
+		this.fetchSize = fetchSize;
+	}
+
+	public void setMaxRows(int maxRows) {
+		this.maxRows = maxRows;
+	}
+
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
 	 
-	public void execute() {
+	protected void execute(Exporter exporter) {
 		parent.log("Executing: [" + query + "]");
-		super.execute();
+		super.execute(exporter);
 	}
 	public String getName() {
 		return "query (Executes queries)";
@@ -0,0 +1,42 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2024-2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.gradle;
+
+import org.gradle.testfixtures.ProjectBuilder;
+import org.gradle.api.Project;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PluginTest {
+	
+    @Test 
+    void testApply() {
+        // Create a test project and apply the plugin
+        Project project = ProjectBuilder.builder().build();
+        project.getPlugins().apply("org.hibernate.tool.hibernate-tools-gradle");
+
+        // Verify the result
+        assertNotNull(project.getTasks().findByName("generateJava"));
+        assertNotNull(project.getTasks().findByName("runSql"));
+        
+        Object extension = project.getExtensions().getByName("hibernateTools");
+        assertNotNull(extension);
+        assertTrue(extension instanceof Extension);
+    }
+    
+}
@@ -84,6 +84,11 @@ public abstract class AbstractGenerationMojo extends AbstractMojo {
     @Parameter(defaultValue = "${project.basedir}/src/main/resources/hibernate.properties")
     private File propertyFile;
 
+    /** If set, a JSON report with the time spent in the reverse engineering phases,
+     * the metadata calls made to the database and the rows they returned is written to this file. */
+    @Parameter
+    private File revengReportFile;
+
     // Not exposed for now
     private boolean preferBasicCompositeIds = true;
 
@@ -140,6 +145,9 @@ public abstract class AbstractGenerationMojo extends AbstractMojo {
 
     private MetadataDescriptor createJdbcDescriptor(RevengStrategy strategy, Properties properties) {
     	properties.put(MetadataConstants.PREFER_BASIC_COMPOSITE_IDS, preferBasicCompositeIds);
+    	if (revengReportFile != null) {
+    		properties.put(MetadataConstants.METADATA_REPORT_FILE, revengReportFile);
+    	}
         return MetadataDescriptorFactory
                 .createReverseEngineeringDescriptor(
                         strategy,
@@ -22,7 +22,7 @@ import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.hibernate.tool.api.export.Exporter;
 import org.hibernate.tool.api.export.ExporterConstants;
-import org.hibernate.tool.api.export.ExporterFactory;
+import org.hibernate.tool.api.export.ExporterPipeline;
 import org.hibernate.tool.api.export.ExporterType;
 import org.hibernate.tool.api.metadata.MetadataDescriptor;
 
@@ -58,10 +58,15 @@ public class GenerateDaoMojo extends AbstractGenerationMojo {
     @Parameter
     private String templatePath;
 
+    /** Leave generated files alone whose content did not change, so they are not recompiled. */
+    @Parameter(defaultValue = "false")
+    private boolean writeIfChanged;
+
     protected void executeExporter(MetadataDescriptor metadataDescriptor) {
-        Exporter pojoExporter = ExporterFactory.createExporter(ExporterType.DAO);
-        pojoExporter.getProperties().put(ExporterConstants.METADATA_DESCRIPTOR, metadataDescriptor);
+        ExporterPipeline pipeline = new ExporterPipeline(metadataDescriptor);
+        Exporter pojoExporter = pipeline.addExporter(ExporterType.DAO);
         pojoExporter.getProperties().put(ExporterConstants.DESTINATION_FOLDER, outputDirectory);
+        pojoExporter.getProperties().put(ExporterConstants.WRITE_IF_CHANGED, String.valueOf(writeIfChanged));
         if (templatePath != null) {
             getLog().info("Setting template path to: " + templatePath);
             pojoExporter.getProperties().put(ExporterConstants.TEMPLATE_PATH, new String[] {templatePath});
@@ -69,7 +74,7 @@ public class GenerateDaoMojo extends AbstractGenerationMojo {
         pojoExporter.getProperties().setProperty("ejb3", String.valueOf(ejb3));
         pojoExporter.getProperties().setProperty("jdk5", String.valueOf(jdk5));
         getLog().info("Starting DAO export to directory: " + outputDirectory + "...");
-        pojoExporter.start();
+        pipeline.start();
     }
 
 
@@ -22,7 +22,7 @@ import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.hibernate.tool.api.export.Exporter;
 import org.hibernate.tool.api.export.ExporterConstants;
-import org.hibernate.tool.api.export.ExporterFactory;
+import org.hibernate.tool.api.export.ExporterPipeline;
 import org.hibernate.tool.api.export.ExporterType;
 import org.hibernate.tool.api.metadata.MetadataDescriptor;
 
@@ -48,17 +48,32 @@ public class GenerateHbmMojo extends AbstractGenerationMojo {
     @Parameter
     private String templatePath;
 
+    /** Only regenerate the mappings of tables whose structure changed since the last run. */
+    @Parameter(defaultValue = "false")
+    private boolean incremental;
+
+    /** The number of threads rendering the templates, one renders them one after the other. */
+    @Parameter(defaultValue = "1")
+    private int templateThreads;
+
+    /** Leave generated files alone whose content did not change. */
+    @Parameter(defaultValue = "false")
+    private boolean writeIfChanged;
+
     protected void executeExporter(MetadataDescriptor metadataDescriptor) {
     	try {
-	        Exporter hbmExporter = ExporterFactory.createExporter(ExporterType.HBM);
-	        hbmExporter.getProperties().put(ExporterConstants.METADATA_DESCRIPTOR, metadataDescriptor);
+	        ExporterPipeline pipeline = new ExporterPipeline(metadataDescriptor);
+	        Exporter hbmExporter = pipeline.addExporter(ExporterType.HBM);
 	        hbmExporter.getProperties().put(ExporterConstants.DESTINATION_FOLDER, outputDirectory);
+	        hbmExporter.getProperties().put(ExporterConstants.WRITE_IF_CHANGED, String.valueOf(writeIfChanged));
+	        hbmExporter.getProperties().put(ExporterConstants.INCREMENTAL, String.valueOf(incremental));
+	        hbmExporter.getProperties().put(ExporterConstants.TEMPLATE_THREADS, String.valueOf(templateThreads));
 	        if (templatePath != null) {
 	            getLog().info("Setting template path to: " + templatePath);
 	            hbmExporter.getProperties().put(ExporterConstants.TEMPLATE_PATH, new String[] {templatePath});
 	        }
 	        getLog().info("Starting HBM export to directory: " + outputDirectory + "...");
-	        hbmExporter.start();
+	        pipeline.start();
     	} catch (Exception e) {
     		e.printStackTrace();
     	}
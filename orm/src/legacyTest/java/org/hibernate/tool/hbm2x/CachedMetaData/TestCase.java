@@ -23,10 +23,12 @@ import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.mapping.Table;
 import org.hibernate.service.ServiceRegistry;
+import org.hibernate.tool.api.metadata.MetadataConstants;
 import org.hibernate.tool.api.reveng.RevengDialect;
 import org.hibernate.tool.api.reveng.RevengDialectFactory;
 import org.hibernate.tool.internal.reveng.RevengMetadataCollector;
 import org.hibernate.tool.internal.reveng.dialect.CachedMetaDataDialect;
+import org.hibernate.tool.internal.reveng.dialect.MetaDataSnapshotStore;
 import org.hibernate.tool.internal.reveng.reader.DatabaseReader;
 import org.hibernate.tool.internal.reveng.strategy.DefaultStrategy;
 import org.hibernate.tool.test.utils.JUnitUtil;
@@ -34,7 +36,10 @@ import org.hibernate.tool.test.utils.JdbcUtil;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
@@ -132,6 +137,9 @@ public class TestCase {
 		
 	}
 	
+	@TempDir
+	public Path snapshotDir;
+
 	@BeforeEach
 	public void setUp() {
 		JdbcUtil.createDatabase(this);
@@ -171,6 +179,96 @@ public class TestCase {
 		validate(dc);
  	}
 
+	@Test
+	public void testSnapshotDialect() {
+		StandardServiceRegistryBuilder builder = new StandardServiceRegistryBuilder();
+		ServiceRegistry serviceRegistry = builder.build();		
+		Properties properties = new Properties();
+		properties.putAll(Environment.getProperties());
+		properties.put(MetadataConstants.METADATA_SNAPSHOT_DIR, snapshotDir.toString());
+		properties.put(MetadataConstants.METADATA_SNAPSHOT_TTL, "3600");
+		RevengDialect realMetaData = RevengDialectFactory.createMetaDataDialect( 
+				Objects.requireNonNull(serviceRegistry.getService(JdbcServices.class)).getDialect(),
+				properties );
+		MockedMetaDataDialect mock = new MockedMetaDataDialect(realMetaData);
+		MetaDataSnapshotStore store = MetaDataSnapshotStore.create(properties, "");
+		assertNotNull(store);
+		DatabaseReader reader = DatabaseReader.create( 
+				properties, 
+				new DefaultStrategy(), 
+				new CachedMetaDataDialect(mock, store), 
+				serviceRegistry );
+		RevengMetadataCollector dc = new RevengMetadataCollector();
+		reader.readDatabaseSchema(dc);
+		validate( dc );
+		assertTrue(Files.isRegularFile(store.getFile()));
+		mock.setFailOnDelegateAccess(true);	
+		reader = DatabaseReader.create( 
+				properties, 
+				new DefaultStrategy(), 
+				new CachedMetaDataDialect(mock, MetaDataSnapshotStore.create(properties, "")), 
+				serviceRegistry );
+		dc = new RevengMetadataCollector();
+		reader.readDatabaseSchema(dc);
+		validate(dc);
+	}
+
+	@Test
+	public void testSnapshotFingerprintTakenBeforeReading() {
+		StandardServiceRegistryBuilder builder = new StandardServiceRegistryBuilder();
+		ServiceRegistry serviceRegistry = builder.build();		
+		Properties properties = new Properties();
+		properties.putAll(Environment.getProperties());
+		properties.put(MetadataConstants.METADATA_SNAPSHOT_DIR, snapshotDir.toString());
+		RevengDialect realMetaData = RevengDialectFactory.createMetaDataDialect( 
+				Objects.requireNonNull(serviceRegistry.getService(JdbcServices.class)).getDialect(),
+				properties );
+		// the structure changes while the first run reads the tables
+		ChangingMetaDataDialect changing = new ChangingMetaDataDialect(realMetaData, false);
+		DatabaseReader reader = DatabaseReader.create( 
+				properties, 
+				new DefaultStrategy(), 
+				new CachedMetaDataDialect(changing, MetaDataSnapshotStore.create(properties, "")), 
+				serviceRegistry );
+		reader.readDatabaseSchema(new RevengMetadataCollector());
+		assertTrue(changing.changed);
+		// so the snapshot does not match the changed structure and is read again
+		ChangingMetaDataDialect changed = new ChangingMetaDataDialect(realMetaData, true);
+		reader = DatabaseReader.create( 
+				properties, 
+				new DefaultStrategy(), 
+				new CachedMetaDataDialect(changed, MetaDataSnapshotStore.create(properties, "")), 
+				serviceRegistry );
+		RevengMetadataCollector dc = new RevengMetadataCollector();
+		reader.readDatabaseSchema(dc);
+		validate(dc);
+		assertTrue(changed.tablesRead);
+	}
+
+	private static class ChangingMetaDataDialect extends MockedMetaDataDialect {
+
+		private boolean changed;
+		private boolean tablesRead;
+
+		ChangingMetaDataDialect(RevengDialect realMetaData, boolean changed) {
+			super(realMetaData);
+			this.changed = changed;
+		}
+
+		@Override
+		public Iterator<Map<String, Object>> getTables(String catalog, String schema, String table) {
+			tablesRead = true;
+			changed = true;
+			return super.getTables(catalog, schema, table);
+		}
+
+		@Override
+		public String getStructureFingerprint() {
+			return changed ? "after" : "before";
+		}
+
+	}
+
 	private void validate(RevengMetadataCollector dc) {
 		Iterator<Table> iterator = dc.iterateTables();
 		Table table = iterator.next();
@@ -38,6 +38,7 @@ import javax.xml.parsers.SAXParserFactory;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.StringReader;
+import java.nio.file.Files;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.function.BiConsumer;
@@ -66,16 +67,20 @@ public class TestCase {
 
     private boolean ignoreDot;
 
+	private MetadataDescriptor metadataDescriptor = null;
+
+	private Properties properties = null;
+
 	@BeforeEach
 	public void setUp() throws Exception {
 		srcDir = new File(outputFolder, "src");
 		assertTrue(srcDir.mkdir());
         File resourcesDir = new File(outputFolder, "resources");
 		assertTrue(resourcesDir.mkdir());
-		MetadataDescriptor metadataDescriptor = HibernateUtil
+		metadataDescriptor = HibernateUtil
 				.initializeMetadataDescriptor(this, HBM_XML_FILES, resourcesDir);
 		DocExporter exporter = new DocExporter();
-		Properties properties = new Properties();
+		properties = new Properties();
 		properties.put( "jdk5", "true"); // test generics
 		properties.put(AvailableSettings.DIALECT, HibernateUtil.Dialect.class.getName());
 		properties.put(AvailableSettings.CONNECTION_PROVIDER, ConnectionProvider.class.getName());
@@ -146,6 +151,32 @@ public class TestCase {
 				"Missing inherited property");
 	}
 
+	@Test
+	public void testParallelRendering() throws Exception {
+		File parallelDir = new File(outputFolder, "parallel");
+		assertTrue(parallelDir.mkdir());
+		DocExporter exporter = new DocExporter();
+		exporter.getProperties().putAll(properties);
+		exporter.getProperties().put(ExporterConstants.METADATA_DESCRIPTOR, metadataDescriptor);
+		exporter.getProperties().put(ExporterConstants.DESTINATION_FOLDER, parallelDir);
+		exporter.getProperties().put(ExporterConstants.TEMPLATE_THREADS, "4");
+		exporter.start();
+		assertSameHtml(srcDir, parallelDir);
+	}
+
+	private void assertSameHtml(File expected, File actual) throws Exception {
+		if (expected.isDirectory()) {
+			for (File child : Objects.requireNonNull(expected.listFiles())) {
+				assertSameHtml(child, new File(actual, child.getName()));
+			}
+		} else if (expected.getName().endsWith(".html")) {
+			assertEquals(
+					Files.readString(expected.toPath()),
+					Files.readString(actual.toPath()),
+					actual + " differs from the serial output");
+		}
+	}
+
 	private void checkHtml(File file) {
 		if (file.isDirectory()) {
 			for (File child : Objects.requireNonNull(file.listFiles())) {
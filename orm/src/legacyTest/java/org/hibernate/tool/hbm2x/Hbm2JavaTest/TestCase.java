@@ -318,6 +318,23 @@ public class TestCase {
 		assertEquals( "intf,java.io.Serializable", c2j.getPOJOClass(base).getImplements() );
 	}
 
+	@Test
+	public void testPOJOModel() {
+		Cfg2JavaTool c2j = new Cfg2JavaTool();
+		PersistentClass pc = metadata.getEntityBinding(
+				"org.hibernate.tool.hbm2x.Hbm2JavaTest.Order" );
+		POJOClass model = c2j.getPOJOModel(pc);
+		assertSame( model, c2j.getPOJOModel(pc) );
+		POJOClass pojo = c2j.getPOJOClass(pc);
+		assertNotSame( model, pojo );
+		assertEquals( model.getPropertyClosureForFullConstructor(), pojo.getPropertyClosureForFullConstructor() );
+		assertEquals( model.getPropertyClosureForMinimalConstructor(), pojo.getPropertyClosureForMinimalConstructor() );
+		// the lists handed out can still be changed by the caller
+		pojo.getPropertiesForFullConstructor().clear();
+		assertEquals( model.getPropertiesForFullConstructor(), pojo.getPropertiesForFullConstructor() );
+		assertFalse( pojo.getPropertiesForFullConstructor().isEmpty() );
+	}
+
 	@Test
 	public void testDeclarationName() {
 		Cfg2JavaTool c2j = new Cfg2JavaTool();
@@ -0,0 +1,159 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.hbm2x.IncrementalGeneration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.hibernate.tool.api.export.Exporter;
+import org.hibernate.tool.api.export.ExporterConstants;
+import org.hibernate.tool.api.export.ExporterFactory;
+import org.hibernate.tool.api.export.ExporterType;
+import org.hibernate.tool.api.metadata.MetadataDescriptor;
+import org.hibernate.tool.api.metadata.MetadataDescriptorFactory;
+import org.hibernate.tool.api.reveng.RevengSettings;
+import org.hibernate.tool.api.reveng.TableIdentifier;
+import org.hibernate.tool.internal.reveng.strategy.AbstractStrategy;
+import org.hibernate.tool.internal.reveng.strategy.DefaultStrategy;
+import org.hibernate.tool.test.utils.JdbcUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestCase {
+
+	private static final String MARKER = "// untouched";
+
+	@TempDir
+	public File outputDir = new File("output");
+
+	private MetadataDescriptor metadataDescriptor = null;
+
+	@BeforeEach
+	public void setUp() {
+		JdbcUtil.createDatabase(this);
+		AbstractStrategy strategy = new DefaultStrategy();
+		strategy.setSettings(new RevengSettings(strategy).setDefaultPackageName("org.reveng"));
+		metadataDescriptor = MetadataDescriptorFactory
+				.createReverseEngineeringDescriptor(strategy, null);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		JdbcUtil.dropDatabase(this);
+	}
+
+	@Test
+	public void testOnlyChangedTablesAreRegenerated() throws IOException {
+		File master = new File(outputDir, "org/reveng/Master.java");
+		File child = new File(outputDir, "org/reveng/Child.java");
+		File loner = new File(outputDir, "org/reveng/Loner.java");
+
+		export();
+		assertTrue(master.isFile());
+		assertTrue(child.isFile());
+		assertTrue(loner.isFile());
+
+		// nothing changed, nothing is written
+		mark(master, child, loner);
+		export();
+		assertEquals(MARKER, Files.readString(master.toPath()));
+		assertEquals(MARKER, Files.readString(child.toPath()));
+		assertEquals(MARKER, Files.readString(loner.toPath()));
+
+		// the changed table and the table it references are regenerated
+		JdbcUtil.executeSql(this, new String[] { "ALTER TABLE CHILD ADD COLUMN EXTRA VARCHAR(10)" });
+		export();
+		assertNotEquals(MARKER, Files.readString(child.toPath()));
+		assertTrue(Files.readString(child.toPath()).contains("extra"));
+		assertNotEquals(MARKER, Files.readString(master.toPath()));
+		assertEquals(MARKER, Files.readString(loner.toPath()));
+
+		// a deleted artifact is regenerated even if its table did not change
+		Files.delete(loner.toPath());
+		export();
+		assertNotEquals(MARKER, Files.readString(loner.toPath()));
+	}
+
+	@Test
+	public void testChangedSettingsRegenerateAll() throws IOException {
+		File loner = new File(outputDir, "org/reveng/Loner.java");
+		export();
+		mark(loner);
+		Exporter exporter = createExporter();
+		exporter.getProperties().setProperty("ejb3", "true");
+		exporter.start();
+		assertNotEquals(MARKER, Files.readString(loner.toPath()));
+	}
+
+	@Test
+	public void testChangedStrategyRegeneratesMapping() throws IOException {
+		File loner = new File(outputDir, "org/reveng/Loner.java");
+		File renamed = new File(outputDir, "org/reveng/Single.java");
+		File master = new File(outputDir, "org/reveng/Master.java");
+		export();
+		mark(loner, master);
+		AbstractStrategy strategy = new DefaultStrategy() {
+			@Override
+			public String tableToClassName(TableIdentifier tableIdentifier) {
+				if ("LONER".equals(tableIdentifier.getName())) {
+					return "org.reveng.Single";
+				}
+				return super.tableToClassName(tableIdentifier);
+			}
+			@Override
+			public String columnToPropertyName(TableIdentifier table, String column) {
+				if ("MASTER".equals(table.getName()) && "NAME".equals(column)) {
+					return "label";
+				}
+				return super.columnToPropertyName(table, column);
+			}
+		};
+		strategy.setSettings(new RevengSettings(strategy).setDefaultPackageName("org.reveng"));
+		metadataDescriptor = MetadataDescriptorFactory
+				.createReverseEngineeringDescriptor(strategy, null);
+		export();
+		assertTrue(renamed.isFile());
+		assertTrue(Files.readString(master.toPath()).contains("label"));
+	}
+
+	private void export() {
+		createExporter().start();
+	}
+
+	private Exporter createExporter() {
+		Exporter exporter = ExporterFactory.createExporter(ExporterType.JAVA);
+		exporter.getProperties().put(ExporterConstants.METADATA_DESCRIPTOR, metadataDescriptor);
+		exporter.getProperties().put(ExporterConstants.DESTINATION_FOLDER, outputDir);
+		exporter.getProperties().put(ExporterConstants.INCREMENTAL, "true");
+		return exporter;
+	}
+
+	private void mark(File... files) throws IOException {
+		for (File file : files) {
+			Files.writeString(file.toPath(), MARKER);
+		}
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.hbm2x.ParallelGeneration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.tool.api.export.ArtifactCollector;
+import org.hibernate.tool.api.export.Exporter;
+import org.hibernate.tool.api.export.ExporterConstants;
+import org.hibernate.tool.api.export.ExporterFactory;
+import org.hibernate.tool.api.export.ExporterType;
+import org.hibernate.tool.api.metadata.MetadataDescriptor;
+import org.hibernate.tool.api.metadata.MetadataDescriptorFactory;
+import org.hibernate.tool.internal.export.common.DefaultArtifactCollector;
+import org.hibernate.tool.test.utils.JdbcUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestCase {
+
+	@TempDir
+	public File outputDir = new File("output");
+
+	private MetadataDescriptor metadataDescriptor = null;
+
+	@BeforeEach
+	public void setUp() {
+		JdbcUtil.createDatabase(this);
+		metadataDescriptor = MetadataDescriptorFactory
+				.createReverseEngineeringDescriptor(null, null);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		JdbcUtil.dropDatabase(this);
+	}
+
+	@Test
+	public void testJavaFilesAreTheSame() throws IOException {
+		assertSameOutput(ExporterType.JAVA);
+	}
+
+	@Test
+	public void testHbmFilesAreTheSame() throws IOException {
+		assertSameOutput(ExporterType.HBM);
+	}
+
+	private void assertSameOutput(ExporterType exporterType) throws IOException {
+		File serialDir = new File(outputDir, "serial");
+		File parallelDir = new File(outputDir, "parallel");
+		DefaultArtifactCollector serialCollector = new DefaultArtifactCollector();
+		createExporter(exporterType, serialDir, 1, serialCollector).start();
+		DefaultArtifactCollector parallelCollector = new DefaultArtifactCollector();
+		createExporter(exporterType, parallelDir, 4, parallelCollector).start();
+		List<Path> serialFiles = listFiles(serialDir);
+		List<Path> parallelFiles = listFiles(parallelDir);
+		assertFalse(serialFiles.isEmpty());
+		assertEquals(serialFiles, parallelFiles);
+		for (Path file : serialFiles) {
+			assertEquals(
+					read(serialDir.toPath().resolve(file)),
+					read(parallelDir.toPath().resolve(file)),
+					file.toString());
+		}
+		for (String type : serialCollector.getFileTypes()) {
+			assertEquals(
+					serialCollector.getFileCount(type),
+					parallelCollector.getFileCount(type));
+		}
+	}
+
+	private Exporter createExporter(ExporterType exporterType, File destination, int threads, ArtifactCollector collector) {
+		Exporter exporter = ExporterFactory.createExporter(exporterType);
+		exporter.getProperties().put(ExporterConstants.ARTIFACT_COLLECTOR, collector);
+		exporter.getProperties().put(ExporterConstants.METADATA_DESCRIPTOR, metadataDescriptor);
+		exporter.getProperties().put(ExporterConstants.DESTINATION_FOLDER, destination);
+		exporter.getProperties().put(ExporterConstants.TEMPLATE_THREADS, String.valueOf(threads));
+		return exporter;
+	}
+
+	// the header holds the generation time
+	private String read(Path file) throws IOException {
+		return Files.readString(file).replaceAll("Generated .* by Hibernate Tools", "Generated by Hibernate Tools");
+	}
+
+	private List<Path> listFiles(File directory) throws IOException {
+		try (Stream<Path> files = Files.walk(directory.toPath())) {
+			return files
+					.filter(Files::isRegularFile)
+					.map(file -> directory.toPath().relativize(file))
+					.sorted()
+					.toList();
+		}
+	}
+
+}
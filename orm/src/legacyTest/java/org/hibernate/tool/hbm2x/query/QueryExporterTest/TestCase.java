@@ -29,6 +29,8 @@ import org.hibernate.tool.api.export.ExporterType;
 import org.hibernate.tool.api.metadata.MetadataDescriptor;
 import org.hibernate.tool.api.metadata.MetadataDescriptorFactory;
 import org.hibernate.tool.hbm2ddl.SchemaExport;
+import org.hibernate.tool.internal.export.common.DefaultArtifactCollector;
+import org.hibernate.tool.internal.export.query.QueryExporter;
 import org.hibernate.tool.schema.TargetType;
 import org.hibernate.tool.test.utils.JUnitUtil;
 import org.hibernate.tool.test.utils.JdbcUtil;
@@ -39,11 +41,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -96,7 +101,107 @@ public class TestCase {
 		exporter.start();
 		JUnitUtil.assertIsNonEmptyFile(new File(destinationDir, "queryresult.txt"));
 	}
+
+	@Test
+	public void testStreamingQueryExporter() throws Exception {
+		Exporter exporter = ExporterFactory.createExporter(ExporterType.QUERY);
+		MetadataDescriptor metadataDescriptor = MetadataDescriptorFactory
+				.createNativeDescriptor(
+						null, 
+						new File[] { userGroupHbmXmlFile }, 
+						null);
+		exporter.getProperties().put(AvailableSettings.HBM2DDL_AUTO, "update");
+		exporter.getProperties().put(ExporterConstants.METADATA_DESCRIPTOR, metadataDescriptor);
+		exporter.getProperties().put(ExporterConstants.DESTINATION_FOLDER, destinationDir);
+		exporter.getProperties().put(ExporterConstants.OUTPUT_FILE_NAME, "queryresult.csv");
+		exporter.getProperties().put(ExporterConstants.QUERY_FORMAT, "csv");
+		exporter.getProperties().put(ExporterConstants.QUERY_FETCH_SIZE, "1");
+		exporter.getProperties().put(ExporterConstants.QUERY_MAX_ROWS, "1");
+		exporter.getProperties().put(ExporterConstants.QUERY_CLEAR_INTERVAL, "1");
+		List<String> queries = new ArrayList<>();
+		queries.add("select u.userId.name, u.userId.org from User u order by u.userId.name");
+		queries.add("select u.userId.name, u.userId.org from User u order by u.userId.name desc");
+		exporter.getProperties().put(ExporterConstants.QUERY_LIST, queries);
+		exporter.start();
+		List<String> lines = Files.readAllLines(new File(destinationDir, "queryresult.csv").toPath());
+		assertEquals(List.of("gavin,jboss", "max,jboss"), lines);
+	}
+
+	@Test
+	public void testConcurrentQueryExporter() throws Exception {
+		Exporter exporter = ExporterFactory.createExporter(ExporterType.QUERY);
+		MetadataDescriptor metadataDescriptor = MetadataDescriptorFactory
+				.createNativeDescriptor(
+						null, 
+						new File[] { userGroupHbmXmlFile }, 
+						null);
+		exporter.getProperties().put(AvailableSettings.HBM2DDL_AUTO, "update");
+		exporter.getProperties().put(ExporterConstants.METADATA_DESCRIPTOR, metadataDescriptor);
+		exporter.getProperties().put(ExporterConstants.DESTINATION_FOLDER, destinationDir);
+		exporter.getProperties().put(ExporterConstants.OUTPUT_FILE_NAME, "queryresult.csv");
+		exporter.getProperties().put(ExporterConstants.QUERY_FORMAT, "csv");
+		exporter.getProperties().put(ExporterConstants.QUERY_THREADS, "2");
+		List<String> queries = new ArrayList<>();
+		queries.add("select u.userId.name from User u order by u.userId.name");
+		queries.add("select count(u) from User u");
+		queries.add("select u.userId.org from User u where u.userId.name = 'max'");
+		exporter.getProperties().put(ExporterConstants.QUERY_LIST, queries);
+		exporter.start();
+		assertEquals(List.of("gavin", "max"), Files.readAllLines(new File(destinationDir, "queryresult-1.csv").toPath()));
+		assertEquals(List.of("2"), Files.readAllLines(new File(destinationDir, "queryresult-2.csv").toPath()));
+		assertEquals(List.of("jboss"), Files.readAllLines(new File(destinationDir, "queryresult-3.csv").toPath()));
+		List<QueryExporter.QueryTiming> timings = ((QueryExporter)exporter).getQueryTimings();
+		assertEquals(3, timings.size());
+		assertEquals(queries.get(1), timings.get(1).query());
+		assertEquals(1, timings.get(1).rows());
+	}
 	
+	@Test
+	public void testConcurrentQueryExporterLocksUnsafeCollector() throws Exception {
+		AtomicInteger adding = new AtomicInteger();
+		AtomicInteger overlaps = new AtomicInteger();
+		DefaultArtifactCollector collector = new DefaultArtifactCollector() {
+			@Override
+			public boolean isThreadSafe() {
+				return false;
+			}
+			@Override
+			public void addFile(File file, String type) {
+				if (adding.incrementAndGet() > 1) {
+					overlaps.incrementAndGet();
+				}
+				try {
+					Thread.sleep(50);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				super.addFile(file, type);
+				adding.decrementAndGet();
+			}
+		};
+		Exporter exporter = ExporterFactory.createExporter(ExporterType.QUERY);
+		MetadataDescriptor metadataDescriptor = MetadataDescriptorFactory
+				.createNativeDescriptor(
+						null, 
+						new File[] { userGroupHbmXmlFile }, 
+						null);
+		exporter.getProperties().put(AvailableSettings.HBM2DDL_AUTO, "update");
+		exporter.getProperties().put(ExporterConstants.METADATA_DESCRIPTOR, metadataDescriptor);
+		exporter.getProperties().put(ExporterConstants.DESTINATION_FOLDER, destinationDir);
+		exporter.getProperties().put(ExporterConstants.ARTIFACT_COLLECTOR, collector);
+		exporter.getProperties().put(ExporterConstants.OUTPUT_FILE_NAME, "queryresult.csv");
+		exporter.getProperties().put(ExporterConstants.QUERY_THREADS, "4");
+		List<String> queries = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			queries.add("select count(u) from User u");
+		}
+		exporter.getProperties().put(ExporterConstants.QUERY_LIST, queries);
+		exporter.start();
+		assertEquals(0, overlaps.get());
+		assertEquals(8, collector.getFileCount("query-output"));
+	}
+
 	@AfterEach
 	public void tearDown() throws Exception {
 		SchemaExport export = new SchemaExport();
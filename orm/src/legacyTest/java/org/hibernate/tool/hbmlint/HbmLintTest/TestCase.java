@@ -17,15 +17,23 @@
  */
 package org.hibernate.tool.hbmlint.HbmLintTest;
 
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.Table;
 import org.hibernate.tool.api.export.ExporterConstants;
 import org.hibernate.tool.api.metadata.MetadataDescriptor;
+import org.hibernate.tool.api.metadata.MetadataDescriptorFactory;
 import org.hibernate.tool.internal.export.lint.*;
+import org.hibernate.tool.test.utils.ConnectionProvider;
 import org.hibernate.tool.test.utils.HibernateUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Properties;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -77,5 +85,81 @@ public class TestCase {
 		analyzer.analyze(metadataDescriptor.createMetadata());
 		assertEquals(2,analyzer.getResults().size(), analyzer.getResults().toString());
 	}
+
+	@Test
+	public void testConcurrentAnalysis() {
+		HbmLint serial = new HbmLint(new Detector[] { new BadCachingDetector(), new ShadowedIdentifierDetector() });
+		serial.analyze(metadataDescriptor.createMetadata());
+		HbmLint concurrent = new HbmLint(new Detector[] { new BadCachingDetector(), new ShadowedIdentifierDetector() });
+		concurrent.setThreads(4);
+		concurrent.analyze(metadataDescriptor.createMetadata());
+		assertEquals(2, concurrent.getResults().size());
+		assertEquals(serial.getResults().toString(), concurrent.getResults().toString());
+	}
 	
+	@Test
+	public void testConcurrentRelationalAnalysis() throws IOException {
+		StringBuilder mapping = new StringBuilder("<hibernate-mapping>\n");
+		for (int i = 0; i < 64; i++) {
+			mapping.append("<class entity-name='Entity").append(i).append("' table='TABLE").append(i).append("'>\n")
+					.append("<id name='id' type='long'/>\n");
+			for (int j = 0; j < 8; j++) {
+				mapping.append("<property name='property").append(j).append("' type='string'/>\n");
+			}
+			mapping.append("</class>\n");
+		}
+		mapping.append("</hibernate-mapping>\n");
+		File hbmFile = new File(outputDir, "ManyTables.hbm.xml");
+		Files.writeString(hbmFile.toPath(), mapping);
+		Properties properties = new Properties();
+		properties.put(AvailableSettings.DIALECT, HibernateUtil.Dialect.class.getName());
+		properties.setProperty(AvailableSettings.CONNECTION_PROVIDER, ConnectionProvider.class.getName());
+		MetadataDescriptor manyTables = MetadataDescriptorFactory.createNativeDescriptor(null, new File[] { hbmFile }, properties);
+		HbmLint serial = new HbmLint(new Detector[] { new ColumnDetector(), new BadCachingDetector(), new ColumnDetector() });
+		serial.analyze(manyTables.createMetadata());
+		HbmLint concurrent = new HbmLint(new Detector[] { new ColumnDetector(), new BadCachingDetector(), new ColumnDetector() });
+		concurrent.setThreads(8);
+		concurrent.analyze(manyTables.createMetadata());
+		// two issues per column and one per detector at the end
+		assertEquals(2 * 64 * 9 + 2, concurrent.getResults().size());
+		assertEquals(serial.getResults().toString(), concurrent.getResults().toString());
+	}
+
+	@Test
+	public void testOverriddenVisit() {
+		Detector detector = new BadCachingDetector() {
+			@Override
+			public void visit(IssueCollector collector) {
+				collector.reportIssue(new Issue("START", Issue.LOW_PRIORITY, "started"));
+				super.visit(collector);
+			}
+		};
+		HbmLint analyzer = new HbmLint(new Detector[] { detector });
+		analyzer.setThreads(4);
+		analyzer.analyze(metadataDescriptor.createMetadata());
+		assertEquals(2, analyzer.getResults().size());
+		assertEquals("START:started", analyzer.getResults().get(0).toString());
+	}
+
+	private static class ColumnDetector extends RelationalModelDetector {
+
+		@Override
+		public String getName() {
+			return "column";
+		}
+
+		@Override
+		protected void visit(Table table, Column col, IssueCollector collector) {
+			// give the other tables a chance to report in between
+			Thread.yield();
+			collector.reportIssue(new Issue("COLUMN", Issue.LOW_PRIORITY, table.getName() + "." + col.getName()));
+		}
+
+		@Override
+		public void endVisit(IssueCollector collector) {
+			collector.reportIssue(new Issue("END", Issue.LOW_PRIORITY, "done"));
+		}
+
+	}
+
 }
@@ -95,6 +95,38 @@ public class TestCase {
 
 	}
 			
+	@Test
+	public void testUnqualifiedTablesInDefaultSchema() {
+		JdbcUtil.executeSql(this, new String[] {
+				"CREATE SCHEMA OTHER",
+				"CREATE TABLE OTHER.CATEGORY (ID INT, NAME VARCHAR(100))" });
+		try {
+			StandardServiceRegistryBuilder ssrb = new StandardServiceRegistryBuilder();
+			ssrb.applySetting(
+					AvailableSettings.SEQUENCE_INCREMENT_SIZE_MISMATCH_STRATEGY,
+					SequenceMismatchStrategy.NONE);
+			MetadataSources metadataSources = new MetadataSources(ssrb.build());
+			metadataSources.addResource("org/hibernate/tool/hbmlint/SchemaAnalyzer/SchemaIssues.hbm.xml");
+			Metadata metadata = metadataSources.buildMetadata();
+			SchemaByMetaDataDetector analyzer = new SchemaByMetaDataDetector();
+			analyzer.initialize( metadata );
+			for (Table table : metadata.collectTableMappings()) {
+				if (table.getName().equalsIgnoreCase("CATEGORY")) {
+					// the table of the other schema is not read
+					MockCollector mc = new MockCollector();
+					analyzer.visit(table, mc);
+					assertEquals(1, mc.problems.size());
+					assertTrue(mc.problems.get(0).getDescription().contains("missing column: name"));
+				}
+			}
+		}
+		finally {
+			JdbcUtil.executeSql(this, new String[] {
+					"DROP TABLE OTHER.CATEGORY",
+					"DROP SCHEMA OTHER" });
+		}
+	}
+
 	static class MockCollector implements IssueCollector {
 		List<Issue> problems = new ArrayList<>();
 		public void reportIssue(Issue analyze) {			
@@ -17,16 +17,38 @@
  */
 package org.hibernate.tool.jdbc2cfg.Performance;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
 import org.hibernate.boot.Metadata;
+import org.hibernate.mapping.Column;
 import org.hibernate.mapping.Table;
+import org.hibernate.tool.api.export.Exporter;
+import org.hibernate.tool.api.export.ExporterConstants;
+import org.hibernate.tool.api.export.ExporterFactory;
+import org.hibernate.tool.api.export.ExporterType;
+import org.hibernate.tool.api.metadata.MetadataConstants;
+import org.hibernate.tool.api.metadata.MetadataDescriptor;
 import org.hibernate.tool.api.metadata.MetadataDescriptorFactory;
+import org.hibernate.tool.api.reveng.RevengListener;
 import org.hibernate.tool.test.utils.JUnitUtil;
 import org.hibernate.tool.test.utils.JdbcUtil;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author max
@@ -36,6 +58,9 @@ public class TestCase {
 
 	private static final int TABLECOUNT = 200;
 	private static final int COLCOUNT = 10;
+
+	@TempDir
+	public File outputDir = new File("output");
 	
 	@BeforeEach
 	public void setUp() {
@@ -60,4 +85,115 @@ public class TestCase {
 		assertEquals(COLCOUNT+1, tab.getColumnSpan());
 	}
 	
+	@Test
+	public void testParallelReading() throws IOException {
+		Properties properties = new Properties();
+		properties.put(MetadataConstants.METADATA_READER_THREADS, "4");
+		assertSameTables(properties);
+		assertSameMapping(properties);
+	}
+
+	@Test
+	public void testPrefetchReading() throws IOException {
+		Properties properties = new Properties();
+		properties.put(MetadataConstants.METADATA_PREFETCH, "true");
+		assertSameTables(properties);
+		assertSameMapping(properties);
+	}
+
+	@Test
+	public void testInstrumentation() throws Exception {
+		Map<String, Long> phases = new ConcurrentHashMap<>();
+		Map<String, Long> rows = new ConcurrentHashMap<>();
+		RevengListener listener = new RevengListener() {
+			@Override
+			public void phaseFinished(String phase, long elapsedNanos) {
+				phases.merge(phase, 1L, Long::sum);
+			}
+			@Override
+			public void dialectCallFinished(String method, long elapsedNanos, long rowCount) {
+				rows.merge(method, rowCount, Long::sum);
+			}
+		};
+		File reportFile = new File(outputDir, "reveng-report.json");
+		Properties properties = new Properties();
+		properties.put(MetadataConstants.METADATA_LISTENERS, listener);
+		properties.put(MetadataConstants.METADATA_REPORT_FILE, reportFile.getPath());
+		MetadataDescriptorFactory
+				.createReverseEngineeringDescriptor(null, properties)
+				.createMetadata();
+		assertEquals(1L, phases.get(RevengListener.READ_DATABASE_SCHEMA));
+		assertEquals(1L, phases.get(RevengListener.PROCESS_TABLES));
+		assertEquals((long) TABLECOUNT, phases.get(RevengListener.PROCESS_FOREIGN_KEYS));
+		assertEquals((long) TABLECOUNT, phases.get(RevengListener.BIND));
+		assertEquals(1L, phases.get(RevengListener.PROCESS_SECOND_PASSES));
+		assertEquals((long) TABLECOUNT * (COLCOUNT + 1), rows.get("getColumns"));
+		String report = Files.readString(reportFile.toPath());
+		assertTrue(report.contains("\"" + RevengListener.READ_DATABASE_SCHEMA + "\" : { \"count\" : 1"));
+		assertTrue(report.contains("\"getColumns\" : { \"count\" : "));
+		assertTrue(report.contains("\"totals\" : { \"jdbcCalls\" : "));
+	}
+
+	private void assertSameTables(Properties properties) {
+		Metadata serial = MetadataDescriptorFactory
+				.createReverseEngineeringDescriptor(null, null)
+				.createMetadata();
+		Metadata other = MetadataDescriptorFactory
+				.createReverseEngineeringDescriptor(null, properties)
+				.createMetadata();
+		Iterator<Table> serialTables = serial.collectTableMappings().iterator();
+		Iterator<Table> otherTables = other.collectTableMappings().iterator();
+		while (serialTables.hasNext()) {
+			Table expected = serialTables.next();
+			Table actual = otherTables.next();
+			assertEquals(expected.getName(), actual.getName());
+			assertEquals(expected.getPrimaryKey().getName(), actual.getPrimaryKey().getName());
+			assertEquals(expected.getForeignKeys().keySet(), actual.getForeignKeys().keySet());
+			Iterator<Column> actualColumns = actual.getColumns().iterator();
+			for (Column column : expected.getColumns()) {
+				assertEquals(column.getName(), actualColumns.next().getName());
+			}
+		}
+		assertFalse(otherTables.hasNext());
+	}
+	
+	// the whole mapping, with types, keys and associations, is compared through the hbm.xml files
+	private void assertSameMapping(Properties properties) throws IOException {
+		File serialDir = new File(outputDir, "serial");
+		File otherDir = new File(outputDir, "other");
+		exportHbm(MetadataDescriptorFactory.createReverseEngineeringDescriptor(null, null), serialDir);
+		exportHbm(MetadataDescriptorFactory.createReverseEngineeringDescriptor(null, properties), otherDir);
+		List<Path> serialFiles = listFiles(serialDir);
+		assertEquals(TABLECOUNT, serialFiles.size());
+		assertEquals(serialFiles, listFiles(otherDir));
+		for (Path file : serialFiles) {
+			assertEquals(
+					read(serialDir.toPath().resolve(file)),
+					read(otherDir.toPath().resolve(file)),
+					file.toString());
+		}
+	}
+
+	private void exportHbm(MetadataDescriptor metadataDescriptor, File destination) {
+		Exporter exporter = ExporterFactory.createExporter(ExporterType.HBM);
+		exporter.getProperties().put(ExporterConstants.METADATA_DESCRIPTOR, metadataDescriptor);
+		exporter.getProperties().put(ExporterConstants.DESTINATION_FOLDER, destination);
+		exporter.start();
+	}
+
+	// the header holds the generation time
+	private String read(Path file) throws IOException {
+		return Files.readString(file).replaceAll("Generated .* by Hibernate Tools", "Generated by Hibernate Tools");
+	}
+
+	private List<Path> listFiles(File directory) throws IOException {
+		try (Stream<Path> files = Files.walk(directory.toPath())) {
+			return files
+					.filter(Files::isRegularFile)
+					.map(file -> directory.toPath().relativize(file))
+					.sorted()
+					.toList();
+		}
+	}
+	
 }
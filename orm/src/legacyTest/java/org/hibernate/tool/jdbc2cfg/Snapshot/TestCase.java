@@ -0,0 +1,147 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.jdbc2cfg.Snapshot;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.Table;
+import org.hibernate.tool.api.export.Exporter;
+import org.hibernate.tool.api.export.ExporterConstants;
+import org.hibernate.tool.api.export.ExporterFactory;
+import org.hibernate.tool.api.export.ExporterPipeline;
+import org.hibernate.tool.api.export.ExporterType;
+import org.hibernate.tool.api.metadata.MetadataConstants;
+import org.hibernate.tool.api.metadata.MetadataDescriptorFactory;
+import org.hibernate.tool.api.reveng.RevengStrategy.SchemaSelection;
+import org.hibernate.tool.internal.reveng.strategy.DefaultStrategy;
+import org.hibernate.tool.test.utils.JdbcUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestCase {
+
+	@TempDir
+	public File outputDir = new File( "output" );
+
+	@BeforeEach
+	public void setUp() {
+		JdbcUtil.createDatabase(this);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		JdbcUtil.dropDatabase(this);
+	}
+
+	@Test
+	public void testOfflineReverseEngineering() {
+		Exporter exporter = ExporterFactory.createExporter(ExporterType.METADATA_SNAPSHOT);
+		exporter.getProperties().put(
+				ExporterConstants.METADATA_DESCRIPTOR,
+				MetadataDescriptorFactory.createReverseEngineeringDescriptor(null, null));
+		exporter.getProperties().put(ExporterConstants.DESTINATION_FOLDER, outputDir);
+		exporter.start();
+		File snapshot = new File(outputDir, "metadata-snapshot.xml");
+		assertTrue(Files.isRegularFile(snapshot.toPath()));
+
+		Metadata live = MetadataDescriptorFactory
+				.createReverseEngineeringDescriptor(null, null)
+				.createMetadata();
+		// an unusable url proves the database is never contacted
+		Properties properties = new Properties();
+		properties.put(MetadataConstants.METADATA_SNAPSHOT_FILE, snapshot.getAbsolutePath());
+		properties.put(AvailableSettings.URL, "jdbc:unknown:offline");
+		properties.put(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:unknown:offline");
+		Metadata offline = MetadataDescriptorFactory
+				.createReverseEngineeringDescriptor(null, properties)
+				.createMetadata();
+
+		Iterator<Table> liveTables = live.collectTableMappings().iterator();
+		Iterator<Table> offlineTables = offline.collectTableMappings().iterator();
+		while (liveTables.hasNext()) {
+			Table expected = liveTables.next();
+			Table actual = offlineTables.next();
+			assertEquals(expected.getName(), actual.getName());
+			assertEquals(expected.getPrimaryKey().getName(), actual.getPrimaryKey().getName());
+			assertEquals(expected.getForeignKeys().keySet(), actual.getForeignKeys().keySet());
+			Iterator<Column> actualColumns = actual.getColumns().iterator();
+			for (Column column : expected.getColumns()) {
+				Column actualColumn = actualColumns.next();
+				assertEquals(column.getName(), actualColumn.getName());
+				assertEquals(column.getSqlTypeCode(), actualColumn.getSqlTypeCode());
+				assertEquals(column.isNullable(), actualColumn.isNullable());
+			}
+		}
+		assertFalse(offlineTables.hasNext());
+		assertEquals(live.getEntityBindings().size(), offline.getEntityBindings().size());
+	}
+
+	@Test
+	public void testSchemaSelectionsInPipeline() {
+		DefaultStrategy strategy = new DefaultStrategy() {
+			@Override
+			public List<SchemaSelection> getSchemaSelections() {
+				return List.of(new SchemaSelection() {
+					@Override
+					public String getMatchCatalog() {
+						return null;
+					}
+					@Override
+					public String getMatchSchema() {
+						return null;
+					}
+					@Override
+					public String getMatchTable() {
+						return "MASTER";
+					}
+				});
+			}
+		};
+		ExporterPipeline pipeline = new ExporterPipeline(
+				MetadataDescriptorFactory.createReverseEngineeringDescriptor(strategy, null));
+		Exporter exporter = pipeline.addExporter(ExporterType.METADATA_SNAPSHOT);
+		exporter.getProperties().put(ExporterConstants.DESTINATION_FOLDER, outputDir);
+		pipeline.start();
+		File snapshot = new File(outputDir, "metadata-snapshot.xml");
+
+		Properties properties = new Properties();
+		properties.put(MetadataConstants.METADATA_SNAPSHOT_FILE, snapshot.getAbsolutePath());
+		properties.put(AvailableSettings.URL, "jdbc:unknown:offline");
+		properties.put(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:unknown:offline");
+		Metadata offline = MetadataDescriptorFactory
+				.createReverseEngineeringDescriptor(null, properties)
+				.createMetadata();
+		Iterator<Table> tables = offline.collectTableMappings().iterator();
+		assertEquals("MASTER", tables.next().getName());
+		assertFalse(tables.hasNext());
+	}
+
+}
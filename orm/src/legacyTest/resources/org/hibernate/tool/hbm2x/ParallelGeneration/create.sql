@@ -0,0 +1,23 @@
+############################################################################
+# Hibernate Tools, Tooling for your Hibernate Projects                     #
+#                                                                          #
+# Copyright 2025      Red Hat, Inc.                                        #
+#                                                                          #
+# Licensed under the Apache License, Version 2.0 (the "License");          #
+# you may not use this file except in compliance with the License.         #
+# You may obtain a copy of the License at                                  #
+#                                                                          #
+#     http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                          #
+# Unless required by applicable law or agreed to in writing, software      #
+# distributed under the License is distributed on an "AS IS" basis,        #
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+# See the License for the specific language governing permissions and      #
+# limitations under the License.                                           #
+############################################################################
+CREATE TABLE CUSTOMER (ID INT NOT NULL, NAME VARCHAR(20), PRIMARY KEY (ID))
+CREATE TABLE PURCHASE (ID INT NOT NULL, CUSTOMER_ID INT, PLACED DATE, PRIMARY KEY (ID), FOREIGN KEY (CUSTOMER_ID) REFERENCES CUSTOMER(ID))
+CREATE TABLE PRODUCT (CODE VARCHAR(10) NOT NULL, VARIANT INT NOT NULL, PRICE DECIMAL(10,2), PRIMARY KEY (CODE, VARIANT))
+CREATE TABLE PURCHASE_LINE (PURCHASE_ID INT NOT NULL, LINE INT NOT NULL, PRODUCT_CODE VARCHAR(10), PRODUCT_VARIANT INT, QUANTITY INT, PRIMARY KEY (PURCHASE_ID, LINE), FOREIGN KEY (PURCHASE_ID) REFERENCES PURCHASE(ID), FOREIGN KEY (PRODUCT_CODE, PRODUCT_VARIANT) REFERENCES PRODUCT(CODE, VARIANT))
+CREATE TABLE SUPPLIER (ID INT NOT NULL, NAME VARCHAR(20), PRIMARY KEY (ID))
+CREATE TABLE WAREHOUSE (ID INT NOT NULL, SUPPLIER_ID INT, CITY VARCHAR(20), PRIMARY KEY (ID), FOREIGN KEY (SUPPLIER_ID) REFERENCES SUPPLIER(ID))
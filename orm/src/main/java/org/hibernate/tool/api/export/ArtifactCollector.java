@@ -35,4 +35,52 @@ public interface ArtifactCollector {
 
 	void formatFiles();
 
+	/**
+	 * Called to inform that a file has been produced with the content it already had,
+	 * so it was not written again.
+	 */
+	default void addUnchangedFile(File file, String type) {
+		addFile(file, type);
+	}
+
+	/**
+	 * @return true if the file was reported as unchanged, false if it was written
+	 */
+	default boolean isUnchanged(File file) {
+		return false;
+	}
+
+	/**
+	 * Formats the content of a file of the given type the way {@link #formatFiles()}
+	 * will, so it can be compared with the file on disk before writing it.
+	 */
+	default String formatContent(String content, String type) {
+		return content;
+	}
+
+	/**
+	 * @return true if {@link #formatContent(String, String)} formats content of the given type,
+	 * so producers can format it in memory before writing it
+	 */
+	default boolean formatsContent(String type) {
+		return false;
+	}
+
+	/**
+	 * Called to inform that a file has been created with content that was already
+	 * passed through {@link #formatContent(String, String)}, so {@link #formatFiles()}
+	 * does not need to read it back.
+	 */
+	default void addFormattedFile(File file, String type) {
+		addFile(file, type);
+	}
+
+	/**
+	 * @return true if files can be added from several threads at the same time
+	 * without holding the lock of the collector
+	 */
+	default boolean isThreadSafe() {
+		return false;
+	}
+
 }
\ No newline at end of file
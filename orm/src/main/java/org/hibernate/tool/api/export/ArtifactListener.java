@@ -0,0 +1,35 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.api.export;
+
+import java.io.File;
+
+/**
+ * Notified by an {@link ObservableArtifactCollector} of each file as soon as it is complete,
+ * so it can be processed while the exporter is still producing other files.
+ */
+@FunctionalInterface
+public interface ArtifactListener {
+
+	/**
+	 * Called once the file is in place, possibly from several threads at the same time.
+	 * {@link ArtifactCollector#isUnchanged(File)} tells whether it was written.
+	 */
+	void fileAdded(File file, String type);
+
+}
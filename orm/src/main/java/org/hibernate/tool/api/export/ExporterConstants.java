@@ -30,11 +30,22 @@ public interface ExporterConstants {
 	public static final String FOR_EACH = "org.hibernate.tool.api.export.ExporterConstants.ForEach";
 	public static final String FORMAT = "org.hibernate.tool.api.export.ExporterConstants.Format";
 	public static final String HALT_ON_ERROR = "org.hibernate.tool.api.export.ExporterConstants.HaltOnError";
+	public static final String INCREMENTAL = "org.hibernate.tool.api.export.ExporterConstants.Incremental";
+	public static final String LINT_DETECTORS = "org.hibernate.tool.api.export.ExporterConstants.LintDetectors";
+	public static final String LINT_THREADS = "org.hibernate.tool.api.export.ExporterConstants.LintThreads";
 	public static final String METADATA_DESCRIPTOR = "org.hibernate.tool.api.export.ExporterConstants.MetadataDescriptor";
 	public static final String OUTPUT_FILE_NAME = "org.hibernate.tool.api.export.ExporterConstants.OutputFileName";
+	public static final String QUERY_CLEAR_INTERVAL = "org.hibernate.tool.api.export.ExporterConstants.QueryClearInterval";
+	public static final String QUERY_FETCH_SIZE = "org.hibernate.tool.api.export.ExporterConstants.QueryFetchSize";
+	public static final String QUERY_FORMAT = "org.hibernate.tool.api.export.ExporterConstants.QueryFormat";
 	public static final String QUERY_LIST = "org.hibernate.tool.api.export.ExporterConstants.QueryList";
+	public static final String QUERY_MAX_ROWS = "org.hibernate.tool.api.export.ExporterConstants.QueryMaxRows";
+	public static final String QUERY_SESSION_FACTORY = "org.hibernate.tool.api.export.ExporterConstants.QuerySessionFactory";
+	public static final String QUERY_THREADS = "org.hibernate.tool.api.export.ExporterConstants.QueryThreads";
 	public static final String SCHEMA_UPDATE = "org.hibernate.tool.api.export.ExporterConstants.SchemaUpdate";
 	public static final String TEMPLATE_NAME = "org.hibernate.tool.api.export.ExporterConstants.TemplateName";
 	public static final String TEMPLATE_PATH = "org.hibernate.tool.api.export.ExporterConstants.TemplatePath";
+	public static final String TEMPLATE_THREADS = "org.hibernate.tool.api.export.ExporterConstants.TemplateThreads";
+	public static final String WRITE_IF_CHANGED = "org.hibernate.tool.api.export.ExporterConstants.WriteIfChanged";
 
 }
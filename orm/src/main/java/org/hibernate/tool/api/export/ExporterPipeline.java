@@ -0,0 +1,128 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.api.export;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.tool.api.metadata.MetadataDescriptor;
+import org.hibernate.tool.internal.metadata.SharedMetadataDescriptor;
+import org.hibernate.tool.internal.util.ForkJoinUtil;
+
+/**
+ * Runs several exporters on one metadata. The metadata is built once from the
+ * descriptor, instead of once per exporter, and handed to all exporters of the
+ * pipeline.
+ * <p>
+ * The exporters run one after the other in the order they were added, or with
+ * more than one thread, at the same time. Exporters running at the same time must
+ * not write to the same files, and one failing does not stop the others.
+ */
+public class ExporterPipeline {
+	
+	private final SharedMetadataDescriptor metadataDescriptor;
+	private final List<Exporter> exporters = new ArrayList<>();
+	private int threads = 1;
+	
+	public ExporterPipeline(MetadataDescriptor metadataDescriptor) {
+		this.metadataDescriptor = new SharedMetadataDescriptor(metadataDescriptor);
+	}
+	
+	/**
+	 * Creates an exporter of the given type and adds it to the pipeline.
+	 * 
+	 * @return the exporter, to be configured by the caller
+	 */
+	public Exporter addExporter(ExporterType exporterType) {
+		return addExporter(ExporterFactory.createExporter(exporterType));
+	}
+	
+	/**
+	 * Adds the exporter to the pipeline, replacing its metadata descriptor by the shared one.
+	 * 
+	 * @return the exporter
+	 */
+	public Exporter addExporter(Exporter exporter) {
+		exporter.getProperties().put(ExporterConstants.METADATA_DESCRIPTOR, metadataDescriptor);
+		exporters.add(exporter);
+		return exporter;
+	}
+	
+	public List<Exporter> getExporters() {
+		return Collections.unmodifiableList(exporters);
+	}
+	
+	/**
+	 * @return the descriptor handing out the metadata shared by the exporters
+	 */
+	public MetadataDescriptor getMetadataDescriptor() {
+		return metadataDescriptor;
+	}
+	
+	public int getThreads() {
+		return threads;
+	}
+	
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+	
+	/**
+	 * Starts the exporters. One after the other, the first exporter builds the
+	 * metadata, at the same time it is built before any of them starts.
+	 */
+	public void start() {
+		if (threads <= 1 || exporters.size() <= 1) {
+			for (Exporter exporter : exporters) {
+				exporter.start();
+			}
+			return;
+		}
+		metadataDescriptor.createMetadata();
+		// the exporters load classes and templates through the context class loader of the caller
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		// the pool would rethrow a copy, the failure of the first exporter is thrown as it is
+		AtomicReference<RuntimeException> failure = new AtomicReference<>();
+		ForkJoinUtil.forEach(threads, exporters, exporter -> {
+			try {
+				start(exporter, classLoader);
+			}
+			catch (RuntimeException e) {
+				failure.compareAndSet(null, e);
+			}
+		}, "running the exporters");
+		if (failure.get() != null) {
+			throw failure.get();
+		}
+	}
+	
+	private static void start(Exporter exporter, ClassLoader classLoader) {
+		Thread thread = Thread.currentThread();
+		ClassLoader original = thread.getContextClassLoader();
+		thread.setContextClassLoader(classLoader);
+		try {
+			exporter.start();
+		}
+		finally {
+			thread.setContextClassLoader(original);
+		}
+	}
+
+}
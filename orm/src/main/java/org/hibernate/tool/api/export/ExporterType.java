@@ -27,6 +27,7 @@ public enum ExporterType {
 	HBM ("org.hibernate.tool.internal.export.hbm.HbmExporter"),
 	HBM_LINT ("org.hibernate.tool.internal.export.lint.HbmLintExporter"),
 	JAVA ("org.hibernate.tool.internal.export.java.JavaExporter"),
+	METADATA_SNAPSHOT ("org.hibernate.tool.internal.export.snapshot.MetaDataSnapshotExporter"),
 	QUERY ("org.hibernate.tool.internal.export.query.QueryExporter");
 	
 	private String className;
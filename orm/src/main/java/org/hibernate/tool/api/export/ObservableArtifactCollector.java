@@ -0,0 +1,37 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.api.export;
+
+/**
+ * An {@link ArtifactCollector} that notifies listeners of each file as it is added.
+ * Collectors that do not implement it simply have no listeners, so callers check
+ * for this interface before registering one.
+ */
+public interface ObservableArtifactCollector extends ArtifactCollector {
+
+	/**
+	 * Registers a listener notified of each file of the given type as it is added.
+	 */
+	void addListener(String type, ArtifactListener listener);
+
+	/**
+	 * Registers a listener notified of each file as it is added, whatever its type.
+	 */
+	void addListener(ArtifactListener listener);
+
+}
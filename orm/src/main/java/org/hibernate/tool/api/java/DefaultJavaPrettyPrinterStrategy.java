@@ -26,15 +26,29 @@ import com.google.googlejavaformat.java.FormatterException;
 
 public class DefaultJavaPrettyPrinterStrategy {
 
+    // the formatter is immutable, so all files and threads can share it
+    private static final Formatter FORMATTER = new Formatter();
+
     public boolean formatFile(File file) {
         try {
-            Formatter formatter = new Formatter();
             String toFormat = new String(Files.readAllBytes(file.toPath()));
-            String toWrite = formatter.formatSource(toFormat);
+            String toWrite = formatSource(toFormat);
             Files.write(file.toPath(), toWrite.getBytes());
             return true;
         }
-        catch (IOException | FormatterException e) {
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Formats Java source in memory, without reading or writing a file.
+     */
+    public String formatSource(String source) {
+        try {
+            return FORMATTER.formatSource(source);
+        }
+        catch (FormatterException e) {
             throw new RuntimeException(e);
         }
     }
@@ -21,4 +21,18 @@ public interface MetadataConstants {
 
 	public static final String PREFER_BASIC_COMPOSITE_IDS = "org.hibernate.tool.api.metadata.MetadataConstants.PreferBasicCompositeIds";
 
+	public static final String METADATA_READER_THREADS = "hibernatetool.metadata.threads";
+
+	public static final String METADATA_PREFETCH = "hibernatetool.metadata.prefetch";
+
+	public static final String METADATA_SNAPSHOT_DIR = "hibernatetool.metadata.snapshot.dir";
+
+	public static final String METADATA_SNAPSHOT_TTL = "hibernatetool.metadata.snapshot.ttl";
+
+	public static final String METADATA_SNAPSHOT_FILE = "hibernatetool.metadata.snapshot.file";
+
+	public static final String METADATA_LISTENERS = "hibernatetool.metadata.listeners";
+
+	public static final String METADATA_REPORT_FILE = "hibernatetool.metadata.report.file";
+
 }
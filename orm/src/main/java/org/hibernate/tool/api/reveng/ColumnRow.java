@@ -0,0 +1,68 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.api.reveng;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A column as returned by {@link RevengDialect#getColumnRows(String, String, String, String)}.
+ * The names of the map view are those of {@link java.sql.DatabaseMetaData#getColumns}.
+ */
+public record ColumnRow(
+		String tableCatalog,
+		String tableSchema,
+		String tableName,
+		String columnName,
+		int dataType,
+		String typeName,
+		int nullable,
+		int columnSize,
+		int decimalDigits,
+		String remarks) {
+
+	public static ColumnRow fromMap(Map<String, Object> row) {
+		return new ColumnRow(
+				(String) row.get("TABLE_CAT"),
+				(String) row.get("TABLE_SCHEM"),
+				(String) row.get("TABLE_NAME"),
+				(String) row.get("COLUMN_NAME"),
+				RowValues.toInt(row.get("DATA_TYPE")),
+				(String) row.get("TYPE_NAME"),
+				RowValues.toInt(row.get("NULLABLE")),
+				RowValues.toInt(row.get("COLUMN_SIZE")),
+				RowValues.toInt(row.get("DECIMAL_DIGITS")),
+				(String) row.get("REMARKS"));
+	}
+
+	public Map<String, Object> toMap() {
+		Map<String, Object> result = new HashMap<>();
+		result.put("TABLE_CAT", tableCatalog);
+		result.put("TABLE_SCHEM", tableSchema);
+		result.put("TABLE_NAME", tableName);
+		result.put("COLUMN_NAME", columnName);
+		result.put("DATA_TYPE", dataType);
+		result.put("TYPE_NAME", typeName);
+		result.put("NULLABLE", nullable);
+		result.put("COLUMN_SIZE", columnSize);
+		result.put("DECIMAL_DIGITS", decimalDigits);
+		result.put("REMARKS", remarks);
+		return result;
+	}
+
+}
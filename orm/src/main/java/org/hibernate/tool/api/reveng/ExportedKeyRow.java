@@ -0,0 +1,68 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.api.reveng;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A foreign key column as returned by {@link RevengDialect#getExportedKeyRows(String, String, String)}.
+ * The names of the map view are those of {@link java.sql.DatabaseMetaData#getExportedKeys}.
+ */
+public record ExportedKeyRow(
+		String pkTableCatalog,
+		String pkTableSchema,
+		String pkTableName,
+		String pkColumnName,
+		String fkTableCatalog,
+		String fkTableSchema,
+		String fkTableName,
+		String fkColumnName,
+		short keySeq,
+		String fkName) {
+
+	public static ExportedKeyRow fromMap(Map<String, Object> row) {
+		return new ExportedKeyRow(
+				(String) row.get("PKTABLE_CAT"),
+				(String) row.get("PKTABLE_SCHEM"),
+				(String) row.get("PKTABLE_NAME"),
+				(String) row.get("PKCOLUMN_NAME"),
+				(String) row.get("FKTABLE_CAT"),
+				(String) row.get("FKTABLE_SCHEM"),
+				(String) row.get("FKTABLE_NAME"),
+				(String) row.get("FKCOLUMN_NAME"),
+				RowValues.toShort(row.get("KEY_SEQ")),
+				(String) row.get("FK_NAME"));
+	}
+
+	public Map<String, Object> toMap() {
+		Map<String, Object> result = new HashMap<>();
+		result.put("PKTABLE_CAT", pkTableCatalog);
+		result.put("PKTABLE_SCHEM", pkTableSchema);
+		result.put("PKTABLE_NAME", pkTableName);
+		result.put("PKCOLUMN_NAME", pkColumnName);
+		result.put("FKTABLE_CAT", fkTableCatalog);
+		result.put("FKTABLE_SCHEM", fkTableSchema);
+		result.put("FKTABLE_NAME", fkTableName);
+		result.put("FKCOLUMN_NAME", fkColumnName);
+		result.put("KEY_SEQ", keySeq);
+		result.put("FK_NAME", fkName);
+		return result;
+	}
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.api.reveng;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An index column as returned by {@link RevengDialect#getIndexRows(String, String, String)}.
+ * The names of the map view are those of {@link java.sql.DatabaseMetaData#getIndexInfo}.
+ */
+public record IndexRow(
+		String tableCatalog,
+		String tableSchema,
+		String tableName,
+		String indexName,
+		String columnName,
+		boolean nonUnique,
+		short type) {
+
+	public static IndexRow fromMap(Map<String, Object> row) {
+		return new IndexRow(
+				(String) row.get("TABLE_CAT"),
+				(String) row.get("TABLE_SCHEM"),
+				(String) row.get("TABLE_NAME"),
+				(String) row.get("INDEX_NAME"),
+				(String) row.get("COLUMN_NAME"),
+				RowValues.toBoolean(row.get("NON_UNIQUE")),
+				RowValues.toShort(row.get("TYPE")));
+	}
+
+	public Map<String, Object> toMap() {
+		Map<String, Object> result = new HashMap<>();
+		result.put("TABLE_CAT", tableCatalog);
+		result.put("TABLE_SCHEM", tableSchema);
+		result.put("TABLE_NAME", tableName);
+		result.put("INDEX_NAME", indexName);
+		result.put("COLUMN_NAME", columnName);
+		result.put("NON_UNIQUE", nonUnique);
+		result.put("TYPE", type);
+		return result;
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.api.reveng;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A primary key column as returned by {@link RevengDialect#getPrimaryKeyRows(String, String, String)}.
+ * The names of the map view are those of {@link java.sql.DatabaseMetaData#getPrimaryKeys}.
+ */
+public record PrimaryKeyRow(
+		String tableCatalog,
+		String tableSchema,
+		String tableName,
+		String columnName,
+		short keySeq,
+		String pkName) {
+
+	public static PrimaryKeyRow fromMap(Map<String, Object> row) {
+		return new PrimaryKeyRow(
+				(String) row.get("TABLE_CAT"),
+				(String) row.get("TABLE_SCHEM"),
+				(String) row.get("TABLE_NAME"),
+				(String) row.get("COLUMN_NAME"),
+				RowValues.toShort(row.get("KEY_SEQ")),
+				(String) row.get("PK_NAME"));
+	}
+
+	public Map<String, Object> toMap() {
+		Map<String, Object> result = new HashMap<>();
+		result.put("TABLE_CAT", tableCatalog);
+		result.put("TABLE_SCHEM", tableSchema);
+		result.put("TABLE_NAME", tableName);
+		result.put("COLUMN_NAME", columnName);
+		result.put("KEY_SEQ", keySeq);
+		result.put("PK_NAME", pkName);
+		return result;
+	}
+
+}
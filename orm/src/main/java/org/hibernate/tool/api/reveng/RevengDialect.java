@@ -122,5 +122,61 @@ public interface RevengDialect {
 	 */
 	public Iterator<Map<String, Object>> getSuggestedPrimaryKeyStrategyName(String catalog, String schema, String table);
 
+	/**
+	 * Read the columns, primary keys, indexes and exported keys of all the tables
+	 * in the given catalog and schema in bulk, so that the per table methods can be
+	 * answered from memory afterwards. Dialects that cannot do this ignore the call.
+	 * 
+	 * @param catalog name, pattern or null
+	 * @param schema name, pattern or null
+	 */
+	default void prefetch(String catalog, String schema) {
+	}
+
+	/**
+	 * Cheap probe of the database structure, used to decide whether a stored
+	 * metadata snapshot is still valid. The value should change whenever tables,
+	 * columns or constraints are created, altered or dropped.
+	 * 
+	 * @return an opaque fingerprint, or null if the dialect cannot compute one
+	 */
+	default String getStructureFingerprint() {
+		return null;
+	}
+
+	/**
+	 * Typed variant of {@link #getColumns(String, String, String, String)}.
+	 * The default implementation adapts the map based rows; dialects reading
+	 * JDBC directly override it to avoid building a map per row.
+	 * The returned iterator must be closed by the caller.
+	 */
+	default RowIterator<ColumnRow> getColumnRows(String catalog, String schema, String table, String column) {
+		return RowIterator.adapt(this, getColumns(catalog, schema, table, column), ColumnRow::fromMap);
+	}
+
+	/**
+	 * Typed variant of {@link #getPrimaryKeys(String, String, String)}.
+	 * The returned iterator must be closed by the caller.
+	 */
+	default RowIterator<PrimaryKeyRow> getPrimaryKeyRows(String catalog, String schema, String table) {
+		return RowIterator.adapt(this, getPrimaryKeys(catalog, schema, table), PrimaryKeyRow::fromMap);
+	}
+
+	/**
+	 * Typed variant of {@link #getIndexInfo(String, String, String)}.
+	 * The returned iterator must be closed by the caller.
+	 */
+	default RowIterator<IndexRow> getIndexRows(String catalog, String schema, String table) {
+		return RowIterator.adapt(this, getIndexInfo(catalog, schema, table), IndexRow::fromMap);
+	}
+
+	/**
+	 * Typed variant of {@link #getExportedKeys(String, String, String)}.
+	 * The returned iterator must be closed by the caller.
+	 */
+	default RowIterator<ExportedKeyRow> getExportedKeyRows(String catalog, String schema, String table) {
+		return RowIterator.adapt(this, getExportedKeys(catalog, schema, table), ExportedKeyRow::fromMap);
+	}
+
 	
 }
@@ -33,12 +33,17 @@ import org.hibernate.tool.internal.reveng.dialect.JDBCMetaDataDialect;
 import org.hibernate.tool.internal.reveng.dialect.MySQLMetaDataDialect;
 import org.hibernate.tool.internal.reveng.dialect.OracleMetaDataDialect;
 import org.hibernate.tool.internal.reveng.dialect.SQLServerMetaDataDialect;
+import org.hibernate.tool.internal.reveng.dialect.SnapshotMetaDataDialect;
 
 public class RevengDialectFactory {
 
     private RevengDialectFactory() {}
 
     public static RevengDialect createMetaDataDialect(Dialect dialect, Properties cfg) {
+        RevengDialect snapshot = SnapshotMetaDataDialect.fromProperties(cfg);
+        if (snapshot != null) {
+            return snapshot;
+        }
         String property = cfg.getProperty( "hibernatetool.metadatadialect" );
         RevengDialect mdd = fromClassName(property);
         if(mdd==null) {
@@ -0,0 +1,78 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.api.reveng;
+
+/**
+ * Receives timings and counts while reverse engineering reads the database
+ * and binds the tables. Listeners are configured through
+ * {@link org.hibernate.tool.api.metadata.MetadataConstants#METADATA_LISTENERS}.
+ * 
+ * Methods may be called from several threads at once when reading or binding
+ * with more than one thread.
+ */
+public interface RevengListener {
+
+	/** The whole read of the database, from configuring the dialect to the foreign keys. */
+	public static final String READ_DATABASE_SCHEMA = "readDatabaseSchema";
+
+	/** Collecting the tables, columns, primary keys and indexes of one schema selection. */
+	public static final String PROCESS_TABLES = "processTables";
+
+	/** Reading the exported keys of one table. */
+	public static final String PROCESS_FOREIGN_KEYS = "processForeignKeys";
+
+	/** Binding the persistent class of one table. */
+	public static final String BIND = "bind";
+
+	/** The second passes run after all the tables are bound. */
+	public static final String PROCESS_SECOND_PASSES = "processSecondPasses";
+
+	/**
+	 * @param phase one of the phase constants of this interface
+	 * @param elapsedNanos wall time of the phase
+	 */
+	default void phaseFinished(String phase, long elapsedNanos) {
+	}
+
+	/**
+	 * Called once per call on the {@link RevengDialect} that reached the database,
+	 * when its rows are read or the iterator is closed.
+	 * 
+	 * @param method name of the dialect method
+	 * @param elapsedNanos time spent in the call and in reading its rows
+	 * @param rows number of rows read
+	 */
+	default void dialectCallFinished(String method, long elapsedNanos, long rows) {
+	}
+
+	/**
+	 * Called for every lookup in a caching dialect.
+	 * 
+	 * @param method name of the dialect method
+	 * @param hit true if the rows were answered from the cache
+	 */
+	default void cacheLookup(String method, boolean hit) {
+	}
+
+	/**
+	 * Called when the metadata is built, also when building failed.
+	 */
+	default void finished() {
+	}
+
+}
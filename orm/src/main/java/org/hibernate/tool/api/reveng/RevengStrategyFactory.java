@@ -99,9 +99,7 @@ public class RevengStrategyFactory {
         RevengStrategy result = null;
         if (revengFiles != null && revengFiles.length > 0) {
             OverrideRepository overrideRepository = new OverrideRepository();
-            for (File file : revengFiles) {
-                overrideRepository.addFile(file);
-            }
+            overrideRepository.addFiles(revengFiles);
             result = overrideRepository.getReverseEngineeringStrategy(createDefaultStrategyInstance());
         }
 
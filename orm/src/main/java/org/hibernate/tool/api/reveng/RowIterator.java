@@ -0,0 +1,84 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.api.reveng;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Iterator over typed metadata rows that releases the underlying resources
+ * when closed, so it can be used in a try-with-resources statement.
+ */
+public class RowIterator<T> implements Iterator<T>, AutoCloseable {
+
+	/**
+	 * Adapts an iterator returned by one of the map based methods of the dialect.
+	 * Closing the result closes the source iterator through the dialect.
+	 */
+	public static <T> RowIterator<T> adapt(
+			RevengDialect dialect,
+			Iterator<Map<String, Object>> source,
+			Function<Map<String, Object>, T> converter) {
+		return new RowIterator<>(source, converter, () -> dialect.close(source));
+	}
+
+	/**
+	 * Map view of a typed iterator, for the map based methods of a dialect.
+	 */
+	public static <T> Iterator<Map<String, Object>> toMaps(
+			RowIterator<T> source,
+			Function<T, Map<String, Object>> converter) {
+		return new RowIterator<>(source, converter, source::close);
+	}
+
+	private final Iterator<?> source;
+	private final Function<Object, T> converter;
+	private final Runnable onClose;
+	private boolean closed = false;
+
+	@SuppressWarnings("unchecked")
+	public <S> RowIterator(Iterator<S> source, Function<S, T> converter, Runnable onClose) {
+		this.source = source;
+		this.converter = (Function<Object, T>) converter;
+		this.onClose = onClose;
+	}
+
+	public boolean hasNext() {
+		return source.hasNext();
+	}
+
+	public T next() {
+		return converter.apply(source.next());
+	}
+
+	/**
+	 * The underlying iterator, as it has to be passed to {@link RevengDialect#close(Iterator)}.
+	 */
+	public Iterator<?> getSource() {
+		return source;
+	}
+
+	public void close() {
+		if (!closed) {
+			closed = true;
+			onClose.run();
+		}
+	}
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.api.reveng;
+
+/*
+ * Lenient conversions for the values of map based metadata rows, which
+ * depending on the dialect may hold any kind of Number, Boolean or String.
+ */
+final class RowValues {
+
+	private RowValues() {}
+
+	static int toInt(Object value) {
+		if (value instanceof Number number) {
+			return number.intValue();
+		}
+		return value == null ? 0 : Integer.parseInt(value.toString().trim());
+	}
+
+	static short toShort(Object value) {
+		if (value instanceof Number number) {
+			return number.shortValue();
+		}
+		return value == null ? 0 : Short.parseShort(value.toString().trim());
+	}
+
+	// a missing NON_UNIQUE is treated as not unique
+	static boolean toBoolean(Object value) {
+		if (value instanceof Boolean bool) {
+			return bool;
+		}
+		if (value instanceof Number number) {
+			return number.intValue() != 0;
+		}
+		return value == null || Boolean.parseBoolean(value.toString().trim());
+	}
+
+}
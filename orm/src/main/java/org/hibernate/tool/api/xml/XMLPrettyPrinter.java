@@ -45,6 +45,10 @@ public final class XMLPrettyPrinter {
         writer.close();
     }
 
+    public static String prettyPrint(String xml) {
+        return prettyFormat(xml, null);
+    }
+
     private static String readFile(String path, Charset encoding) throws IOException {
         byte[] encoded = Files.readAllBytes(Paths.get(path));
         return new String(encoded, encoding);
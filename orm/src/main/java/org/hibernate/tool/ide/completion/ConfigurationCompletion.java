@@ -30,7 +30,7 @@ import org.hibernate.mapping.Property;
 import org.hibernate.mapping.ToOne;
 import org.hibernate.mapping.Value;
 import org.hibernate.tool.internal.export.java.Cfg2JavaTool;
-import org.hibernate.tool.internal.export.java.EntityPOJOClass;
+import org.hibernate.tool.internal.export.java.POJOClass;
 
 /**
  * @author Max Rydahl Andersen
@@ -39,6 +39,7 @@ import org.hibernate.tool.internal.export.java.EntityPOJOClass;
 public class ConfigurationCompletion {
 
     private final Metadata metadata;
+    private final Cfg2JavaTool cfg2JavaTool = new Cfg2JavaTool();
 
     public ConfigurationCompletion(Metadata md) {
         this.metadata = md;
@@ -185,7 +186,7 @@ public class ConfigurationCompletion {
 
         // Add superclass's properties too
         while (cmd != null){
-            EntityPOJOClass pc = new EntityPOJOClass(cmd, new Cfg2JavaTool()); // TODO: we should extract the needed functionality from this hbm2java class.
+            POJOClass pc = cfg2JavaTool.getPOJOModel(cmd); // TODO: we should extract the needed functionality from this hbm2java class.
 
             Iterator<Property> allPropertiesIterator = pc.getAllPropertiesIterator();
             while ( allPropertiesIterator.hasNext() ) {
@@ -187,6 +187,8 @@ public abstract class AbstractExporter implements Exporter, ExporterConstants {
 			log.debug(getClass().getName() + " outputdir:" + getOutputDirectory() + " path: " + toString(templatePath) );
 		}
 		getTemplateHelper().init(getOutputDirectory(), templatePath);
+		Object writeIfChanged = getProperties().get(WRITE_IF_CHANGED);
+		getTemplateHelper().setWriteIfChanged(writeIfChanged != null && Boolean.parseBoolean(writeIfChanged.toString()));
 	}
 
 	protected void setTemplateHelper(TemplateHelper vh) {
@@ -207,6 +209,34 @@ public abstract class AbstractExporter implements Exporter, ExporterConstants {
 		return getMetadataDescriptor().createMetadata();
 	}
 
+	/**
+	 * @return the number of threads set with {@link ExporterConstants#TEMPLATE_THREADS}, 1 if not set
+	 */
+	protected int getTemplateThreads() {
+		return getThreads(TEMPLATE_THREADS);
+	}
+
+	/**
+	 * @return the number of threads set with the given property, 1 if not set
+	 */
+	protected int getThreads(String property) {
+		return getIntProperty(property, 1);
+	}
+
+	/**
+	 * @return the integer value of the given property, the default value if not set
+	 */
+	protected int getIntProperty(String property, int defaultValue) {
+		Object value = getProperties().get(property);
+		if (value instanceof Number number) {
+			return number.intValue();
+		}
+		if (value == null || value.toString().isBlank()) {
+			return defaultValue;
+		}
+		return Integer.parseInt(value.toString().trim());
+	}
+
 	private File getDirForPackage(File baseDir, String packageName) {
 		String p = packageName == null ? "" : packageName;
 		return new File( baseDir, p.replace('.', File.separatorChar) );
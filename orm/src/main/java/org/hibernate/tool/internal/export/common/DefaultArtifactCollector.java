@@ -19,33 +19,113 @@ package org.hibernate.tool.internal.export.common;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.UnaryOperator;
 
-import org.hibernate.tool.api.export.ArtifactCollector;
+import org.hibernate.tool.api.export.ArtifactListener;
+import org.hibernate.tool.api.export.ObservableArtifactCollector;
 import org.hibernate.tool.api.xml.XMLPrettyPrinter;
 
 /**
  * Callback class that all exporters are given to allow better feedback and
- * processing of the output afterwards.
+ * processing of the output afterwards. Files can be added from several threads
+ * at the same time, and listeners are notified of each of them as it is added.
  * 
  * @author Max Rydahl Andersen
  *
  */
-public class DefaultArtifactCollector implements ArtifactCollector {
+public class DefaultArtifactCollector implements ObservableArtifactCollector {
 
-    final protected Map<String, List<File>> files = new HashMap<>();
+    final protected Map<String, List<File>> files = new ConcurrentHashMap<>();
+
+    final protected Set<File> unchangedFiles = ConcurrentHashMap.newKeySet();
+
+    final protected Set<File> formattedFiles = ConcurrentHashMap.newKeySet();
+
+    final protected Map<String, List<ArtifactListener>> listeners = new ConcurrentHashMap<>();
+
+    final protected List<ArtifactListener> allTypesListeners = new CopyOnWriteArrayList<>();
+
+    final protected Map<String, UnaryOperator<String>> formatters = new LinkedHashMap<>();
+
+    public DefaultArtifactCollector() {
+        addFormatter("xml", XMLPrettyPrinter::prettyPrint);
+        addFormatter("hbm.xml", XMLPrettyPrinter::prettyPrint);
+        addFormatter("cfg.xml", XMLPrettyPrinter::prettyPrint);
+    }
+
+    /**
+     * Registers the formatter for files of the given type, replacing the one registered before.
+     * Formatters may be called from several threads at the same time.
+     */
+    public void addFormatter(String type, UnaryOperator<String> formatter) {
+        formatters.put(type, formatter);
+    }
 
     /* (non-Javadoc)
      * @see org.hibernate.tool.internal.export.ArtifactCollector#addFile(java.io.File, java.lang.String)
      */
     @Override
     public void addFile(File file, String type) {
-        List<File> existing = files.computeIfAbsent( type, k -> new ArrayList<>() );
+        List<File> existing = files.computeIfAbsent( type, k -> Collections.synchronizedList( new ArrayList<>() ) );
         existing.add(file);
+        fireFileAdded(file, type);
+    }
+
+    // the file is marked before it is added, so listeners see it as it is
+    @Override
+    public void addUnchangedFile(File file, String type) {
+        unchangedFiles.add(file);
+        formattedFiles.add(file);
+        addFile(file, type);
+    }
+
+    @Override
+    public void addFormattedFile(File file, String type) {
+        formattedFiles.add(file);
+        addFile(file, type);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public void addListener(String type, ArtifactListener listener) {
+        listeners.computeIfAbsent( type, k -> new CopyOnWriteArrayList<>() ).add( listener );
+    }
+
+    @Override
+    public void addListener(ArtifactListener listener) {
+        allTypesListeners.add( listener );
+    }
+
+    private void fireFileAdded(File file, String type) {
+        for ( ArtifactListener listener : allTypesListeners ) {
+            listener.fileAdded( file, type );
+        }
+        List<ArtifactListener> typeListeners = listeners.get( type );
+        if ( typeListeners != null ) {
+            for ( ArtifactListener listener : typeListeners ) {
+                listener.fileAdded( file, type );
+            }
+        }
+    }
+
+    @Override
+    public boolean isUnchanged(File file) {
+        return unchangedFiles.contains(file);
     }
 
     /* (non-Javadoc)
@@ -69,7 +149,9 @@ public class DefaultArtifactCollector implements ArtifactCollector {
             return new File[0];
         }
         else {
-            return existing.toArray( new File[0] );
+            synchronized (existing) {
+                return existing.toArray( new File[0] );
+            }
         }
     }
 
@@ -87,23 +169,40 @@ public class DefaultArtifactCollector implements ArtifactCollector {
     @Override
     public void formatFiles() {
 
-        formatXml("xml");
-        formatXml("hbm.xml");
-        formatXml("cfg.xml");
+        for ( Map.Entry<String, UnaryOperator<String>> formatter : formatters.entrySet() ) {
+            formatFiles( formatter.getKey(), formatter.getValue() );
+        }
 
     }
 
-    private void formatXml(String type) {
-        List<File> list = files.get(type);
-        if (list != null && !list.isEmpty()) {
-            for ( File xmlFile : list ) {
-                try {
-                    XMLPrettyPrinter.prettyPrintFile( xmlFile );
-                }
-                catch (IOException e) {
-                    throw new RuntimeException( "Could not format XML file: " + xmlFile, e );
-                }
-            }
+    @Override
+    public String formatContent(String content, String type) {
+        UnaryOperator<String> formatter = formatters.get(type);
+        return formatter == null ? content : formatter.apply(content);
+    }
+
+    @Override
+    public boolean formatsContent(String type) {
+        return formatters.containsKey(type);
+    }
+
+    private void formatFiles(String type, UnaryOperator<String> formatter) {
+        File[] list = getFiles(type);
+        if (list.length > 0) {
+            // the files are independent of each other, and so are the formatter calls
+            Arrays.stream(list).parallel()
+                    .filter( file -> !formattedFiles.contains( file ) )
+                    .forEach( file -> formatFile( file, formatter ) );
+        }
+    }
+
+    private static void formatFile(File file, UnaryOperator<String> formatter) {
+        try {
+            String content = Files.readString( file.toPath(), Charset.defaultCharset() );
+            Files.writeString( file.toPath(), formatter.apply( content ), Charset.defaultCharset() );
+        }
+        catch (IOException e) {
+            throw new RuntimeException( "Could not format file: " + file, e );
         }
     }
 
@@ -23,13 +23,17 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.function.BiConsumer;
 
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.mapping.Component;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Table;
 import org.hibernate.tool.api.export.ExporterConstants;
-import org.hibernate.tool.internal.export.java.ComponentPOJOClass;
 import org.hibernate.tool.internal.export.java.POJOClass;
+import org.hibernate.tool.internal.util.ForkJoinUtil;
 
 
 public class GenericExporter extends AbstractExporter {
@@ -59,11 +63,11 @@ public class GenericExporter extends AbstractExporter {
                 Iterator<?> iterator =
                         ge.getCfg2JavaTool().getPOJOIterator(
                                 ge.getMetadata().getEntityBindings().iterator());
-                Map<String, Object> additionalContext = new HashMap<>();
+                List<POJOClass> elements = new ArrayList<>();
                 while ( iterator.hasNext() ) {
-                    POJOClass element = (POJOClass) iterator.next();
-                    ge.exportPersistentClass( additionalContext, element );
+                    elements.add( (POJOClass) iterator.next() );
                 }
+                ge.exportAll( elements, ge::exportPersistentClass );
             }
         });
         modelIterators.put("component", new ModelIterator() {
@@ -71,25 +75,26 @@ public class GenericExporter extends AbstractExporter {
             void process(GenericExporter ge) {
                 Map<String, Component> components = new HashMap<>();
 
-                Iterator<?> iterator =
-                        ge.getCfg2JavaTool().getPOJOIterator(
-                                ge.getMetadata().getEntityBindings().iterator());
-                Map<String, Object> additionalContext = new HashMap<>();
-                while ( iterator.hasNext() ) {
-                    POJOClass element = (POJOClass) iterator.next();
-                    ConfigurationNavigator.collectComponents(components, element);
+                // the shared models are enough to find the components
+                for ( PersistentClass persistentClass : ge.getMetadata().getEntityBindings() ) {
+                    ConfigurationNavigator.collectComponents(components, ge.getCfg2JavaTool().getPOJOModel(persistentClass));
                 }
 
-                iterator = components.values().iterator();
-                while ( iterator.hasNext() ) {
-                    Component component = (Component) iterator.next();
-                    ComponentPOJOClass element = new ComponentPOJOClass(component,ge.getCfg2JavaTool());
-                    ge.exportComponent( additionalContext, element );
+                List<POJOClass> elements = new ArrayList<>();
+                for ( Component component : components.values() ) {
+                    elements.add( ge.getCfg2JavaTool().getPOJOClass(component) );
                 }
+                ge.exportAll( elements, ge::exportComponent );
             }
         });
     }
 
+    // tables whose artifacts must be regenerated in incremental mode, null for all
+    private Set<String> changedTables = null;
+
+    // true while several threads render through the shared template helper
+    private volatile boolean concurrent = false;
+
     protected String getTemplateName() {
         return (String)getProperties().get(ExporterConstants.TEMPLATE_NAME);
     }
@@ -127,8 +132,87 @@ public class GenericExporter extends AbstractExporter {
             }
         }
 
-        for ( ModelIterator mit : exporters ) {
-            mit.process( this );
+        if (!isIncremental()) {
+            for ( ModelIterator mit : exporters ) {
+                mit.process( this );
+            }
+            return;
+        }
+
+        File manifestFile = getManifestFile();
+        TableFingerprintManifest manifest = TableFingerprintManifest.create(getMetadata(), getProperties());
+        changedTables = manifest.getChangedTables(TableFingerprintManifest.load(manifestFile));
+        if (changedTables == null) {
+            log.info("No usable manifest in " + manifestFile + ", generating all artifacts");
+        }
+        else {
+            log.info("Regenerating artifacts for " + changedTables.size() + " changed or related table(s)");
+        }
+        try {
+            for ( ModelIterator mit : exporters ) {
+                mit.process( this );
+            }
+        }
+        finally {
+            changedTables = null;
+        }
+        manifest.store(manifestFile);
+    }
+
+    protected boolean isIncremental() {
+        Object incremental = getProperties().get(INCREMENTAL);
+        return incremental != null && Boolean.parseBoolean(incremental.toString());
+    }
+
+    /**
+     * The manifest is kept per exporter and template, so different exporters
+     * can share an output directory.
+     */
+    protected File getManifestFile() {
+        String name = getName() + "-" + getTemplateName();
+        return new File(getOutputDirectory(), ".hibernate-tools-" + name.replaceAll("[^A-Za-z0-9.]", "_") + ".manifest");
+    }
+
+    /**
+     * In incremental mode, an artifact is up to date when it exists and the
+     * table it was generated from did not change since the last run.
+     */
+    protected boolean isUpToDate(POJOClass element, File file) {
+        if (changedTables == null || !file.exists()) {
+            return false;
+        }
+        Table table = null;
+        Object decorated = element.getDecoratedObject();
+        if (decorated instanceof PersistentClass persistentClass) {
+            table = persistentClass.getTable();
+        }
+        else if (decorated instanceof Component component && component.getOwner() != null) {
+            table = component.getOwner().getTable();
+        }
+        return table != null && !changedTables.contains(TableFingerprintManifest.getName(table));
+    }
+
+    /**
+     * Exports the elements one after the other, or with
+     * {@link ExporterConstants#TEMPLATE_THREADS} set to more than one thread, on a
+     * fork join pool. Each element is rendered with its own context then, layered
+     * over the shared one, so the files are the same as in a serial run.
+     */
+    protected void exportAll(List<POJOClass> elements, BiConsumer<Map<String, Object>, POJOClass> export) {
+        int threads = getTemplateThreads();
+        if (threads <= 1 || elements.size() <= 1) {
+            Map<String, Object> additionalContext = new HashMap<>();
+            for (POJOClass element : elements) {
+                export.accept(additionalContext, element);
+            }
+            return;
+        }
+        concurrent = true;
+        try {
+            ForkJoinUtil.forEach(threads, elements, element -> export.accept(new HashMap<>(), element), "rendering " + getTemplateName());
+        }
+        finally {
+            concurrent = false;
         }
     }
 
@@ -141,17 +225,22 @@ public class GenericExporter extends AbstractExporter {
     }
 
     protected void exportPOJO(Map<String, Object> additionalContext, POJOClass element) {
-        TemplateProducer producer = new TemplateProducer(getTemplateHelper(),getArtifactCollector());
+        TemplateProducer producer = new TemplateProducer(getTemplateHelper(),getArtifactCollector(),concurrent);
         additionalContext.put("pojo", element);
         additionalContext.put("clazz", element.getDecoratedObject());
         String filename = resolveFilename( element );
         if(filename.endsWith(".java") && filename.indexOf('$')>=0) {
             log.warn("Filename for " + getClassNameForFile( element ) + " contains a $. Inner class generation is not supported.");
         }
+        File file = new File(getOutputDirectory(),filename);
+        if (isUpToDate(element, file)) {
+            log.debug("Skipping " + file + ", its table did not change");
+            return;
+        }
         producer.produce(
                 additionalContext,
                 getTemplateName(),
-                new File(getOutputDirectory(),filename),
+                file,
                 getTemplateName(),
                 element.toString());
     }
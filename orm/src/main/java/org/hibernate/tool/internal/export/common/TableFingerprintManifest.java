@@ -0,0 +1,361 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.export.common;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.mapping.Collection;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.Component;
+import org.hibernate.mapping.ForeignKey;
+import org.hibernate.mapping.Index;
+import org.hibernate.mapping.MetaAttribute;
+import org.hibernate.mapping.OneToMany;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.mapping.Selectable;
+import org.hibernate.mapping.SimpleValue;
+import org.hibernate.mapping.Table;
+import org.hibernate.mapping.ToOne;
+import org.hibernate.mapping.UniqueKey;
+import org.hibernate.mapping.Value;
+import org.hibernate.tool.internal.util.TableNameQualifier;
+import org.jboss.logging.Logger;
+
+/**
+ * Fingerprints of the tables an exporter generated its artifacts from, stored
+ * next to the output so the next run can tell which tables changed.
+ *
+ * A table fingerprint covers its columns and their types, the primary key,
+ * the foreign keys, the indexes and the unique keys, and the classes mapped to
+ * it: their names, properties, types and meta attributes, so changes made by the
+ * reverse engineering strategy or reveng.xml are detected too. The exporter
+ * settings are fingerprinted as well; when they change, every table counts as
+ * changed.
+ * Changes to the templates themselves are not detected.
+ */
+public class TableFingerprintManifest {
+
+	private static final Logger log = Logger.getLogger(TableFingerprintManifest.class);
+
+	private static final String CONFIGURATION_KEY = "#configuration";
+
+	/**
+	 * @return the fingerprints of all the tables in the metadata
+	 */
+	public static TableFingerprintManifest create(Metadata metadata, Map<Object, Object> settings) {
+		TableFingerprintManifest result = new TableFingerprintManifest(fingerprintSettings(settings));
+		Map<String, Set<String>> mappings = fingerprintMappings(metadata);
+		for (Table table : metadata.collectTableMappings()) {
+			String name = getName(table);
+			result.fingerprints.put(name, fingerprint(table, mappings.getOrDefault(name, Set.of())));
+			result.neighbours.computeIfAbsent(name, k -> new TreeSet<>());
+			for (ForeignKey foreignKey : table.getForeignKeyCollection()) {
+				if (foreignKey.getReferencedTable() != null) {
+					String referenced = getName(foreignKey.getReferencedTable());
+					result.neighbours.get(name).add(referenced);
+					result.neighbours.computeIfAbsent(referenced, k -> new TreeSet<>()).add(name);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the manifest stored in the file, or null if there is none or it cannot be read
+	 */
+	public static TableFingerprintManifest load(File file) {
+		if (!file.isFile()) {
+			return null;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+			TableFingerprintManifest result = null;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] parts = line.split("\t", -1);
+				if (parts.length < 2) {
+					continue;
+				}
+				if (CONFIGURATION_KEY.equals(parts[0])) {
+					result = new TableFingerprintManifest(parts[1]);
+				}
+				else if (result != null) {
+					result.fingerprints.put(parts[0], parts[1]);
+					Set<String> tableNeighbours = result.neighbours.computeIfAbsent(parts[0], k -> new TreeSet<>());
+					if (parts.length > 2 && !parts[2].isEmpty()) {
+						tableNeighbours.addAll(Set.of(parts[2].split(",")));
+					}
+				}
+			}
+			return result;
+		}
+		catch (IOException | RuntimeException e) {
+			log.warn("Could not read manifest " + file + ", regenerating everything", e);
+			return null;
+		}
+	}
+
+	private final String configuration;
+	private final Map<String, String> fingerprints = new TreeMap<>();
+	private final Map<String, Set<String>> neighbours = new TreeMap<>();
+
+	private TableFingerprintManifest(String configuration) {
+		this.configuration = configuration;
+	}
+
+	public void store(File file) {
+		try {
+			Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+			try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+				writer.write(CONFIGURATION_KEY + '\t' + configuration);
+				writer.newLine();
+				for (Entry<String, String> entry : fingerprints.entrySet()) {
+					writer.write(entry.getKey() + '\t' + entry.getValue() + '\t'
+							+ String.join(",", neighbours.getOrDefault(entry.getKey(), Set.of())));
+					writer.newLine();
+				}
+			}
+		}
+		catch (IOException e) {
+			log.warn("Could not write manifest " + file, e);
+		}
+	}
+
+	/**
+	 * @param previous the manifest of the last run, or null
+	 * @return the qualified names of the tables whose artifacts must be regenerated:
+	 * the new and changed tables plus the tables related to them or to dropped tables
+	 * through a foreign key. Null means everything must be regenerated.
+	 */
+	public Set<String> getChangedTables(TableFingerprintManifest previous) {
+		if (previous == null || !configuration.equals(previous.configuration)) {
+			return null;
+		}
+		Set<String> changed = new HashSet<>();
+		for (Entry<String, String> entry : fingerprints.entrySet()) {
+			if (!entry.getValue().equals(previous.fingerprints.get(entry.getKey()))) {
+				changed.add(entry.getKey());
+			}
+		}
+		Set<String> result = new HashSet<>(changed);
+		for (String table : changed) {
+			result.addAll(neighbours.getOrDefault(table, Set.of()));
+			result.addAll(previous.neighbours.getOrDefault(table, Set.of()));
+		}
+		for (String table : previous.fingerprints.keySet()) {
+			if (!fingerprints.containsKey(table)) {
+				result.addAll(previous.neighbours.getOrDefault(table, Set.of()));
+			}
+		}
+		return result;
+	}
+
+	public static String getName(Table table) {
+		return TableNameQualifier.qualify(table.getCatalog(), table.getSchema(), table.getName());
+	}
+
+	private static String fingerprint(Table table, Set<String> mappings) {
+		StringBuilder builder = new StringBuilder();
+		for (Column column : table.getColumns()) {
+			builder.append("column:").append(column.getName())
+					.append(':').append(column.getSqlTypeCode())
+					.append(':').append(column.getSqlType())
+					.append(':').append(column.getLength())
+					.append(':').append(column.getPrecision())
+					.append(':').append(column.getScale())
+					.append(':').append(column.isNullable())
+					.append(':').append(column.isUnique())
+					.append(':').append(column.getComment())
+					.append('\n');
+		}
+		if (table.getPrimaryKey() != null) {
+			builder.append("pk:").append(table.getPrimaryKey().getName());
+			for (Column column : table.getPrimaryKey().getColumns()) {
+				builder.append(':').append(column.getName());
+			}
+			builder.append('\n');
+		}
+		for (ForeignKey foreignKey : table.getForeignKeyCollection()) {
+			builder.append("fk:").append(foreignKey.getName())
+					.append(':').append(foreignKey.getReferencedTable() == null ? null : getName(foreignKey.getReferencedTable()));
+			for (Column column : foreignKey.getColumns()) {
+				builder.append(':').append(column.getName());
+			}
+			builder.append("->");
+			for (Column column : foreignKey.getReferencedColumns()) {
+				builder.append(':').append(column.getName());
+			}
+			builder.append('\n');
+		}
+		for (Index index : new TreeMap<>(table.getIndexes()).values()) {
+			builder.append("index:").append(index.getName());
+			for (Selectable selectable : index.getSelectables()) {
+				builder.append(':').append(selectable.getText());
+			}
+			builder.append('\n');
+		}
+		for (UniqueKey uniqueKey : new TreeMap<>(table.getUniqueKeys()).values()) {
+			builder.append("unique:").append(uniqueKey.getName());
+			for (Column column : uniqueKey.getColumns()) {
+				builder.append(':').append(column.getName());
+			}
+			builder.append('\n');
+		}
+		builder.append("comment:").append(table.getComment()).append('\n');
+		for (String mapping : mappings) {
+			builder.append(mapping);
+		}
+		return digest(builder.toString());
+	}
+
+	// the bound classes of each table, sorted for tables mapped by several classes
+	private static Map<String, Set<String>> fingerprintMappings(Metadata metadata) {
+		Map<String, Set<String>> result = new TreeMap<>();
+		for (PersistentClass persistentClass : metadata.getEntityBindings()) {
+			StringBuilder builder = new StringBuilder();
+			builder.append("entity:").append(persistentClass.getEntityName())
+					.append(':').append(persistentClass.getClassName())
+					.append(':').append(fingerprintMetaAttributes(persistentClass.getMetaAttributes()))
+					.append('\n');
+			if (persistentClass.getIdentifierProperty() != null) {
+				appendProperty(builder, "id", persistentClass.getIdentifierProperty());
+			}
+			else if (persistentClass.getIdentifier() != null) {
+				builder.append("id:");
+				appendValue(builder, persistentClass.getIdentifier());
+				builder.append('\n');
+			}
+			if (persistentClass.getVersion() != null) {
+				builder.append("version:").append(persistentClass.getVersion().getName()).append('\n');
+			}
+			for (Property property : persistentClass.getProperties()) {
+				appendProperty(builder, "property", property);
+			}
+			result.computeIfAbsent(getName(persistentClass.getTable()), k -> new TreeSet<>()).add(builder.toString());
+		}
+		return result;
+	}
+
+	private static void appendProperty(StringBuilder builder, String kind, Property property) {
+		builder.append(kind).append(':').append(property.getName())
+				.append(':').append(property.isInsertable())
+				.append(':').append(property.isUpdateable())
+				.append(':').append(fingerprintMetaAttributes(property.getMetaAttributes()))
+				.append(':');
+		appendValue(builder, property.getValue());
+		builder.append('\n');
+	}
+
+	private static void appendValue(StringBuilder builder, Value value) {
+		if (value instanceof Component component) {
+			builder.append("component(").append(component.getComponentClassName())
+					.append(':').append(fingerprintMetaAttributes(component.getMetaAttributes()));
+			for (Property property : component.getProperties()) {
+				builder.append(' ');
+				appendProperty(builder, "property", property);
+			}
+			builder.append(')');
+		}
+		else if (value instanceof ToOne toOne) {
+			builder.append(value.getClass().getSimpleName()).append('(').append(toOne.getReferencedEntityName());
+			appendSelectables(builder, value);
+			builder.append(')');
+		}
+		else if (value instanceof Collection collection) {
+			builder.append(value.getClass().getSimpleName()).append('(').append(collection.getRole()).append(':');
+			appendValue(builder, collection.getElement());
+			if (collection.getKey() != null) {
+				appendSelectables(builder, collection.getKey());
+			}
+			builder.append(')');
+		}
+		else if (value instanceof OneToMany oneToMany) {
+			builder.append("one-to-many(").append(oneToMany.getReferencedEntityName()).append(')');
+		}
+		else if (value instanceof SimpleValue simpleValue) {
+			builder.append("value(").append(simpleValue.getTypeName())
+					.append(':').append(simpleValue.getTypeParameters() == null ? null : new TreeMap<>(simpleValue.getTypeParameters()));
+			appendSelectables(builder, value);
+			builder.append(')');
+		}
+		else if (value != null) {
+			builder.append(value.getClass().getSimpleName());
+		}
+	}
+
+	private static void appendSelectables(StringBuilder builder, Value value) {
+		for (Selectable selectable : value.getSelectables()) {
+			builder.append(':').append(selectable.getText());
+		}
+	}
+
+	private static String fingerprintMetaAttributes(Map<String, MetaAttribute> metaAttributes) {
+		if (metaAttributes == null) {
+			return "{}";
+		}
+		Map<String, Object> sorted = new TreeMap<>();
+		for (Entry<String, MetaAttribute> entry : metaAttributes.entrySet()) {
+			sorted.put(entry.getKey(), entry.getValue() == null ? null : entry.getValue().getValues());
+		}
+		return sorted.toString();
+	}
+
+	private static String fingerprintSettings(Map<Object, Object> settings) {
+		StringBuilder builder = new StringBuilder();
+		Map<String, String> sorted = new TreeMap<>();
+		for (Entry<Object, Object> entry : settings.entrySet()) {
+			Object value = entry.getValue();
+			if (value instanceof String[] array) {
+				value = String.join(",", array);
+			}
+			if (value instanceof String || value instanceof Boolean || value instanceof Number || value instanceof File) {
+				sorted.put(entry.getKey().toString(), value.toString());
+			}
+		}
+		for (Entry<String, String> entry : sorted.entrySet()) {
+			builder.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+		}
+		return digest(builder.toString());
+	}
+
+	private static String digest(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException("SHA-256 not available", e);
+		}
+	}
+
+}
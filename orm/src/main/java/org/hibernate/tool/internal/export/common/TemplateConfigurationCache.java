@@ -0,0 +1,179 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.export.common;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+import freemarker.cache.ClassTemplateLoader;
+import freemarker.cache.FileTemplateLoader;
+import freemarker.cache.MultiTemplateLoader;
+import freemarker.cache.TemplateLoader;
+import freemarker.template.Configuration;
+
+/**
+ * Keeps a FreeMarker {@link Configuration} per template path for the whole JVM,
+ * so all exporters of a build, and the builds running in the same JVM, share
+ * the parsed templates.
+ *
+ * A configuration is never changed once it is created and is safe to use from several
+ * threads. Its templates are checked for changes on every lookup, which costs a file
+ * time stamp check, so edited templates are picked up by the next exporter. A template
+ * archive is read through a class loader that does not see such changes, so a changed
+ * archive gets a new configuration.
+ *
+ * At most {@link #MAX_CONFIGURATIONS} configurations are kept; the least recently used
+ * one is dropped when another one is needed. A dropped configuration may still be in
+ * use by a running exporter, so the class loaders of its archives are not closed but
+ * left to the garbage collector along with the configuration.
+ */
+public final class TemplateConfigurationCache {
+
+    private static final Logger log = Logger.getLogger(TemplateConfigurationCache.class);
+
+    static final int MAX_CONFIGURATIONS = 32;
+
+    private static final Map<List<String>, CachedConfiguration> CONFIGURATIONS =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<List<String>, CachedConfiguration> eldest) {
+                    return size() > MAX_CONFIGURATIONS;
+                }
+            };
+
+    private TemplateConfigurationCache() {
+    }
+
+    /**
+     * @return the configuration loading templates from the given paths first and
+     * from the classpath last
+     */
+    public static Configuration get(String[] templatePaths) {
+        List<String> key = createKey(templatePaths);
+        List<String> version = createVersion(key);
+        synchronized (CONFIGURATIONS) {
+            CachedConfiguration cached = CONFIGURATIONS.get(key);
+            if ( cached != null && cached.version.equals(version) ) {
+                return cached.configuration;
+            }
+            CachedConfiguration created = create(key, version);
+            CONFIGURATIONS.put(key, created);
+            return created.configuration;
+        }
+    }
+
+    /**
+     * Drops all the configurations and their parsed templates.
+     */
+    public static void clear() {
+        synchronized (CONFIGURATIONS) {
+            CONFIGURATIONS.clear();
+        }
+    }
+
+    // a path that is created or replaced by an archive later on needs another configuration
+    private static List<String> createKey(String[] templatePaths) {
+        List<String> result = new ArrayList<>();
+        for ( String templatePath : templatePaths ) {
+            File file = new File( templatePath ).getAbsoluteFile();
+            String kind = file.isDirectory() ? "dir" : file.exists() ? "file" : "missing";
+            result.add( kind + ':' + file.getPath() );
+        }
+        return result;
+    }
+
+    // the class loader of an archive caches its entries, so a rewritten archive needs another configuration
+    private static List<String> createVersion(List<String> key) {
+        List<String> result = new ArrayList<>();
+        for ( String entry : key ) {
+            File file = toFile( entry );
+            result.add( isArchive( file ) ? file.lastModified() + ":" + file.length() : "" );
+        }
+        return result;
+    }
+
+    private static File toFile(String entry) {
+        return new File( entry.substring( entry.indexOf( ':' ) + 1 ) );
+    }
+
+    private static boolean isArchive(File file) {
+        return file.isFile() && ( file.getName().endsWith( ".zip" ) || file.getName().endsWith( ".jar" ) );
+    }
+
+    private static CachedConfiguration create(List<String> key, List<String> version) {
+        Configuration result = new Configuration(Configuration.VERSION_2_3_0);
+        result.setTemplateUpdateDelayMilliseconds(0);
+        List<TemplateLoader> loaders = new ArrayList<>();
+        for ( String entry : key ) {
+            File file = toFile( entry );
+            if ( file.exists() ) {
+                if ( file.isDirectory() ) {
+                    try {
+                        loaders.add( new FileTemplateLoader( file ) );
+                    }
+                    catch (IOException e) {
+                        throw new RuntimeException( "Problems with templatepath " + file, e );
+                    }
+                }
+                else if ( isArchive( file ) ) {
+                    final URLClassLoader classLoaderForZip;
+                    try {
+                        classLoaderForZip = new URLClassLoader( new URL[] {file.toURI().toURL()}, null );
+                    }
+                    catch (MalformedURLException e) {
+                        throw new RuntimeException( "template path " + file + " is not a valid zip file", e );
+                    }
+                    loaders.add( new ClassTemplateLoader( classLoaderForZip, "/" ) );
+                }
+                else {
+                    log.warn( "template path " + file + " is not a directory" );
+                }
+            }
+            else {
+                log.warn( "template path " + file + " does not exist" );
+            }
+        }
+        loaders.add(new ClassTemplateLoader(TemplateHelper.class,"/")); // the template names are like pojo/Somewhere so have to be a rooted classpathloader
+
+        result.setTemplateLoader(new MultiTemplateLoader( loaders.toArray( new TemplateLoader[0] ) ));
+        return new CachedConfiguration( version, result );
+    }
+
+    private static final class CachedConfiguration {
+
+        private final List<String> version;
+        private final Configuration configuration;
+
+        private CachedConfiguration(List<String> version, Configuration configuration) {
+            this.version = version;
+            this.configuration = configuration;
+        }
+
+    }
+
+}
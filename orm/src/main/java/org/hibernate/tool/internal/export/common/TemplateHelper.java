@@ -24,19 +24,12 @@ import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.Writer;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLClassLoader;
-import java.util.ArrayList;
 import java.util.Date;
-import java.util.List;
+import java.util.Map;
 
 import org.hibernate.tool.api.version.Version;
 import org.jboss.logging.Logger;
 
-import freemarker.cache.ClassTemplateLoader;
-import freemarker.cache.FileTemplateLoader;
-import freemarker.cache.MultiTemplateLoader;
 import freemarker.cache.TemplateLoader;
 import freemarker.ext.beans.BeansWrapperBuilder;
 import freemarker.template.Configuration;
@@ -44,6 +37,7 @@ import freemarker.template.SimpleDate;
 import freemarker.template.SimpleHash;
 import freemarker.template.Template;
 import freemarker.template.TemplateDateModel;
+import freemarker.template.TemplateHashModel;
 import freemarker.template.TemplateModel;
 import freemarker.template.TemplateModelException;
 
@@ -66,6 +60,8 @@ public class TemplateHelper {
 
     protected SimpleHash context;
 
+    private boolean writeIfChanged = false;
+
     public TemplateHelper() {
 
     }
@@ -74,43 +70,8 @@ public class TemplateHelper {
         this.outputDirectory = outputDirectory;
 
         context = new SimpleHash(new BeansWrapperBuilder(Configuration.VERSION_2_3_0).build());
-        freeMarkerEngine = new Configuration(Configuration.VERSION_2_3_0);
-
-        List<TemplateLoader> loaders = new ArrayList<>();
-
-        for ( String templatePath : templatePaths ) {
-            File file = new File( templatePath );
-            if ( file.exists() ) {
-                if ( file.isDirectory() ) {
-                    try {
-                        loaders.add( new FileTemplateLoader( file ) );
-                    }
-                    catch (IOException e) {
-                        throw new RuntimeException( "Problems with templatepath " + file, e );
-                    }
-                }
-                else if ( file.getName().endsWith( ".zip" ) || file.getName().endsWith( ".jar" ) ) {
-                    final URLClassLoader classLoaderForZip;
-                    try {
-                        classLoaderForZip = new URLClassLoader( new URL[] {file.toURI().toURL()}, null );
-                    }
-                    catch (MalformedURLException e) {
-                        throw new RuntimeException( "template path " + file + " is not a valid zip file", e );
-                    }
-
-                    loaders.add( new ClassTemplateLoader( classLoaderForZip, "/" ) );
-                }
-                else {
-                    log.warn( "template path " + file + " is not a directory" );
-                }
-            }
-            else {
-                log.warn( "template path " + file + " does not exist" );
-            }
-        }
-        loaders.add(new ClassTemplateLoader(this.getClass(),"/")); // the template names are like pojo/Somewhere so have to be a rooted classpathloader
-
-        freeMarkerEngine.setTemplateLoader(new MultiTemplateLoader( loaders.toArray( new TemplateLoader[0] ) ));
+        // shared with the other exporters, must not be modified
+        freeMarkerEngine = TemplateConfigurationCache.get(templatePaths);
 
     }
 
@@ -144,6 +105,18 @@ public class TemplateHelper {
         return outputDirectory;
     }
 
+    /**
+     * @param writeIfChanged true to leave files alone whose content would not change,
+     * so their time stamps do not trigger rebuilds
+     */
+    public void setWriteIfChanged(boolean writeIfChanged) {
+        this.writeIfChanged = writeIfChanged;
+    }
+
+    public boolean isWriteIfChanged() {
+        return writeIfChanged;
+    }
+
 
 
     public void putInContext(String key, Object value) {
@@ -172,6 +145,9 @@ public class TemplateHelper {
                         return;
                     }
                 }
+                if ( dir.isDirectory() ) { // created by another thread in the meantime
+                    return;
+                }
                 throw new RuntimeException( "unable to create directory: " + dir.getAbsolutePath() );
             }
         }
@@ -242,6 +218,24 @@ public class TemplateHelper {
         }
     }
 
+    /**
+     * Like {@link #processTemplate(String, Writer, String)}, but the additional context
+     * is layered over the shared context instead of being put in it. The shared context
+     * is left untouched, so several templates can be processed at the same time.
+     */
+    public void processTemplate(String templateName, Writer output, String rootContext, Map<String, Object> additionalContext) {
+        if(rootContext == null) {
+            rootContext = "Unknown context";
+        }
+
+        try {
+            Template template = freeMarkerEngine.getTemplate(templateName);
+            template.process(new LayeredContext(additionalContext), output);
+        }
+        catch (Exception e) {
+            throw new RuntimeException("Error while processing " + rootContext + " with template " + templateName, e);
+        }
+    }
 
     public boolean templateExists(String templateName) {
         TemplateLoader templateLoader = freeMarkerEngine.getTemplateLoader();
@@ -254,4 +248,36 @@ public class TemplateHelper {
         }
     }
 
+    private class LayeredContext implements TemplateHashModel {
+
+        private final SimpleHash local;
+
+        LayeredContext(Map<String, Object> additionalContext) {
+            local = new SimpleHash(getContext().getObjectWrapper());
+            for ( Map.Entry<String, Object> element : additionalContext.entrySet() ) {
+                if(element.getValue() == null) throw new IllegalStateException("value must not be null for " + element.getKey());
+                local.put(element.getKey(), element.getValue());
+            }
+            local.put("ctx", this);
+        }
+
+        @Override
+        public TemplateModel get(String key) throws TemplateModelException {
+            TemplateModel result = local.get(key);
+            if (result == null) {
+                // SimpleHash caches the wrapped value on lookup, so reads change the shared context
+                synchronized (getContext()) {
+                    result = getContext().get(key);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+    }
+
 }
@@ -17,13 +17,21 @@
  */
 package org.hibernate.tool.internal.export.common;
 
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FilterWriter;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.hibernate.tool.api.export.ArtifactCollector;
 import org.jboss.logging.Logger;
@@ -32,66 +40,151 @@ import org.jboss.logging.Logger;
 public class TemplateProducer {
 
     private static final Logger log = Logger.getLogger(TemplateProducer.class);
+    // temporary file names must not clash between threads and processes writing to the same folder
+    private static final String TEMP_FILE_PREFIX = ProcessHandle.current().pid() + "-";
+    private static final AtomicLong TEMP_FILE_COUNTER = new AtomicLong();
     private final TemplateHelper th;
     private final ArtifactCollector ac;
+    private final boolean concurrent;
 
     public TemplateProducer(TemplateHelper th, ArtifactCollector ac) {
+        this(th, ac, false);
+    }
+
+    /**
+     * @param concurrent true if other producers render with the same template helper
+     * at the same time; the additional context is then layered over the shared context
+     * instead of being put in it, and an artifact collector that is not thread safe
+     * is only used while holding its lock
+     */
+    public TemplateProducer(TemplateHelper th, ArtifactCollector ac, boolean concurrent) {
         this.th = th;
         this.ac = ac;
+        this.concurrent = concurrent;
     }
 
     public void produce(Map<String,Object> additionalContext, String templateName, File destination, String identifier, String fileType, String rootContext) {
 
+        boolean format = ac.formatsContent( fileType );
+        if( !format && !th.isWriteIfChanged() ) {
+            // render straight into the file, nothing to format or compare with
+            write( destination, fileType, identifier, writer -> render( additionalContext, templateName, rootContext, writer ), false );
+            return;
+        }
+
         String tempResult = produceToString( additionalContext, templateName, rootContext );
 
         if( tempResult.trim().isEmpty() ) {
             log.warn("Generated output is empty. Skipped creation for file " + destination);
             return;
         }
-        FileWriter fileWriter = null;
-        try {
-
-            th.ensureExistence( destination );
+        // format before writing, so the collector does not have to read the file back
+        String content = format ? ac.formatContent( tempResult, fileType ) : tempResult;
+        if( th.isWriteIfChanged() && hasContent( destination, content ) ) {
+            synchronizedAdd( () -> ac.addUnchangedFile( destination, fileType ) );
+            log.debug("Not writing " + identifier + ", " + destination.getAbsolutePath() + " is unchanged" );
+            return;
+        }
+        write( destination, fileType, identifier, writer -> writer.write( content ), format );
+    }
 
-            ac.addFile(destination, fileType);
+    /**
+     * Writes the output to a temporary file next to the destination, which replaces
+     * the destination once it is complete. Nothing is written if the output is blank.
+     */
+    private void write(File destination, String fileType, String identifier, Renderer renderer, boolean formatted) {
+        th.ensureExistence( destination );
+        Path target = destination.toPath().toAbsolutePath();
+        Path temp = target.resolveSibling( "." + destination.getName() + "." + TEMP_FILE_PREFIX + TEMP_FILE_COUNTER.incrementAndGet() + ".tmp" );
+        try {
+            boolean blank;
+            try (BlankTrackingWriter writer = new BlankTrackingWriter(
+                    Files.newBufferedWriter( temp, Charset.defaultCharset(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE ) )) {
+                renderer.render( writer );
+                blank = writer.isBlank();
+            }
+            if( blank ) {
+                log.warn("Generated output is empty. Skipped creation for file " + destination);
+                return;
+            }
             log.debug("Writing " + identifier + " to " + destination.getAbsolutePath() );
-            fileWriter = new FileWriter(destination);
-            fileWriter.write(tempResult);
+            move( temp, target );
+            // added once it is in place, so listeners of the collector can use it right away
+            if( formatted ) {
+                synchronizedAdd( () -> ac.addFormattedFile( destination, fileType ) );
+            }
+            else {
+                synchronizedAdd( () -> ac.addFile( destination, fileType ) );
+            }
         }
-        catch (Exception e) {
+        catch (IOException e) {
             throw new RuntimeException("Error while writing result to file", e);
         }
         finally {
-            if(fileWriter!=null) {
-                try {
-                    fileWriter.flush();
-                    fileWriter.close();
-                }
-                catch (IOException e) {
-                    log.warn("Exception while flushing/closing " + destination,e);
-                }
+            try {
+                Files.deleteIfExists( temp );
+            }
+            catch (IOException e) {
+                log.warn("Exception while deleting " + temp, e);
             }
         }
+    }
 
+    private static void move(Path temp, Path target) throws IOException {
+        try {
+            Files.move( temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING );
+        }
+        catch (AtomicMoveNotSupportedException e) {
+            Files.move( temp, target, StandardCopyOption.REPLACE_EXISTING );
+        }
     }
 
+    private void synchronizedAdd(Runnable add) {
+        if (concurrent && !ac.isThreadSafe()) {
+            synchronized (ac) {
+                add.run();
+            }
+        }
+        else {
+            add.run();
+        }
+    }
 
-    private String produceToString(Map<String,Object> additionalContext, String templateName, String rootContext) {
-        putInContext( th, additionalContext );
-        StringWriter tempWriter = new StringWriter();
-        BufferedWriter bw = new BufferedWriter(tempWriter);
-        // First run - writes to in-memory string
-        th.processTemplate(templateName, bw, rootContext);
-        removeFromContext( th, additionalContext );
+    // the length is compared first, so most changed files are not read
+    private static boolean hasContent(File destination, String content) {
+        if (!destination.isFile()) {
+            return false;
+        }
+        // FileWriter writes in the default charset
+        byte[] bytes = content.getBytes(Charset.defaultCharset());
+        if (destination.length() != bytes.length) {
+            return false;
+        }
         try {
-            bw.flush();
+            return Arrays.equals(bytes, Files.readAllBytes(destination.toPath()));
         }
         catch (IOException e) {
-            throw new RuntimeException("Error while flushing to string",e);
+            return false;
         }
+    }
+
+    private String produceToString(Map<String,Object> additionalContext, String templateName, String rootContext) {
+        StringWriter tempWriter = new StringWriter();
+        render( additionalContext, templateName, rootContext, tempWriter );
         return tempWriter.toString();
     }
 
+    private void render(Map<String,Object> additionalContext, String templateName, String rootContext, Writer writer) {
+        if (concurrent) {
+            th.processTemplate(templateName, writer, rootContext, additionalContext);
+        }
+        else {
+            putInContext( th, additionalContext );
+            th.processTemplate(templateName, writer, rootContext);
+            removeFromContext( th, additionalContext );
+        }
+    }
+
     private void removeFromContext(TemplateHelper templateHelper, Map<String,Object> context) {
         for ( Entry<String, Object> element : context.entrySet() ) {
             templateHelper.removeFromContext( element.getKey() );
@@ -115,4 +208,54 @@ public class TemplateProducer {
         fileType = fileType.substring(fileType.indexOf('.')+1);
         produce(additionalContext, templateName, outputFile, identifier, fileType, rootContext);
     }
+
+    private interface Renderer {
+        void render(Writer writer) throws IOException;
+    }
+
+    /**
+     * Remembers whether anything but whitespace went through, so blank output
+     * can be detected without holding on to it.
+     */
+    private static final class BlankTrackingWriter extends FilterWriter {
+
+        private boolean blank = true;
+
+        BlankTrackingWriter(Writer out) {
+            super(out);
+        }
+
+        boolean isBlank() {
+            return blank;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            track((char) c);
+            out.write(c);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            for (int i = off; blank && i < off + len; i++) {
+                track(cbuf[i]);
+            }
+            out.write(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            for (int i = off; blank && i < off + len; i++) {
+                track(str.charAt(i));
+            }
+            out.write(str, off, len);
+        }
+
+        // the same characters String.trim() removes
+        private void track(char c) {
+            if (c > ' ') {
+                blank = false;
+            }
+        }
+    }
 }
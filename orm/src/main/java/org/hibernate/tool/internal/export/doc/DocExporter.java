@@ -22,9 +22,13 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.hibernate.HibernateException;
 import org.hibernate.boot.Metadata;
@@ -36,10 +40,12 @@ import org.hibernate.tool.api.export.ExporterType;
 import org.hibernate.tool.internal.export.common.AbstractExporter;
 import org.hibernate.tool.internal.export.common.TemplateProducer;
 import org.hibernate.tool.internal.export.java.POJOClass;
+import org.hibernate.tool.internal.util.ForkJoinUtil;
 
 /**
  * Exporter implementation that creates Hibernate Documentation.
- * Creates Tables and Classes Details
+ * Creates Tables and Classes Details. With {@link #TEMPLATE_THREADS} set to
+ * more than one thread, the pages are rendered at the same time.
  * 
  * @author Ricardo C. Moral
  * @author <a href="mailto:abhayani@jboss.org">Amit Bhayani</a>
@@ -147,30 +153,48 @@ public class DocExporter extends AbstractExporter {
      */
     private DocFileManager docFileManager;
 
+    /**
+     * Pages collected to be rendered together, null while pages are rendered right away.
+     */
+    private List<Page> pages;
+
     public void doStart() {
         generateCommmonAndAssets();
 
-        boolean graphsGenerated = generateDot();
-        generateTablesIndex();
-        generateTablesSummary(graphsGenerated);
-        generateTablesDetails();
-        generateTablesAllSchemasList();
-        generateTablesAllTablesList();
-        generateTablesSchemaTableList();
-        generateTablesSchemaDetailedInfo();
-
-        generateEntitiesIndex();
-        generatePackageSummary(graphsGenerated);
-        generateEntitiesDetails();
-        generateEntitiesAllPackagesList();
-        generateEntitiesAllEntitiesList();
-        generateEntitiesPackageEntityList();
-        generateEntitiesPackageDetailedInfo();
+        // dot converts the graphs while the pages that do not show them are rendered
+        CompletableFuture<Boolean> graphs = generateDot();
 
+        List<Page> collected = new ArrayList<>();
+        pages = collected;
+        try {
+            generateTablesIndex();
+            generateTablesDetails();
+            generateTablesAllSchemasList();
+            generateTablesAllTablesList();
+            generateTablesSchemaTableList();
+            generateTablesSchemaDetailedInfo();
+
+            generateEntitiesIndex();
+            generateEntitiesDetails();
+            generateEntitiesAllPackagesList();
+            generateEntitiesAllEntitiesList();
+            generateEntitiesPackageEntityList();
+            generateEntitiesPackageDetailedInfo();
+        }
+        finally {
+            pages = null;
+        }
+        renderPages(collected);
 
+        boolean graphsGenerated = graphs.join();
+        generateTablesSummary(graphsGenerated);
+        generatePackageSummary(graphsGenerated);
     }
 
-    private boolean generateDot() {
+    /**
+     * @return completes once the graphs are converted, with true if they were
+     */
+    private CompletableFuture<Boolean> generateDot() {
         String cmd = getProperties().getProperty( "dot.executable" );
         boolean ignoreError = Boolean.parseBoolean(getProperties().getProperty("dot.ignoreerror", "false"));
 
@@ -195,23 +219,25 @@ public class DocExporter extends AbstractExporter {
                 exporter.start();
 
 
+                // the conversions are independent processes, they all run at the same time
+                List<CompletableFuture<Void>> conversions = new ArrayList<>();
                 File entityGraphDot = new File(getOutputDirectory(), "entities/entitygraph.dot");
-                dotToFile( cmd, entityGraphDot.toString(), new File(getOutputDirectory(), "entities/entitygraph.png").toString());
-                dotToFile( cmd, entityGraphDot.toString(), new File(getOutputDirectory(), "entities/entitygraph.svg").toString());
-                dotToFile( cmd, entityGraphDot.toString(), new File(getOutputDirectory(), "entities/entitygraph.cmapx").toString());
+                conversions.add( dotToFile( cmd, entityGraphDot.toString(), new File(getOutputDirectory(), "entities/entitygraph.png").toString()) );
+                conversions.add( dotToFile( cmd, entityGraphDot.toString(), new File(getOutputDirectory(), "entities/entitygraph.svg").toString()) );
+                conversions.add( dotToFile( cmd, entityGraphDot.toString(), new File(getOutputDirectory(), "entities/entitygraph.cmapx").toString()) );
 
                 File tableGraphDot = new File(getOutputDirectory(), "tables/tablegraph.dot");
-                dotToFile( cmd, tableGraphDot.toString(), new File(getOutputDirectory(), "tables/tablegraph.png").toString());
-                dotToFile( cmd, tableGraphDot.toString(), new File(getOutputDirectory(), "tables/tablegraph.svg").toString());
-                dotToFile( cmd, tableGraphDot.toString(), new File(getOutputDirectory(), "tables/tablegraph.cmapx").toString());
+                conversions.add( dotToFile( cmd, tableGraphDot.toString(), new File(getOutputDirectory(), "tables/tablegraph.png").toString()) );
+                conversions.add( dotToFile( cmd, tableGraphDot.toString(), new File(getOutputDirectory(), "tables/tablegraph.svg").toString()) );
+                conversions.add( dotToFile( cmd, tableGraphDot.toString(), new File(getOutputDirectory(), "tables/tablegraph.cmapx").toString()) );
 
-                return true;
+                return CompletableFuture.allOf( conversions.toArray( new CompletableFuture<?>[0] ) ).thenApply( done -> true );
 
             }
             catch (IOException e) {
                 if(ignoreError) {
                     log.warn( "Skipping entitygraph creation since dot.executable was not found and dot.ignoreerror=false." );
-                    return false;
+                    return CompletableFuture.completedFuture( false );
                 }
                 else {
                     throw new HibernateException("Problem while generating DOT graph for Configuration (set dot.ignoreerror=false to ignore)", e);
@@ -220,7 +246,7 @@ public class DocExporter extends AbstractExporter {
         }
         else {
             log.info( "Skipping entitygraph creation since dot.executable is empty or not-specified." );
-            return false;
+            return CompletableFuture.completedFuture( false );
         }
     }
 
@@ -241,7 +267,12 @@ public class DocExporter extends AbstractExporter {
 
     }
 
-    private void dotToFile(String dotExeFileName, String dotFileName, String outFileName) throws IOException {
+    /**
+     * Starts dot for one conversion.
+     *
+     * @return completes once dot has exited and its error output is logged
+     */
+    private CompletableFuture<Void> dotToFile(String dotExeFileName, String dotFileName, String outFileName) throws IOException {
 
         //
         // dot.exe works by taking *.dot file and piping
@@ -266,27 +297,40 @@ public class DocExporter extends AbstractExporter {
 
         final String cmdAsString = sb.toString();
 
-        Process p = Runtime.getRuntime().exec(cmdAsArray);
-        //p.getErrorStream().
-        try {
-            log.debug( "Executing: " + cmdAsString );
-//			 Get the input stream and read from it
-            InputStream in = p.getErrorStream();
-            int c;
-            sb = new StringBuilder();
-            while ((c = in.read()) != -1) {
-                sb.append( (char)c );
+        log.debug( "Executing: " + cmdAsString );
+        Process p = new ProcessBuilder( cmdAsArray ).redirectOutput( ProcessBuilder.Redirect.DISCARD ).start();
+        // the error output is drained on its own thread, so dot never waits for a full pipe
+        CompletableFuture<String> errors = CompletableFuture.supplyAsync( () -> readErrors( p ), DRAIN_EXECUTOR );
+        return p.onExit().thenCombine( errors, (process, errorOutput) -> {
+            if ( !errorOutput.isBlank() ) {
+                log.error( errorOutput );
             }
-            log.error( sb.toString() );
-            in.close();
-            int i = p.waitFor( );
+            int i = process.exitValue();
             if(i!=0) {
-                //TODO: dump system.err
                 log.error("Error " + i + " while executing: " + cmdAsString);
             }
+            return (Void) null;
+        } ).exceptionally( e -> {
+            log.error( "Error while executing: " + cmdAsString, e );
+            return null;
+        } );
+    }
+
+    /**
+     * Runs each task on a daemon thread of its own, as reading a process output blocks.
+     */
+    private static final Executor DRAIN_EXECUTOR = task -> {
+        Thread thread = new Thread( task, "dot-output" );
+        thread.setDaemon( true );
+        thread.start();
+    };
+
+    private static String readErrors(Process p) {
+        try (InputStream in = p.getErrorStream()) {
+            return new String( in.readAllBytes(), Charset.defaultCharset() );
         }
-        catch(Exception ie){
-            log.error( "Error while executing: " + cmdAsString, ie );
+        catch (IOException e) {
+            throw new RuntimeException( "Error while reading the output of dot", e );
         }
     }
 
@@ -630,8 +674,57 @@ public class DocExporter extends AbstractExporter {
     protected void processTemplate(Map<String, Object> parameters, String templateName,
                                    File outputFile) {
 
-        TemplateProducer producer = new TemplateProducer(getTemplateHelper(), getArtifactCollector() );
-        producer.produce(parameters, templateName, outputFile, templateName);
+        if (pages != null) {
+            pages.add( new Page( parameters, templateName, outputFile ) );
+            return;
+        }
+        produce( new Page( parameters, templateName, outputFile ), false );
+    }
+
+    private void produce(Page page, boolean concurrent) {
+        TemplateProducer producer = new TemplateProducer(getTemplateHelper(), getArtifactCollector(), concurrent );
+        producer.produce(page.parameters(), page.templateName(), page.outputFile(), page.templateName());
+    }
+
+    /**
+     * Renders the pages in order, or with {@link #TEMPLATE_THREADS} set to more than
+     * one thread, on a fork join pool. The pages of a component and of the entities
+     * it identifies all import types through the component, so they are still
+     * rendered one after the other in their usual order, which keeps the pages the
+     * same as in a serial run.
+     */
+    private void renderPages(List<Page> pages) {
+        int threads = getTemplateThreads();
+        if (threads <= 1 || pages.size() <= 1) {
+            for (Page page : pages) {
+                produce( page, false );
+            }
+            return;
+        }
+        List<Page> ordered = new ArrayList<>();
+        List<Runnable> tasks = new ArrayList<>();
+        for (Page page : pages) {
+            if (usesComponentImports( page )) {
+                ordered.add( page );
+            }
+            else {
+                tasks.add( () -> produce( page, true ) );
+            }
+        }
+        tasks.add( () -> ordered.forEach( page -> produce( page, true ) ) );
+        ForkJoinUtil.forEach(threads, tasks, Runnable::run, "rendering the documentation");
+    }
+
+    private boolean usesComponentImports(Page page) {
+        if (page.parameters().get( "class" ) instanceof POJOClass pojoClass) {
+            return pojoClass.isComponent()
+                    || pojoClass.hasIdentifierProperty()
+                    && docHelper.getComponentPOJO( pojoClass.getIdentifierProperty() ) != null;
+        }
+        return false;
+    }
+
+    private record Page(Map<String, Object> parameters, String templateName, File outputFile) {
     }
 
     public String getName() {
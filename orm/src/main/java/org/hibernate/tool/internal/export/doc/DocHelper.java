@@ -38,14 +38,14 @@ import org.hibernate.mapping.Table;
 import org.hibernate.mapping.Value;
 import org.hibernate.tool.internal.export.common.ConfigurationNavigator;
 import org.hibernate.tool.internal.export.java.Cfg2JavaTool;
-import org.hibernate.tool.internal.export.java.ComponentPOJOClass;
 import org.hibernate.tool.internal.export.java.POJOClass;
 import org.hibernate.tool.internal.reveng.binder.TypeUtils;
 import org.hibernate.type.Type;
 
 /**
  * This helper class is used expose hibernate mapping information to the
- * templates.
+ * templates. Its indexes are built once and not changed afterwards, so it
+ * can be used by several threads at the same time.
  * 
  * @author Ricardo C. Moral
  * @author <a href="mailto:abhayani@jboss.org">Amit Bhayani</a>
@@ -74,48 +74,55 @@ public final class DocHelper {
      * Map with Tables keyed by Schema FQN. The keys are Strings and the values
      * are Lists of Tables
      */
-    private final Map<String, List<Table>> tablesBySchema =
-            new HashMap<>();
+    private final Map<String, List<Table>> tablesBySchema;
 
     /**
      * Map with classes keyed by package name. PackageName is String key and
-     * values are List of POJOClass
+     * values are List of POJOClass, sorted by declaration name
      */
-    private final Map<String, List<POJOClass>> classesByPackage =
-            new HashMap<>();
+    private final Map<String, List<POJOClass>> classesByPackage;
 
     /**
-     * Lits of all POJOClass
+     * Lits of all POJOClass, sorted by declaration name
      */
-    private final List<POJOClass> classes =
-            new ArrayList<>();
+    private final List<POJOClass> classes;
+
+    /**
+     * Sorted schema names.
+     */
+    private final List<String> schemas;
+
+    /**
+     * Sorted package names.
+     */
+    private final List<String> packages;
 
     /**
      * Map where the keys are column names (tableFQN.column) and the values are
      * lists with the Value instances where those columns referenced.
      */
-    private final Map<String, List<Value>> valuesByColumn =
-            new HashMap<>();
+    private final Map<String, List<Value>> valuesByColumn;
 
     /**
      * Holds intances of Property keyed by Value objects.
      */
-    private final Map<Value, List<Property>> propsByValue =
-            new HashMap<>();
+    private final Map<Value, List<Property>> propsByValue;
 
     /**
      * List with all the tables.
      */
-    private final List<Table> tables = new ArrayList<>();
+    private final List<Table> tables;
 
     /**
      * Map that holds the Schema FQN for each Table. The keys are Table
      * instances and the values are Strings with the Schema FQN for that table.
      */
-    private final Map<Table, String> tableSchemaNames = new HashMap<>();
+    private final Map<Table, String> tableSchemaNames;
 
     private final Metadata metadata;
 
+    private final Cfg2JavaTool cfg2JavaTool;
+
     public DocHelper(Metadata metadata, Properties properties, Cfg2JavaTool cfg2JavaTool) {
 
         super();
@@ -125,6 +132,7 @@ public final class DocHelper {
         }
 
         this.metadata = metadata;
+        this.cfg2JavaTool = cfg2JavaTool;
 
         StandardServiceRegistryBuilder builder = new StandardServiceRegistryBuilder();
         builder.applySettings(properties);
@@ -134,6 +142,13 @@ public final class DocHelper {
             defaultSchema = DEFAULT_NO_SCHEMA_NAME;
         }
 
+        Map<String, List<Table>> tablesBySchema = new HashMap<>();
+        Map<String, List<Value>> valuesByColumn = new HashMap<>();
+        Map<Value, List<Property>> propsByValue = new HashMap<>();
+        List<Table> tables = new ArrayList<>();
+        Map<Table, String> tableSchemaNames = new HashMap<>();
+        List<POJOClass> classes = new ArrayList<>();
+
         for (Table table : metadata.collectTableMappings()) {
             if (!table.isPhysicalTable()) {
                 continue;
@@ -165,7 +180,7 @@ public final class DocHelper {
             tableList.add(table);
 
             for (Column column : table.getColumns()) {
-                String columnFQN = getQualifiedColumnName(table, column);
+                String columnFQN = qualSchemaName + '.' + table.getName() + '.' + column.getName();
                 List<Value> values = valuesByColumn.computeIfAbsent(columnFQN, k -> new ArrayList<>());
                 values.add(column.getValue());
             }
@@ -174,10 +189,10 @@ public final class DocHelper {
         Map<String, Component> components = new HashMap<>();
 
         for (PersistentClass clazz : metadata.getEntityBindings()) {
-            POJOClass pojoClazz = cfg2JavaTool.getPOJOClass(clazz);
+            POJOClass pojoClazz = cfg2JavaTool.getPOJOModel(clazz);
             ConfigurationNavigator.collectComponents(components, pojoClazz);
 
-            this.processClass(pojoClazz);
+            classes.add(pojoClazz);
 
             for (Property property : clazz.getProperties()) {
                 Value value = property.getValue();
@@ -187,26 +202,39 @@ public final class DocHelper {
         }
 
         for (Component component : components.values()) {
-            ComponentPOJOClass element =
-                    new ComponentPOJOClass(component, cfg2JavaTool);
-            this.processClass(element);
+            POJOClass element = cfg2JavaTool.getPOJOModel(component);
+            classes.add(element);
         }
-    }
 
-    /**
-     * Populate classes List and classesByPackage Map
-     */
-    private void processClass(POJOClass pojoClazz) {
+        // the sort is stable, so classes with the same name keep the order they were added in
+        classes.sort(POJOCLASS_COMPARATOR);
+        Map<String, List<POJOClass>> classesByPackage = new HashMap<>();
+        for (POJOClass pojoClazz : classes) {
+            classesByPackage.computeIfAbsent(getPackageName(pojoClazz), k -> new ArrayList<>()).add(pojoClazz);
+        }
 
-        classes.add(pojoClazz);
-        String packageName = pojoClazz.getPackageName();
+        this.tablesBySchema = unmodifiable(tablesBySchema);
+        this.classesByPackage = unmodifiable(classesByPackage);
+        this.classes = Collections.unmodifiableList(classes);
+        this.schemas = tablesBySchema.keySet().stream().sorted().toList();
+        this.packages = classesByPackage.keySet().stream().sorted().toList();
+        this.valuesByColumn = unmodifiable(valuesByColumn);
+        this.propsByValue = unmodifiable(propsByValue);
+        this.tables = Collections.unmodifiableList(tables);
+        this.tableSchemaNames = Collections.unmodifiableMap(tableSchemaNames);
+    }
 
+    private static String getPackageName(POJOClass pojoClazz) {
+        String packageName = pojoClazz.getPackageName();
         if (packageName == null || packageName.isEmpty()) {
-            packageName = DEFAULT_NO_PACKAGE;
+            return DEFAULT_NO_PACKAGE;
         }
+        return packageName;
+    }
 
-        List<POJOClass> classList = classesByPackage.computeIfAbsent(packageName, k -> new ArrayList<>());
-        classList.add(pojoClazz);
+    private static <K, V> Map<K, List<V>> unmodifiable(Map<K, List<V>> map) {
+        map.replaceAll((key, list) -> Collections.unmodifiableList(list));
+        return Collections.unmodifiableMap(map);
     }
 
     /**
@@ -233,18 +261,14 @@ public final class DocHelper {
      * @return a list with all the schemas.
      */
     public List<String> getSchemas() {
-        List<String> schemas = new ArrayList<>( tablesBySchema.keySet() );
-        Collections.sort(schemas);
-        return schemas;
+        return new ArrayList<>( schemas );
     }
 
     /**
      * Return a sorted List of packages
      */
     public List<String> getPackages() {
-        List<String> packages = new ArrayList<>( classesByPackage.keySet() );
-        Collections.sort(packages);
-        return packages;
+        return new ArrayList<>( packages );
     }
 
     /**
@@ -267,10 +291,7 @@ public final class DocHelper {
      * @return a sorted List of POJOClass
      */
     public List<POJOClass> getClasses(String packageName) {
-        List<POJOClass> clazzes = classesByPackage.get(packageName);
-        List<POJOClass> orderedClasses = new ArrayList<>( clazzes );
-        orderedClasses.sort(POJOCLASS_COMPARATOR);
-        return orderedClasses;
+        return new ArrayList<>( classesByPackage.get(packageName) );
     }
 
     /**
@@ -286,9 +307,7 @@ public final class DocHelper {
      * Return a sorted List of all POJOClass
      */
     public List<POJOClass> getClasses() {
-        List<POJOClass> orderedClasses = new ArrayList<>( classes );
-        orderedClasses.sort(POJOCLASS_COMPARATOR);
-        return orderedClasses;
+        return new ArrayList<>( classes );
     }
 
     /**
@@ -413,7 +432,7 @@ public final class DocHelper {
             return values;
         }
         else {
-            return new ArrayList<>();
+            return Collections.emptyList();
         }
     }
 
@@ -450,7 +469,7 @@ public final class DocHelper {
     // TODO We haven't taken into account Array?
     public POJOClass getComponentPOJO(Property property) {
         if (property.getValue() instanceof Component comp) {
-            return new ComponentPOJOClass(comp, new Cfg2JavaTool());
+            return cfg2JavaTool.getPOJOModel(comp);
         }
         else {
             return null;
@@ -24,6 +24,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.hibernate.boot.query.NamedHqlQueryDefinition;
 import org.hibernate.boot.query.internal.NamedHqlSelectionDefinitionImpl;
@@ -57,18 +59,69 @@ public class Cfg2JavaTool {
 
     private static final Logger log = Logger.getLogger( Cfg2JavaTool.class );
 
+    // the mapping classes do not override equals, so the maps are keyed by identity
+    private final Map<Object, POJOClass> pojoModels = new ConcurrentHashMap<>();
+    private final Map<DerivedPropertiesKey, List<Property>> derivedProperties = new ConcurrentHashMap<>();
+
     public Cfg2JavaTool() {
 
     }
 
+    /**
+     * @return a new POJO class for the component, which collects the imports of the file it is rendered into
+     */
     public POJOClass getPOJOClass(Component comp) {
         return new ComponentPOJOClass(comp, this);
     }
 
+    /**
+     * @return a new POJO class for the entity, which collects the imports of the file it is rendered into
+     */
     public POJOClass getPOJOClass(PersistentClass comp) {
         return new EntityPOJOClass(comp, this);
     }
 
+    /**
+     * Returns the POJO class of the component that is shared by all callers of this tool.
+     * Use it to inspect the model; the imports it collects are shared as well, so it is not
+     * meant to be rendered.
+     */
+    public POJOClass getPOJOModel(Component comp) {
+        return pojoModels.computeIfAbsent( comp, key -> getPOJOClass( comp ) );
+    }
+
+    /**
+     * Returns the POJO class of the entity that is shared by all callers of this tool.
+     * Use it to inspect the model; the imports it collects are shared as well, so it is not
+     * meant to be rendered.
+     */
+    public POJOClass getPOJOModel(PersistentClass clazz) {
+        return pojoModels.computeIfAbsent( clazz, key -> getPOJOClass( clazz ) );
+    }
+
+    /**
+     * Returns the property list of the given kind for a mapping object, computing it on the first call.
+     * The lists only depend on the mapping, so the POJO classes of all exporters using this tool share them.
+     *
+     * @return an unmodifiable list
+     */
+    List<Property> getDerivedProperties(Object owner, String kind, Supplier<List<Property>> supplier) {
+        DerivedPropertiesKey key = new DerivedPropertiesKey( owner, kind );
+        List<Property> result = derivedProperties.get( key );
+        if ( result == null ) {
+            // not computed inside the map, the list of a subclass is made of the ones of its superclass
+            result = List.copyOf( supplier.get() );
+            List<Property> existing = derivedProperties.putIfAbsent( key, result );
+            if ( existing != null ) {
+                result = existing;
+            }
+        }
+        return result;
+    }
+
+    private record DerivedPropertiesKey(Object owner, String kind) {
+    }
+
     public String unqualify(String name) {
         return StringHelper.unqualify( name );
     }
@@ -368,8 +421,7 @@ public class Cfg2JavaTool {
         return ( value instanceof Component );
     }
 
-    // TODO: should consult exporter/cfg2java tool for cached POJOEntities....or maybe not since they
-    // have their own state...
+    // the POJO classes have their own import state, see getPOJOModel for the cached ones
     public Iterator<POJOClass> getPOJOIterator(
             final Iterator<PersistentClass> persistentClasses) {
         return new Iterator<>() {
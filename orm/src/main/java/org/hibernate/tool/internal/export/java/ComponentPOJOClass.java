@@ -142,6 +142,10 @@ public class ComponentPOJOClass extends BasicPOJOClass {
 	}
 	
 	public List<Property> getPropertiesForMinimalConstructor() {
+		return new ArrayList<Property>(c2j.getDerivedProperties(clazz, "minimalConstructor", this::collectPropertiesForMinimalConstructor));
+	}
+
+	private List<Property> collectPropertiesForMinimalConstructor() {
 		List<Property> res = new ArrayList<Property>();
 		Iterator<Property> iter = getAllPropertiesIterator();
 		while(iter.hasNext()) {
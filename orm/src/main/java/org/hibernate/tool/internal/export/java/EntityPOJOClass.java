@@ -93,7 +93,7 @@ public class EntityPOJOClass extends BasicPOJOClass {
             }
         }
         else if ( clazz.getSuperclass() != null ) {
-            if (!( c2j.getPOJOClass(clazz.getSuperclass()).isInterface() )) {
+            if (!( c2j.getPOJOModel(clazz.getSuperclass()).isInterface() )) {
                 extendz = clazz.getSuperclass().getClassName();
             }
         }
@@ -114,7 +114,7 @@ public class EntityPOJOClass extends BasicPOJOClass {
         }
 
         if ( !isInterface() ) {
-            if ( clazz.getSuperclass() != null && c2j.getPOJOClass(clazz.getSuperclass()).isInterface() ) {
+            if ( clazz.getSuperclass() != null && c2j.getPOJOModel(clazz.getSuperclass()).isInterface() ) {
                 interfaces.add( clazz.getSuperclass().getClassName() );
             }
             if ( clazz.getMetaAttribute( IMPLEMENTS ) != null ) {
@@ -143,6 +143,10 @@ public class EntityPOJOClass extends BasicPOJOClass {
 
 
     public Iterator<Property> getAllPropertiesIterator(PersistentClass pc) {
+        return c2j.getDerivedProperties( pc, "all", () -> collectAllProperties( pc ) ).iterator();
+    }
+
+    private List<Property> collectAllProperties(PersistentClass pc) {
         List<Property> properties = new ArrayList<>();
         List<List<Property>> lists = new ArrayList<>();
         if ( pc.getSuperclass() == null ) {
@@ -177,7 +181,9 @@ public class EntityPOJOClass extends BasicPOJOClass {
 
         lists.add(properties);
 
-        return new SkipBackRefPropertyIterator( new JoinedList<>( lists ).iterator() );
+        List<Property> result = new ArrayList<>();
+        new SkipBackRefPropertyIterator( new JoinedList<>( lists ).iterator() ).forEachRemaining( result::add );
+        return result;
     }
 
     public boolean isComponent() {
@@ -773,6 +779,10 @@ public class EntityPOJOClass extends BasicPOJOClass {
     }
 
     protected List<Property> getPropertiesForFullConstructor(PersistentClass pc) {
+        return new ArrayList<>( c2j.getDerivedProperties( pc, "fullConstructor", () -> collectPropertiesForFullConstructor( pc ) ) );
+    }
+
+    private List<Property> collectPropertiesForFullConstructor(PersistentClass pc) {
         List<Property> result = new ArrayList<>();
 
         for ( Iterator<Property> myFields = getAllPropertiesIterator(pc); myFields.hasNext() ; ) {
@@ -854,6 +864,10 @@ public class EntityPOJOClass extends BasicPOJOClass {
     }
 
     protected List<Property> getPropertiesForMinimalConstructor(PersistentClass pc) {
+        return new ArrayList<>( c2j.getDerivedProperties( pc, "minimalConstructor", () -> collectPropertiesForMinimalConstructor( pc ) ) );
+    }
+
+    private List<Property> collectPropertiesForMinimalConstructor(PersistentClass pc) {
         List<Property> result = new ArrayList<>();
 
         for ( Iterator<Property> myFields = getAllPropertiesIterator(pc); myFields.hasNext() ; ) {
@@ -32,6 +32,13 @@ public abstract class Detector {
 	}
 
 	abstract public void visit(IssueCollector collector);
+
+	/**
+	 * Called once the whole model has been visited, for checks that are not
+	 * about a single entity or table.
+	 */
+	public void endVisit(IssueCollector collector) {
+	}
 	
 	abstract public String getName();
 }
@@ -26,6 +26,7 @@ public abstract class EntityModelDetector extends Detector {
         for (PersistentClass clazz : getMetadata().getEntityBindings()) {
             this.visit(clazz, collector);
         }
+		endVisit(collector);
 	}
 	
 	protected void visit(PersistentClass clazz, IssueCollector collector) {
@@ -18,27 +18,124 @@
 package org.hibernate.tool.internal.export.lint;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.hibernate.boot.Metadata;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Table;
+import org.hibernate.tool.internal.util.ForkJoinUtil;
 
+/**
+ * Runs the detectors over the model. The entities and tables are traversed once,
+ * each of them is passed on to every {@link EntityModelDetector} or
+ * {@link RelationalModelDetector}, which are told with {@link Detector#endVisit(IssueCollector)}
+ * when the traversal is done. Other detectors, and those overriding
+ * {@link Detector#visit(IssueCollector)}, visit the model on their own.
+ * <p>
+ * With more than one thread, the entities, tables and other detectors are visited
+ * at the same time, so detectors must then be thread safe. The issues are still
+ * reported in the same order as in a serial run: all issues of the first detector,
+ * in the order of the model, then those of the next one.
+ */
 public class HbmLint implements IssueCollector {
 
 	
 	final Detector[] detectors;
+
+	private int threads = 1;
 	
 	public HbmLint(Detector[] detectors) {
 		this.detectors = detectors;
 	}
+
+	public HbmLint(List<Detector> detectors) {
+		this(detectors.toArray(new Detector[0]));
+	}
 	
 	List<Issue> results = new ArrayList<Issue>();
 	
 	public void analyze(Metadata metadata) {
 		for (int i = 0; i < detectors.length; i++) {
 			detectors[i].initialize(metadata);
-			detectors[i].visit(this);
 		}
-					
+		List<PersistentClass> entities = new ArrayList<>(metadata.getEntityBindings());
+		List<Table> tables = new ArrayList<>(metadata.collectTableMappings());
+
+		// each list is only filled by the one task visiting its node for its detector
+		Issues[][] nodeIssues = new Issues[detectors.length][];
+		Issues[] endIssues = new Issues[detectors.length];
+		boolean[] traversed = new boolean[detectors.length];
+		List<Runnable> tasks = new ArrayList<>();
+		List<Runnable> endTasks = new ArrayList<>();
+		for (int i = 0; i < detectors.length; i++) {
+			Detector detector = detectors[i];
+			Issues end = endIssues[i] = new Issues();
+			traversed[i] = traversesModel(detector);
+			if (!traversed[i]) {
+				nodeIssues[i] = new Issues[0];
+				tasks.add(() -> detector.visit(end));
+			}
+			else if (detector instanceof EntityModelDetector) {
+				nodeIssues[i] = Issues.create(entities.size());
+				endTasks.add(() -> detector.endVisit(end));
+			}
+			else {
+				nodeIssues[i] = Issues.create(tables.size());
+				endTasks.add(() -> detector.endVisit(end));
+			}
+		}
+		for (int n = 0; n < entities.size(); n++) {
+			int node = n;
+			tasks.add(() -> {
+				for (int i = 0; i < detectors.length; i++) {
+					if (traversed[i] && detectors[i] instanceof EntityModelDetector detector) {
+						detector.visit(entities.get(node), nodeIssues[i][node]);
+					}
+				}
+			});
+		}
+		for (int n = 0; n < tables.size(); n++) {
+			int node = n;
+			tasks.add(() -> {
+				for (int i = 0; i < detectors.length; i++) {
+					if (traversed[i] && detectors[i] instanceof RelationalModelDetector detector) {
+						detector.visit(tables.get(node), nodeIssues[i][node]);
+					}
+				}
+			});
+		}
+		run(tasks);
+		run(endTasks);
+
+		for (int i = 0; i < detectors.length; i++) {
+			for (Issues issues : nodeIssues[i]) {
+				results.addAll(issues);
+			}
+			results.addAll(endIssues[i]);
+		}
+	}
+
+	// a detector that overrides visit(IssueCollector) is left to traverse the model itself
+	private static boolean traversesModel(Detector detector) {
+		if (!(detector instanceof EntityModelDetector) && !(detector instanceof RelationalModelDetector)) {
+			return false;
+		}
+		try {
+			Class<?> declaringClass = detector.getClass().getMethod("visit", IssueCollector.class).getDeclaringClass();
+			return declaringClass == EntityModelDetector.class || declaringClass == RelationalModelDetector.class;
+		}
+		catch (NoSuchMethodException e) {
+			throw new IllegalStateException("Detector " + detector.getName() + " has no visit method", e);
+		}
+	}
+
+	private void run(List<Runnable> tasks) {
+		if (threads <= 1 || tasks.size() <= 1) {
+			tasks.forEach(Runnable::run);
+			return;
+		}
+		ForkJoinUtil.forEach(threads, tasks, Runnable::run, "analyzing the model");
 	}
 	
 	/* (non-Javadoc)
@@ -52,15 +149,44 @@ public class HbmLint implements IssueCollector {
 		return results;	
 	}
 
+	public int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * Sets the number of threads visiting the model, one visits it serially.
+	 */
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+
+	public static List<Detector> createDefaultDetectors() {
+		return new ArrayList<>(Arrays.asList(
+				new BadCachingDetector(),
+				new InstrumentationDetector(),
+				new ShadowedIdentifierDetector(),
+				new SchemaByMetaDataDetector()));
+	}
+
 	public static HbmLint createInstance() {
-		return new HbmLint( 
-			new Detector[] {
-					new BadCachingDetector(),
-					new InstrumentationDetector(),
-					new ShadowedIdentifierDetector(),
-					new SchemaByMetaDataDetector()
-			});
-		
+		return new HbmLint(createDefaultDetectors());
+	}
+
+	private static final class Issues extends ArrayList<Issue> implements IssueCollector {
+
+		private static final long serialVersionUID = 1L;
+
+		static Issues[] create(int size) {
+			Issues[] result = new Issues[size];
+			for (int i = 0; i < size; i++) {
+				result[i] = new Issues();
+			}
+			return result;
+		}
+
+		public void reportIssue(Issue issue) {
+			add(issue);
+		}
 	}
 
 }
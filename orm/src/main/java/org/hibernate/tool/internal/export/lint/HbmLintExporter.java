@@ -17,7 +17,12 @@
  */
 package org.hibernate.tool.internal.export.lint;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import org.hibernate.tool.internal.export.common.GenericExporter;
+import org.hibernate.tool.util.ReflectionUtil;
 
 public class HbmLintExporter extends GenericExporter {
 
@@ -29,11 +34,49 @@ public class HbmLintExporter extends GenericExporter {
     	super.start();
     }
 	protected void setupContext() {
-		HbmLint hbmlint = HbmLint.createInstance();
+		HbmLint hbmlint = new HbmLint(getDetectors());
+		hbmlint.setThreads(getThreads(LINT_THREADS));
 		hbmlint.analyze( getMetadata() );
 		getProperties().put("lintissues", hbmlint.getResults());
 		super.setupContext();		
 	}
+
+	/**
+	 * @return the detectors set with {@link #LINT_DETECTORS}, either as detectors or as
+	 * a comma separated list of detector class names, or the default detectors if not set
+	 */
+	protected List<Detector> getDetectors() {
+		Object value = getProperties().get(LINT_DETECTORS);
+		List<Detector> result = new ArrayList<>();
+		if (value instanceof Collection<?> collection) {
+			for (Object element : collection) {
+				result.add(element instanceof Detector detector ? detector : createDetector(element.toString()));
+			}
+		}
+		else if (value instanceof Detector[] detectors) {
+			result.addAll(List.of(detectors));
+		}
+		else if (value == null || value.toString().isBlank()) {
+			result.addAll(HbmLint.createDefaultDetectors());
+		}
+		else {
+			for (String className : value.toString().split(",")) {
+				if (!className.isBlank()) {
+					result.add(createDetector(className.trim()));
+				}
+			}
+		}
+		return result;
+	}
+
+	private static Detector createDetector(String className) {
+		try {
+			return (Detector) ReflectionUtil.classForName(className).getConstructor().newInstance();
+		}
+		catch (ReflectiveOperationException | ClassCastException e) {
+			throw new RuntimeException("A detector of class '" + className + "' could not be created", e);
+		}
+	}
 	
 	public String getName() {
 		return "hbmlint";
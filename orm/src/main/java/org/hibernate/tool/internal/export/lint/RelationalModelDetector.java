@@ -29,6 +29,7 @@ public abstract class RelationalModelDetector extends Detector {
 			Table table = (Table) iter.next();
 			this.visit(table, collector);
 		}					
+		endVisit(collector);
 	}
 	
 	abstract protected void visit(Table table, Column col, IssueCollector collector);
@@ -17,9 +17,13 @@
  */
 package org.hibernate.tool.internal.export.lint;
 
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
@@ -28,6 +32,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Environment;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
@@ -43,6 +48,7 @@ import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.RootClass;
 import org.hibernate.mapping.Table;
 import org.hibernate.service.ServiceRegistry;
+import org.hibernate.tool.api.metadata.MetadataConstants;
 import org.hibernate.tool.api.reveng.RevengDialect;
 import org.hibernate.tool.api.reveng.RevengDialectFactory;
 import org.hibernate.tool.api.reveng.RevengStrategy.SchemaSelection;
@@ -53,9 +59,12 @@ import org.hibernate.tool.internal.reveng.strategy.TableSelectorStrategy;
 import org.hibernate.tool.internal.util.JdbcToHibernateTypeHelper;
 import org.hibernate.tool.internal.util.TableNameQualifier;
 import org.hibernate.type.MappingContext;
+import org.jboss.logging.Logger;
 
 public class SchemaByMetaDataDetector extends RelationalModelDetector {
 
+    private static final Logger log = Logger.getLogger( SchemaByMetaDataDetector.class );
+
     public String getName() {
         return "schema";
     }
@@ -68,17 +77,28 @@ public class SchemaByMetaDataDetector extends RelationalModelDetector {
 
     private Dialect dialect;
 
+    private Properties properties;
+
+    private ConnectionProvider connectionProvider;
+
+    /** the catalog and schema unqualified names are looked up in, resolved on first use */
+    private Selection defaultSchema;
+
     private MappingContext mapping;
 
-    /** current table as read from the database */
-    Table currentDbTable = null;
+    /** the tables of all schemas referenced by the model, read on first use */
+    private TableIndex dbTables;
+
+    private Collection<Generator> generators;
 
     public void initialize(Metadata metadata) {
         super.initialize( metadata);
         StandardServiceRegistryBuilder builder = new StandardServiceRegistryBuilder();
         ServiceRegistry serviceRegistry = builder.build();
 
-        Properties properties = Environment.getProperties();
+        properties = Environment.getProperties();
+        // the referenced schemas are read as a whole, their columns and keys in bulk
+        properties.putIfAbsent(MetadataConstants.METADATA_PREFETCH, "true");
         JdbcServices jdbcServices = serviceRegistry.getService(JdbcServices.class);
         if (jdbcServices != null) {
             dialect = jdbcServices.getDialect();
@@ -95,17 +115,17 @@ public class SchemaByMetaDataDetector extends RelationalModelDetector {
                 tableSelector,
                 metadataDialect,
                 serviceRegistry);
-        ConnectionProvider connectionProvider = serviceRegistry.getService(ConnectionProvider.class);
+        connectionProvider = serviceRegistry.getService(ConnectionProvider.class);
         sequenceCollector = SequenceCollector.create(connectionProvider);
     }
 
-    public void visit(IssueCollector collector) {
-        super.visit(collector);
+    @Override
+    public void endVisit(IssueCollector collector) {
         visitGenerators(collector);
     }
 
     public void visitGenerators(IssueCollector collector) {
-        Iterator<?> iter = iterateGenerators();
+        Iterator<Generator> iter = getGenerators().iterator();
 
         Set<?> sequences = Collections.EMPTY_SET;
         if(dialect.getSequenceSupport().supportsSequences()) {
@@ -142,26 +162,16 @@ public class SchemaByMetaDataDetector extends RelationalModelDetector {
     }
 
     private boolean isTable(Object key) throws HibernateException {
-        // BIG HACK - should probably utilize the table cache before going to the jdbcreader :(
         if(key instanceof String) {
             String[] strings = StringHelper.split(".", (String) key);
             if(strings.length==1) {
-                tableSelector.clearSchemaSelections();
-                tableSelector.addSchemaSelection( createSchemaSelection(null,null, strings[0]) );
-                Collection<Table> collection = readFromDatabase();
-                return !collection.isEmpty();
+                return !getDatabaseTables().find(null, null, strings[0]).isEmpty();
             }
             else if(strings.length==3) {
-                tableSelector.clearSchemaSelections();
-                tableSelector.addSchemaSelection( createSchemaSelection(strings[0],strings[1], strings[2]) );
-                Collection<Table> collection = readFromDatabase();
-                return !collection.isEmpty();
+                return !getDatabaseTables().find(strings[0], strings[1], strings[2]).isEmpty();
             }
             else if (strings.length==2) {
-                tableSelector.clearSchemaSelections();
-                tableSelector.addSchemaSelection( createSchemaSelection(null,strings[0], strings[1]) );
-                Collection<Table> collection = readFromDatabase();
-                return !collection.isEmpty();
+                return !getDatabaseTables().find(null, strings[0], strings[1]).isEmpty();
             }
         }
         return false;
@@ -170,9 +180,10 @@ public class SchemaByMetaDataDetector extends RelationalModelDetector {
     public void visit(Table table, IssueCollector pc) {
 
         if ( table.isPhysicalTable() ) {
-            setSchemaSelection( table );
-
-            Collection<Table> collection = readFromDatabase();
+            Collection<Table> collection = getDatabaseTables().find(
+                    table.getCatalog(),
+                    table.getSchema(),
+                    table.getName() );
 
             if ( collection.isEmpty() ) {
                 pc.reportIssue( new Issue( "SCHEMA_TABLE_MISSING",
@@ -189,8 +200,10 @@ public class SchemaByMetaDataDetector extends RelationalModelDetector {
                         .getSchema(), table.getName() ) ) );
             }
             else {
-                currentDbTable = collection.iterator().next();
-                visitColumns(table,pc);
+                Table dbTable = collection.iterator().next();
+                for ( Column col : table.getColumns() ) {
+                    visit( table, col, dbTable, pc );
+                }
             }
         }
     }
@@ -203,11 +216,22 @@ public class SchemaByMetaDataDetector extends RelationalModelDetector {
             Table table,
             Column col,
             IssueCollector pc) {
-        if ( currentDbTable == null ) {
-            return;
+        Collection<Table> collection = getDatabaseTables().find(
+                table.getCatalog(),
+                table.getSchema(),
+                table.getName() );
+        if ( collection.size() == 1 ) {
+            visit( table, col, collection.iterator().next(), pc );
         }
+    }
 
-        Column dbColumn = currentDbTable
+    // the table read from the database is passed along, as tables may be visited at the same time
+    private void visit(
+            Table table,
+            Column col,
+            Table dbTable,
+            IssueCollector pc) {
+        Column dbColumn = dbTable
                 .getColumn( new Column( col.getName() ) );
 
         if ( dbColumn == null ) {
@@ -230,18 +254,112 @@ public class SchemaByMetaDataDetector extends RelationalModelDetector {
         }
     }
 
-    private void setSchemaSelection(Table table) {
-        tableSelector.clearSchemaSelections();
-        tableSelector.addSchemaSelection( createSchemaSelection(
-                table.getCatalog(),
-                table.getSchema(),
-                table.getName() ) );
+    /**
+     * @return the tables of the schemas the mapped tables and generators are in,
+     * read from the database in one pass the first time they are needed
+     */
+    private synchronized TableIndex getDatabaseTables() {
+        if ( dbTables == null ) {
+            tableSelector.clearSchemaSelections();
+            for ( Selection selection : getSelections() ) {
+                tableSelector.addSchemaSelection( createSchemaSelection(
+                        selection.catalog(), selection.schema(), selection.table() ) );
+            }
+            dbTables = new TableIndex( readFromDatabase() );
+        }
+        return dbTables;
+    }
+
+    /**
+     * @return the selections to read: the whole schema of each qualified table or
+     * generator, and the default schema for the unqualified ones, so the database is
+     * read with one selection per schema. Only if no default schema is known, an
+     * unqualified name selects the tables of that name in any schema.
+     */
+    private Set<Selection> getSelections() {
+        Set<Selection> result = new LinkedHashSet<>();
+        for ( Table table : getMetadata().collectTableMappings() ) {
+            if ( table.isPhysicalTable() ) {
+                result.add( createSelection( table.getCatalog(), table.getSchema(), table.getName() ) );
+            }
+        }
+        for ( Generator generator : getGenerators() ) {
+            String key = getGeneratorKey( (PersistentIdentifierGenerator) generator );
+            if ( key != null ) {
+                String[] strings = StringHelper.split( ".", key );
+                if ( strings.length == 3 ) {
+                    result.add( createSelection( strings[0], strings[1], strings[2] ) );
+                }
+                else if ( strings.length == 2 ) {
+                    result.add( createSelection( null, strings[0], strings[1] ) );
+                }
+                else {
+                    result.add( createSelection( null, null, strings[0] ) );
+                }
+            }
+        }
+        return result;
+    }
+
+    private Selection createSelection(String catalog, String schema, String name) {
+        if ( catalog == null && schema == null ) {
+            Selection selection = getDefaultSchema();
+            if ( selection.catalog() == null && selection.schema() == null ) {
+                return new Selection( null, null, name );
+            }
+            return selection;
+        }
+        return new Selection( catalog, schema, null );
+    }
+
+    /**
+     * @return the configured default catalog and schema or, if there are none, the
+     * current ones of the connection, as Hibernate resolves unqualified names
+     */
+    private Selection getDefaultSchema() {
+        if ( defaultSchema == null ) {
+            String catalog = properties.getProperty( AvailableSettings.DEFAULT_CATALOG );
+            String schema = properties.getProperty( AvailableSettings.DEFAULT_SCHEMA );
+            if ( catalog == null && schema == null && connectionProvider != null ) {
+                Connection connection = null;
+                try {
+                    connection = connectionProvider.getConnection();
+                    catalog = connection.getCatalog();
+                    schema = connection.getSchema();
+                }
+                catch (SQLException | RuntimeException e) {
+                    log.debug( "Could not read the current schema of the connection", e );
+                }
+                finally {
+                    if ( connection != null ) {
+                        try {
+                            connectionProvider.closeConnection( connection );
+                        }
+                        catch (SQLException e) {
+                            log.warn( "Problem while closing connection", e );
+                        }
+                    }
+                }
+            }
+            defaultSchema = new Selection( catalog, schema, null );
+        }
+        return defaultSchema;
+    }
+
+    private record Selection(String catalog, String schema, String table) {
+    }
+
+    private synchronized Collection<Generator> getGenerators() {
+        if ( generators == null ) {
+            generators = List.copyOf( iterateGenerators() );
+        }
+        return generators;
     }
 
     /**
-     * @return iterator over all the IdentifierGenerator's found in the entitymodel and return a list of unique IdentifierGenerators
+     * @return all the IdentifierGenerator's found in the entitymodel, one per key
      */
-    private Iterator<Generator> iterateGenerators() throws MappingException {
+    private Collection<Generator> iterateGenerators() throws MappingException {
 
         TreeMap<Object, Generator> generators =
                 new TreeMap<>();
@@ -277,7 +395,7 @@ public class SchemaByMetaDataDetector extends RelationalModelDetector {
             }
         }
 
-        return generators.values().iterator();
+        return generators.values();
     }
 
     private Collection<Table> readFromDatabase() {
@@ -0,0 +1,89 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.export.lint;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.mapping.Table;
+
+/**
+ * The tables read from the database, indexed by name, so the tables of the
+ * model can be looked up without going back to the database.
+ * <p>
+ * Names are compared ignoring case and quotes, as the database may have stored
+ * them in another case than they are mapped with. A catalog or schema that is
+ * not specified matches any. Only if several tables match, the ones with exactly
+ * the same name are preferred.
+ */
+class TableIndex {
+
+    private final Map<String, List<Table>> tablesByName = new HashMap<>();
+
+    TableIndex(Collection<Table> tables) {
+        for ( Table table : tables ) {
+            tablesByName.computeIfAbsent( normalize( table.getName() ), k -> new ArrayList<>() ).add( table );
+        }
+    }
+
+    List<Table> find(String catalog, String schema, String name) {
+        List<Table> candidates = tablesByName.get( normalize( name ) );
+        if ( candidates == null ) {
+            return Collections.emptyList();
+        }
+        List<Table> result = new ArrayList<>();
+        for ( Table candidate : candidates ) {
+            if ( matches( catalog, candidate.getCatalog() ) && matches( schema, candidate.getSchema() ) ) {
+                result.add( candidate );
+            }
+        }
+        if ( result.size() > 1 ) {
+            List<Table> exact = new ArrayList<>();
+            for ( Table table : result ) {
+                if ( unquote( table.getName() ).equals( unquote( name ) ) ) {
+                    exact.add( table );
+                }
+            }
+            if ( !exact.isEmpty() ) {
+                return exact;
+            }
+        }
+        return result;
+    }
+
+    private static boolean matches(String expected, String actual) {
+        return expected == null || actual != null && unquote( actual ).equalsIgnoreCase( unquote( expected ) );
+    }
+
+    private static String normalize(String name) {
+        return unquote( name ).toLowerCase( Locale.ROOT );
+    }
+
+    private static String unquote(String name) {
+        if ( name.length() > 1 && name.charAt( 0 ) == '`' && name.charAt( name.length() - 1 ) == '`' ) {
+            return name.substring( 1, name.length() - 1 );
+        }
+        return name;
+    }
+
+}
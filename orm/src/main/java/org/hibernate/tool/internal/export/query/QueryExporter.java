@@ -17,78 +17,261 @@
  */
 package org.hibernate.tool.internal.export.query;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.hibernate.HibernateException;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.tool.api.export.ArtifactCollector;
 import org.hibernate.tool.internal.export.common.AbstractExporter;
+import org.hibernate.tool.internal.util.ForkJoinUtil;
 
 /** 
  * exporter for query execution.
- * 
+ * <p>
+ * Results are scrolled forward only and written row by row, so large
+ * result sets are never held in memory. The JDBC fetch size, the maximum
+ * number of rows per query, the row format and how often the session is
+ * cleared can be set with the {@code QUERY_*} exporter properties.
+ * <p>
+ * By default all queries run in one session and transaction and write to the
+ * same file. With {@code QUERY_THREADS} above one, each query runs in its own
+ * session and transaction on a pool of that many threads, all sharing one
+ * {@link SessionFactory}, and writes to its own file: the n-th query (counting
+ * from 1) of {@code queryresult.txt} goes to {@code queryresult-n.txt}. Either
+ * way the time taken by each query is available from {@link #getQueryTimings()}.
  **/
 public class QueryExporter extends AbstractExporter {
 
+    private static final int DEFAULT_CLEAR_INTERVAL = 1000;
+
+    /**
+     * The outcome of one query: the file its rows were written to, if any,
+     * the number of rows and the time taken to run the query and write them.
+     */
+    public record QueryTiming(String query, File file, long rows, long elapsedNanos) {
+    }
+
+    private volatile List<QueryTiming> queryTimings = Collections.emptyList();
+
     public void doStart() {
-        Session session = null;
-        SessionFactory sessionFactory = null;
-        Transaction transaction = null;
+        SessionFactory sessionFactory = getSessionFactory();
+        boolean ownsSessionFactory = sessionFactory == null;
         try {
-            sessionFactory = buildMetadata().buildSessionFactory();
-            session = sessionFactory.openSession();
-            transaction = session.beginTransaction();
-            for ( Object o : getQueryList() ) {
-                String query = (String) o;
-
-                List<?> list = session.createQuery( query, (Class<?>)null ).getResultList();
-
-                if ( getFileName() != null ) {
-                    PrintWriter pw = null;
-                    try {
-                        File file = new File( getOutputDirectory(), getFileName() );
-                        getTemplateHelper().ensureExistence( file );
-                        pw = new PrintWriter( new FileWriter( file, true ) );
-                        getArtifactCollector().addFile( file, "query-output" );
-
-                        for ( Object element : list ) {
-                            pw.println( element );
-                        }
-
-                    }
-                    catch (IOException e) {
-                        throw new RuntimeException( "Could not write query output", e );
-                    }
-                    finally {
-                        if ( pw != null ) {
-                            pw.flush();
-                            pw.close();
-                        }
-                    }
+            if ( ownsSessionFactory ) {
+                sessionFactory = buildMetadata().buildSessionFactory();
+            }
+            List<String> queries = getQueries();
+            int threads = Math.min( getThreads( QUERY_THREADS ), queries.size() );
+            List<QueryTiming> timings = threads > 1
+                    ? exportConcurrently( sessionFactory, queries, threads )
+                    : exportSerially( sessionFactory, queries );
+            queryTimings = Collections.unmodifiableList( timings );
+            if ( log.isInfoEnabled() ) {
+                for ( QueryTiming timing : timings ) {
+                    log.info( "Query [" + timing.query() + "] returned " + timing.rows() + " rows in "
+                            + timing.elapsedNanos() / 1_000_000 + " ms" );
+                }
+            }
+        }
+        finally {
+            if ( ownsSessionFactory && sessionFactory != null ) {
+                sessionFactory.close();
+            }
+        }
+    }
+
+    /**
+     * @return the timings of the queries run by the last {@link #start()}, in query order
+     */
+    public List<QueryTiming> getQueryTimings() {
+        return queryTimings;
+    }
+
+    private List<QueryTiming> exportSerially(SessionFactory sessionFactory, List<String> queries) {
+        File file = getFileName() == null ? null : new File( getOutputDirectory(), getFileName() );
+        QueryRowFormat format = getFormat();
+        try (Session session = sessionFactory.openSession();
+                BufferedWriter writer = openWriter( file, false )) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                List<QueryTiming> timings = new ArrayList<>( queries.size() );
+                for ( String query : queries ) {
+                    long start = System.nanoTime();
+                    long rows = exportQuery( session, query, format, writer );
+                    timings.add( new QueryTiming( query, file, rows, System.nanoTime() - start ) );
                 }
+                transaction.commit();
+                return timings;
+            }
+            catch (IOException | RuntimeException e) {
+                rollback( transaction, e );
+                throw e;
+            }
+        }
+        catch(HibernateException he) {
+            throw new RuntimeException("Error occured while trying to execute query", he);
+        }
+        catch (IOException e) {
+            throw new RuntimeException( "Could not write query output", e );
+        }
+    }
+
+    private List<QueryTiming> exportConcurrently(SessionFactory sessionFactory, List<String> queries, int threads) {
+        QueryTiming[] timings = new QueryTiming[queries.size()];
+        RuntimeException[] failures = new RuntimeException[queries.size()];
+        QueryRowFormat format = getFormat();
+        List<Integer> slots = IntStream.range( 0, queries.size() ).boxed().toList();
+        ForkJoinUtil.forEach( threads, slots, i -> {
+            try {
+                timings[i] = exportQuery( sessionFactory, queries.get( i ), getQueryFile( i ), format );
+            }
+            catch (RuntimeException e) {
+                failures[i] = e;
+            }
+        }, "executing queries" );
+        for ( RuntimeException failure : failures ) {
+            if ( failure != null ) {
+                throw failure;
+            }
+        }
+        return Arrays.asList( timings );
+    }
+
+    private QueryTiming exportQuery(SessionFactory sessionFactory, String query, File file, QueryRowFormat format) {
+        long start = System.nanoTime();
+        try (Session session = sessionFactory.openSession();
+                BufferedWriter writer = openWriter( file, true )) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                long rows = exportQuery( session, query, format, writer );
+                transaction.commit();
+                return new QueryTiming( query, file, rows, System.nanoTime() - start );
+            }
+            catch (IOException | RuntimeException e) {
+                rollback( transaction, e );
+                throw e;
             }
-            transaction.commit();
         }
         catch(HibernateException he) {
-            if(transaction!=null) {
+            throw new RuntimeException("Error occured while trying to execute query: " + query, he);
+        }
+        catch (IOException e) {
+            throw new RuntimeException( "Could not write query output", e );
+        }
+    }
+
+    // a failing rollback must not hide why the transaction is rolled back
+    private static void rollback(Transaction transaction, Exception cause) {
+        try {
+            if ( transaction.isActive() ) {
                 transaction.rollback();
             }
-            throw new RuntimeException("Error occured while trying to execute query", he);
         }
-        finally {
-            if(session!=null) {
-                session.close();
+        catch (RuntimeException e) {
+            cause.addSuppressed( e );
+        }
+    }
+
+    private long exportQuery(Session session, String queryString, QueryRowFormat format, BufferedWriter writer)
+            throws IOException {
+        SelectionQuery<?> query = session.createQuery( queryString, (Class<?>)null );
+        int fetchSize = getFetchSize();
+        if ( fetchSize > 0 ) {
+            query.setFetchSize( fetchSize );
+        }
+        int maxRows = getMaxRows();
+        if ( maxRows > 0 ) {
+            query.setMaxResults( maxRows );
+        }
+        int clearInterval = getClearInterval();
+        ScrollableResults<?> results;
+        try {
+            results = query.scroll( ScrollMode.FORWARD_ONLY );
+        }
+        catch (UnsupportedOperationException e) {
+            // polymorphic queries spanning several entity hierarchies cannot be scrolled
+            return writeRows( query.getResultList(), format, writer );
+        }
+        try {
+            long count = 0;
+            while ( results.next() ) {
+                writeRow( results.get(), format, writer );
+                count++;
+                if ( clearInterval > 0 && count % clearInterval == 0 ) {
+                    session.clear();
+                }
             }
-            if(sessionFactory!=null) {
-                sessionFactory.close();
+            return count;
+        }
+        finally {
+            results.close();
+        }
+    }
+
+    private long writeRows(List<?> rows, QueryRowFormat format, BufferedWriter writer) throws IOException {
+        for ( Object row : rows ) {
+            writeRow( row, format, writer );
+        }
+        return rows.size();
+    }
+
+    private void writeRow(Object row, QueryRowFormat format, BufferedWriter writer) throws IOException {
+        if ( writer != null ) {
+            format.write( row, writer );
+            writer.newLine();
+        }
+    }
+
+    /**
+     * @param concurrent whether other queries may open their writers at the same time,
+     * a collector that is not thread safe is then only used while holding its lock
+     * @return a writer appending to the file, or null if there is no file to write to
+     */
+    private BufferedWriter openWriter(File file, boolean concurrent) throws IOException {
+        if ( file == null ) {
+            return null;
+        }
+        getTemplateHelper().ensureExistence( file );
+        BufferedWriter writer = new BufferedWriter( new FileWriter( file, true ) );
+        ArtifactCollector collector = getArtifactCollector();
+        if ( concurrent && !collector.isThreadSafe() ) {
+            synchronized ( collector ) {
+                collector.addFile( file, "query-output" );
             }
+        }
+        else {
+            collector.addFile( file, "query-output" );
+        }
+        return writer;
+    }
 
+    /**
+     * @return the file the query at the given index writes to when the queries run concurrently
+     */
+    File getQueryFile(int index) {
+        String fileName = getFileName();
+        if ( fileName == null ) {
+            return null;
         }
+        int dot = fileName.lastIndexOf( '.' );
+        String suffix = "-" + ( index + 1 );
+        String name = dot > 0
+                ? fileName.substring( 0, dot ) + suffix + fileName.substring( dot )
+                : fileName + suffix;
+        return new File( getOutputDirectory(), name );
     }
 
     private String getFileName() {
@@ -99,6 +282,38 @@ public class QueryExporter extends AbstractExporter {
         return (List<?>)getProperties().get(QUERY_LIST);
     }
 
+    private List<String> getQueries() {
+        List<String> queries = new ArrayList<>();
+        for ( Object o : getQueryList() ) {
+            queries.add( (String) o );
+        }
+        return queries;
+    }
+
+    private SessionFactory getSessionFactory() {
+        return (SessionFactory)getProperties().get(QUERY_SESSION_FACTORY);
+    }
+
+    private int getFetchSize() {
+        return getIntProperty(QUERY_FETCH_SIZE, 0);
+    }
+
+    private int getMaxRows() {
+        return getIntProperty(QUERY_MAX_ROWS, 0);
+    }
+
+    private int getClearInterval() {
+        return getIntProperty(QUERY_CLEAR_INTERVAL, DEFAULT_CLEAR_INTERVAL);
+    }
+
+    private QueryRowFormat getFormat() {
+        Object format = getProperties().get(QUERY_FORMAT);
+        if (format instanceof QueryRowFormat queryRowFormat) {
+            return queryRowFormat;
+        }
+        return QueryRowFormat.fromName(format == null ? null : format.toString());
+    }
+
     public void setQueries(List<String> queryStrings) {
         getProperties().put(QUERY_LIST, queryStrings);
     }
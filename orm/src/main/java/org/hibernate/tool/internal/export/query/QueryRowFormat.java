@@ -0,0 +1,176 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.export.query;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Formats the rows written by the {@link QueryExporter}, one row per line.
+ */
+public enum QueryRowFormat {
+
+    /** the {@code toString()} of the row, as written by earlier versions */
+    TEXT {
+        @Override
+        void write(Object row, Appendable out) throws IOException {
+            out.append( String.valueOf( row ) );
+        }
+    },
+
+    /** comma separated values, one column per tuple element */
+    CSV {
+        @Override
+        void write(Object row, Appendable out) throws IOException {
+            if ( row instanceof Object[] tuple ) {
+                for ( int i = 0; i < tuple.length; i++ ) {
+                    if ( i > 0 ) {
+                        out.append( ',' );
+                    }
+                    writeCsvValue( tuple[i], out );
+                }
+            }
+            else {
+                writeCsvValue( row, out );
+            }
+        }
+    },
+
+    /** one JSON value per line, tuples are written as arrays */
+    JSON_LINES {
+        @Override
+        void write(Object row, Appendable out) throws IOException {
+            if ( row instanceof Object[] tuple ) {
+                out.append( '[' );
+                for ( int i = 0; i < tuple.length; i++ ) {
+                    if ( i > 0 ) {
+                        out.append( ',' );
+                    }
+                    writeJsonValue( tuple[i], out );
+                }
+                out.append( ']' );
+            }
+            else {
+                writeJsonValue( row, out );
+            }
+        }
+    };
+
+    abstract void write(Object row, Appendable out) throws IOException;
+
+    public String format(Object row) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            write( row, sb );
+        }
+        catch (IOException e) {
+            throw new IllegalStateException( e );
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return the format with the given name, {@link #TEXT} if the name is null or blank
+     */
+    public static QueryRowFormat fromName(String name) {
+        if ( name == null || name.isBlank() ) {
+            return TEXT;
+        }
+        String n = name.trim().toLowerCase( Locale.ROOT );
+        return switch ( n ) {
+            case "text", "txt" -> TEXT;
+            case "csv" -> CSV;
+            case "json", "jsonl", "json-lines", "json_lines", "ndjson" -> JSON_LINES;
+            default -> throw new IllegalArgumentException( "Unknown query output format: " + name );
+        };
+    }
+
+    private static void writeCsvValue(Object value, Appendable out) throws IOException {
+        if ( value == null ) {
+            return;
+        }
+        String s = value.toString();
+        boolean quote = false;
+        for ( int i = 0; i < s.length() && !quote; i++ ) {
+            char c = s.charAt( i );
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if ( !quote ) {
+            out.append( s );
+            return;
+        }
+        out.append( '"' );
+        for ( int i = 0; i < s.length(); i++ ) {
+            char c = s.charAt( i );
+            if ( c == '"' ) {
+                out.append( '"' );
+            }
+            out.append( c );
+        }
+        out.append( '"' );
+    }
+
+    private static void writeJsonValue(Object value, Appendable out) throws IOException {
+        if ( value == null ) {
+            out.append( "null" );
+        }
+        else if ( value instanceof Boolean
+                || ( value instanceof Number number && isFinite( number ) ) ) {
+            out.append( value.toString() );
+        }
+        else {
+            writeJsonString( value.toString(), out );
+        }
+    }
+
+    private static boolean isFinite(Number number) {
+        if ( number instanceof Double d ) {
+            return Double.isFinite( d );
+        }
+        if ( number instanceof Float f ) {
+            return Float.isFinite( f );
+        }
+        return true;
+    }
+
+    private static void writeJsonString(String s, Appendable out) throws IOException {
+        out.append( '"' );
+        for ( int i = 0; i < s.length(); i++ ) {
+            char c = s.charAt( i );
+            switch ( c ) {
+                case '"' -> out.append( "\\\"" );
+                case '\\' -> out.append( "\\\\" );
+                case '\n' -> out.append( "\\n" );
+                case '\r' -> out.append( "\\r" );
+                case '\t' -> out.append( "\\t" );
+                case '\b' -> out.append( "\\b" );
+                case '\f' -> out.append( "\\f" );
+                default -> {
+                    if ( c < 0x20 ) {
+                        out.append( String.format( "\\u%04x", (int) c ) );
+                    }
+                    else {
+                        out.append( c );
+                    }
+                }
+            }
+        }
+        out.append( '"' );
+    }
+
+}
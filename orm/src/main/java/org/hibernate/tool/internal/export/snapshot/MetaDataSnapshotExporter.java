@@ -0,0 +1,162 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.export.snapshot;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.tool.api.metadata.MetadataConstants;
+import org.hibernate.tool.api.metadata.MetadataDescriptor;
+import org.hibernate.tool.api.reveng.RevengDialect;
+import org.hibernate.tool.api.reveng.RevengDialectFactory;
+import org.hibernate.tool.api.reveng.RevengStrategy.SchemaSelection;
+import org.hibernate.tool.internal.export.common.AbstractExporter;
+import org.hibernate.tool.internal.metadata.RevengMetadataDescriptor;
+import org.hibernate.tool.internal.metadata.SharedMetadataDescriptor;
+import org.hibernate.tool.internal.reveng.dialect.SnapshotMetaDataDialect;
+
+/**
+ * Captures the database metadata used by reverse engineering into a file
+ * that {@link SnapshotMetaDataDialect} can later read instead of the database.
+ * The output file name defaults to <code>metadata-snapshot.xml</code>.
+ */
+public class MetaDataSnapshotExporter extends AbstractExporter {
+
+    public static final String DEFAULT_FILE_NAME = "metadata-snapshot.xml";
+
+    protected void doStart() {
+        // a copy, the descriptor may be shared with other exporters
+        Properties properties = new Properties();
+        properties.putAll(getMetadataDescriptor().getProperties());
+        // always capture from the database, never from a previous snapshot
+        properties.remove(MetadataConstants.METADATA_SNAPSHOT_FILE);
+        StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+                .applySettings(properties)
+                .build();
+        try {
+            Dialect dialect = serviceRegistry.getService(JdbcServices.class).getDialect();
+            ConnectionProvider connectionProvider = serviceRegistry.getService(ConnectionProvider.class);
+            RevengDialect source = RevengDialectFactory.createMetaDataDialect(dialect, properties);
+            SnapshotMetaDataDialect snapshot;
+            source.configure(connectionProvider);
+            try {
+                snapshot = SnapshotMetaDataDialect.capture(
+                        source,
+                        getSchemaSelections(properties),
+                        dialect.getClass().getName(),
+                        getIdentifierCase(connectionProvider));
+            }
+            finally {
+                source.close();
+            }
+            File file = new File(getOutputDirectory(), getFileName());
+            snapshot.save(file.toPath());
+            getArtifactCollector().addFile(file, "snapshot.xml");
+        }
+        finally {
+            StandardServiceRegistryBuilder.destroy(serviceRegistry);
+        }
+    }
+
+    // the capture reads the database directly, no need to reverse engineer it first
+    protected Metadata buildMetadata() {
+        return null;
+    }
+
+    private String getFileName() {
+        String fileName = (String) getProperties().get(OUTPUT_FILE_NAME);
+        return fileName == null ? DEFAULT_FILE_NAME : fileName;
+    }
+
+    private List<SchemaSelection> getSchemaSelections(Properties properties) {
+        MetadataDescriptor metadataDescriptor = getMetadataDescriptor();
+        // in a pipeline, the descriptor of the strategy is wrapped
+        if (metadataDescriptor instanceof SharedMetadataDescriptor sharedMetadataDescriptor) {
+            metadataDescriptor = sharedMetadataDescriptor.getDelegate();
+        }
+        if (metadataDescriptor instanceof RevengMetadataDescriptor revengMetadataDescriptor) {
+            List<SchemaSelection> result = revengMetadataDescriptor.getReverseEngineeringStrategy().getSchemaSelections();
+            if (result != null) {
+                return result;
+            }
+        }
+        String catalog = properties.getProperty(AvailableSettings.DEFAULT_CATALOG);
+        String schema = properties.getProperty(AvailableSettings.DEFAULT_SCHEMA);
+        List<SchemaSelection> result = new ArrayList<>();
+        result.add(new SchemaSelection() {
+            @Override
+            public String getMatchCatalog() {
+                return catalog;
+            }
+            @Override
+            public String getMatchSchema() {
+                return schema;
+            }
+            @Override
+            public String getMatchTable() {
+                return null;
+            }
+        });
+        return result;
+    }
+
+    private String getIdentifierCase(ConnectionProvider connectionProvider) {
+        Connection connection = null;
+        try {
+            connection = connectionProvider.getConnection();
+            DatabaseMetaData metaData = connection.getMetaData();
+            // same order of checks as AbstractMetaDataDialect.caseForSearch
+            if (metaData.storesMixedCaseQuotedIdentifiers()) {
+                return "mixed";
+            }
+            if (metaData.storesUpperCaseIdentifiers()) {
+                return "upper";
+            }
+            if (metaData.storesLowerCaseIdentifiers()) {
+                return "lower";
+            }
+            return "mixed";
+        }
+        catch (SQLException e) {
+            throw new RuntimeException("Could not read the identifier case of the database", e);
+        }
+        finally {
+            if (connection != null) {
+                try {
+                    connectionProvider.closeConnection(connection);
+                }
+                catch (SQLException e) {
+                    log.warn("Problem while closing connection", e);
+                }
+            }
+        }
+    }
+
+}
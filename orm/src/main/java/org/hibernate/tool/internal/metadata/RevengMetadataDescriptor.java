@@ -45,6 +45,10 @@ public class RevengMetadataDescriptor implements MetadataDescriptor {
         this.properties.putIfAbsent( MetadataConstants.PREFER_BASIC_COMPOSITE_IDS, true );
     }
 
+    public RevengStrategy getReverseEngineeringStrategy() {
+        return reverseEngineeringStrategy;
+    }
+
     public Properties getProperties() {
         Properties result = new Properties();
         result.putAll(properties);
@@ -0,0 +1,62 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.metadata;
+
+import java.util.Properties;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.tool.api.metadata.MetadataDescriptor;
+
+/**
+ * Builds the metadata of another descriptor on the first call and hands out that
+ * same instance afterwards, so several exporters can work on one metadata.
+ */
+public class SharedMetadataDescriptor implements MetadataDescriptor {
+
+    private final MetadataDescriptor delegate;
+    private volatile Metadata metadata;
+
+    public SharedMetadataDescriptor(MetadataDescriptor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Metadata createMetadata() {
+        Metadata result = metadata;
+        if ( result == null ) {
+            synchronized ( this ) {
+                result = metadata;
+                if ( result == null ) {
+                    result = delegate.createMetadata();
+                    metadata = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Properties getProperties() {
+        return delegate.getProperties();
+    }
+
+    public MetadataDescriptor getDelegate() {
+        return delegate;
+    }
+
+}
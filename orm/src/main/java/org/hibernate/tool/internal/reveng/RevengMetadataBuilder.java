@@ -18,7 +18,10 @@
 package org.hibernate.tool.internal.reveng;
 
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
+import java.util.function.Supplier;
 
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.internal.BootstrapContextImpl;
@@ -31,14 +34,21 @@ import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.boot.spi.MetadataBuildingContext;
 import org.hibernate.boot.spi.MetadataBuildingOptions;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.mapping.Table;
 import org.hibernate.tool.api.reveng.RevengDialect;
 import org.hibernate.tool.api.reveng.RevengDialectFactory;
+import org.hibernate.tool.api.reveng.RevengListener;
 import org.hibernate.tool.api.reveng.RevengStrategy;
+import org.hibernate.tool.api.reveng.RevengStrategy.SchemaSelection;
 import org.hibernate.tool.internal.reveng.binder.BinderContext;
 import org.hibernate.tool.internal.reveng.binder.RootClassBinder;
+import org.hibernate.tool.internal.reveng.dialect.CachedMetaDataDialect;
+import org.hibernate.tool.internal.reveng.dialect.MetaDataSnapshotStore;
+import org.hibernate.tool.internal.reveng.dialect.SnapshotMetaDataDialect;
 import org.hibernate.tool.internal.reveng.reader.DatabaseReader;
 import org.jboss.logging.Logger;
 
@@ -65,14 +75,20 @@ public class RevengMetadataBuilder {
 	private final BinderContext binderContext;
 	
 	private final StandardServiceRegistry serviceRegistry;
+
+	private final SnapshotMetaDataDialect snapshotDialect;
+
+	private final RevengMonitor monitor;
 	
 	private RevengMetadataBuilder(
 			Properties properties,
 			RevengStrategy reverseEngineeringStrategy) {
 		this.properties = properties;
 		this.revengStrategy = reverseEngineeringStrategy;
+		this.monitor = RevengMonitor.create(properties);
+		this.snapshotDialect = SnapshotMetaDataDialect.fromProperties(properties);
 		this.serviceRegistry = new StandardServiceRegistryBuilder()
-				.applySettings(properties)
+				.applySettings(getServiceRegistrySettings())
 				.build();
 		MetadataBuildingOptionsImpl metadataBuildingOptions = 
 				new MetadataBuildingOptionsImpl(serviceRegistry);	
@@ -100,9 +116,14 @@ public class RevengMetadataBuilder {
 	}
 
 	public Metadata build() {
-		Metadata result = createMetadata();		
-        createPersistentClasses(readFromDatabase()); 
-		return result;
+		try {
+			Metadata result = createMetadata();
+			createPersistentClasses(readFromDatabase());
+			return result;
+		}
+		finally {
+			monitor.finished();
+		}
 	}
 	
 	private MetadataImpl createMetadata() {
@@ -111,12 +132,70 @@ public class RevengMetadataBuilder {
 		return result;
 	}
 	
+	private String describeSchemaSelections() {
+		StringBuilder result = new StringBuilder();
+		List<SchemaSelection> schemaSelections = revengStrategy.getSchemaSelections();
+		if (schemaSelections != null) {
+			for (SchemaSelection schemaSelection : schemaSelections) {
+				result.append(schemaSelection.getMatchCatalog()).append('.')
+						.append(schemaSelection.getMatchSchema()).append('.')
+						.append(schemaSelection.getMatchTable()).append(';');
+			}
+		}
+		return result.toString();
+	}
+
+	/*
+	 * When reading from a snapshot file Hibernate must not try to connect while
+	 * booting, so the dialect is taken from the snapshot unless one is configured.
+	 */
+	private Properties getServiceRegistrySettings() {
+		if (snapshotDialect == null) {
+			return properties;
+		}
+		Properties result = new Properties();
+		result.putAll(properties);
+		result.putIfAbsent(AvailableSettings.ALLOW_METADATA_ON_BOOT, "false");
+		if (snapshotDialect.getDialectName() != null) {
+			result.putIfAbsent(AvailableSettings.DIALECT, snapshotDialect.getDialectName());
+		}
+		return result;
+	}
+
 	private RevengMetadataCollector readFromDatabase() {
-		RevengDialect mdd = RevengDialectFactory
-				.createMetaDataDialect(
-						serviceRegistry.getService(JdbcServices.class).getDialect(), 
-						properties );
-	    DatabaseReader reader = DatabaseReader.create(properties,revengStrategy,mdd, serviceRegistry);
+		DatabaseReader reader;
+		if (snapshotDialect != null) {
+			// everything is already in memory, so no connection is ever needed
+			reader = DatabaseReader.create(
+					properties,
+					revengStrategy,
+					monitor.instrument(snapshotDialect),
+					null,
+					(ConnectionProvider) null,
+					monitor);
+		}
+		else {
+			Dialect dialect = serviceRegistry.getService(JdbcServices.class).getDialect();
+			RevengDialect mdd = monitor.instrument(RevengDialectFactory.createMetaDataDialect(dialect, properties));
+			Supplier<RevengDialect> workerDialectSupplier = () -> monitor.instrument(RevengDialectFactory.createMetaDataDialect(dialect, properties));
+			MetaDataSnapshotStore snapshotStore = MetaDataSnapshotStore.create(properties, describeSchemaSelections());
+			if (snapshotStore != null) {
+				// the snapshot only holds what passes through this single dialect
+				CachedMetaDataDialect cachedDialect = new CachedMetaDataDialect(mdd, snapshotStore);
+				if (monitor.isEnabled()) {
+					cachedDialect.setListener(monitor);
+				}
+				mdd = cachedDialect;
+				workerDialectSupplier = null;
+			}
+			reader = DatabaseReader.create(
+					properties,
+					revengStrategy,
+					mdd,
+					workerDialectSupplier,
+					serviceRegistry,
+					monitor);
+		}
 	    RevengMetadataCollector revengMetadataCollector = new RevengMetadataCollector(metadataBuildingContext);
         reader.readDatabaseSchema(revengMetadataCollector);
         return revengMetadataCollector;
@@ -130,7 +209,7 @@ public class RevengMetadataBuilder {
         // TODO: just create one big embedded composite id instead.
     }*/
 	private void createPersistentClasses(RevengMetadataCollector revengMetadataCollector) {
-		RootClassBinder rootClassBinder = RootClassBinder.create(binderContext);
+		List<Table> tables = new ArrayList<>();
 		for (Table table : metadataCollector.collectTableMappings()) {
 			if(table.getColumnSpan()==0) {
 				LOGGER.warn("Cannot create persistent class for " + table + " as no columns were found.");
@@ -140,9 +219,17 @@ public class RevengMetadataBuilder {
 				LOGGER.debug( "Ignoring " + table + " as class since rev.eng. says it is a many-to-many" );
 				continue;
 			}	    	
+			tables.add(table);
+		}
+		RootClassBinder rootClassBinder = RootClassBinder.create(binderContext);
+		for (Table table : tables) {
+			long start = monitor.start();
 			rootClassBinder.bind(table, revengMetadataCollector);
-		}		
-		metadataCollector.processSecondPasses(metadataBuildingContext);	
+			monitor.phase(RevengListener.BIND, start);
+		}
+		long start = monitor.start();
+		metadataCollector.processSecondPasses(metadataBuildingContext);
+		monitor.phase(RevengListener.PROCESS_SECOND_PASSES, start);
 	}
 	
 	
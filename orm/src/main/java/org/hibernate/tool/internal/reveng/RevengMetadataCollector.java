@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.boot.spi.InFlightMetadataCollector;
 import org.hibernate.boot.spi.MetadataBuildingContext;
@@ -44,7 +45,8 @@ public class RevengMetadataCollector {
 
     public RevengMetadataCollector() {
         this.tables = new HashMap<>();
-        this.suggestedIdentifierStrategies = new HashMap<>();
+        // primary keys may be read concurrently, see MetadataConstants.METADATA_READER_THREADS
+        this.suggestedIdentifierStrategies = new ConcurrentHashMap<>();
     }
 
     public Iterator<Table> iterateTables() {
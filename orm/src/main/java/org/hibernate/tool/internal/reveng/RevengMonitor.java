@@ -0,0 +1,148 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.hibernate.tool.api.metadata.MetadataConstants;
+import org.hibernate.tool.api.reveng.RevengDialect;
+import org.hibernate.tool.api.reveng.RevengListener;
+import org.hibernate.tool.internal.reveng.dialect.InstrumentedMetaDataDialect;
+
+/**
+ * Forwards the events of one reverse engineering run to the configured listeners.
+ * When no listener is configured nothing is measured and the dialects are used as is.
+ */
+public class RevengMonitor implements RevengListener {
+
+    public static final RevengMonitor NONE = new RevengMonitor(Collections.emptyList());
+
+    /**
+     * Creates the listeners configured by {@link MetadataConstants#METADATA_LISTENERS},
+     * either listener instances or a comma separated list of class names, and a
+     * {@link RevengReport} when {@link MetadataConstants#METADATA_REPORT_FILE} is set.
+     */
+    public static RevengMonitor create(Properties properties) {
+        List<RevengListener> listeners = new ArrayList<>();
+        addListeners(listeners, properties.get(MetadataConstants.METADATA_LISTENERS));
+        Object reportFile = properties.get(MetadataConstants.METADATA_REPORT_FILE);
+        if (reportFile instanceof File file) {
+            listeners.add(new RevengReport(file));
+        }
+        else if (reportFile != null && !reportFile.toString().isBlank()) {
+            listeners.add(new RevengReport(new File(reportFile.toString().trim())));
+        }
+        return listeners.isEmpty() ? NONE : new RevengMonitor(listeners);
+    }
+
+    private static void addListeners(List<RevengListener> listeners, Object value) {
+        if (value instanceof RevengListener listener) {
+            listeners.add(listener);
+        }
+        else if (value instanceof Collection<?> collection) {
+            for (Object element : collection) {
+                addListeners(listeners, element);
+            }
+        }
+        else if (value != null) {
+            for (String className : value.toString().split(",")) {
+                if (!className.isBlank()) {
+                    listeners.add(createListener(className.trim()));
+                }
+            }
+        }
+    }
+
+    private static RevengListener createListener(String className) {
+        try {
+            Class<?> listenerClass = Class.forName(
+                    className,
+                    true,
+                    Thread.currentThread().getContextClassLoader());
+            return (RevengListener) listenerClass.getConstructor().newInstance();
+        }
+        catch (ReflectiveOperationException | ClassCastException e) {
+            throw new RuntimeException("A reveng listener of class '" + className + "' could not be created", e);
+        }
+    }
+
+    private final List<RevengListener> listeners;
+
+    private RevengMonitor(List<RevengListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    public boolean isEnabled() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * @return the start time to pass to {@link #phase(String, long)}
+     */
+    public long start() {
+        return isEnabled() ? System.nanoTime() : 0;
+    }
+
+    public void phase(String phase, long startNanos) {
+        if (isEnabled()) {
+            phaseFinished(phase, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * @return the dialect reporting its calls to this monitor, or the dialect
+     * itself if nothing is listening
+     */
+    public RevengDialect instrument(RevengDialect dialect) {
+        return isEnabled() ? new InstrumentedMetaDataDialect(dialect, this) : dialect;
+    }
+
+    @Override
+    public void phaseFinished(String phase, long elapsedNanos) {
+        for (RevengListener listener : listeners) {
+            listener.phaseFinished(phase, elapsedNanos);
+        }
+    }
+
+    @Override
+    public void dialectCallFinished(String method, long elapsedNanos, long rows) {
+        for (RevengListener listener : listeners) {
+            listener.dialectCallFinished(method, elapsedNanos, rows);
+        }
+    }
+
+    @Override
+    public void cacheLookup(String method, boolean hit) {
+        for (RevengListener listener : listeners) {
+            listener.cacheLookup(method, hit);
+        }
+    }
+
+    @Override
+    public void finished() {
+        for (RevengListener listener : listeners) {
+            listener.finished();
+        }
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.hibernate.tool.api.reveng.RevengListener;
+import org.jboss.logging.Logger;
+
+/**
+ * Sums up the timings and counts of a reverse engineering run and writes them
+ * as JSON when the run is finished. Phases and dialect methods appear in the
+ * order they were first seen.
+ */
+public class RevengReport implements RevengListener {
+
+    private static final Logger log = Logger.getLogger(RevengReport.class);
+
+    private final File file;
+
+    private final Map<String, Counter> phases = new LinkedHashMap<>();
+    private final Map<String, Counter> dialectCalls = new LinkedHashMap<>();
+    private final Map<String, Counter> cacheLookups = new LinkedHashMap<>();
+
+    public RevengReport(File file) {
+        this.file = file;
+    }
+
+    @Override
+    public synchronized void phaseFinished(String phase, long elapsedNanos) {
+        Counter counter = phases.computeIfAbsent(phase, k -> new Counter());
+        counter.count++;
+        counter.nanos += elapsedNanos;
+    }
+
+    @Override
+    public synchronized void dialectCallFinished(String method, long elapsedNanos, long rows) {
+        Counter counter = dialectCalls.computeIfAbsent(method, k -> new Counter());
+        counter.count++;
+        counter.nanos += elapsedNanos;
+        counter.rows += rows;
+    }
+
+    @Override
+    public synchronized void cacheLookup(String method, boolean hit) {
+        Counter counter = cacheLookups.computeIfAbsent(method, k -> new Counter());
+        if (hit) {
+            counter.hits++;
+        }
+        else {
+            counter.misses++;
+        }
+    }
+
+    @Override
+    public void finished() {
+        try {
+            File directory = file.getAbsoluteFile().getParentFile();
+            if (directory != null) {
+                Files.createDirectories(directory.toPath());
+            }
+            Files.writeString(file.toPath(), toJson());
+            log.info("Wrote reverse engineering report " + file);
+        }
+        catch (IOException e) {
+            log.warn("Could not write reverse engineering report " + file, e);
+        }
+    }
+
+    public synchronized String toJson() {
+        long jdbcCalls = 0;
+        long rows = 0;
+        for (Counter counter : dialectCalls.values()) {
+            jdbcCalls += counter.count;
+            rows += counter.rows;
+        }
+        StringBuilder result = new StringBuilder("{\n");
+        result.append("  \"phases\" : {");
+        appendEntries(result, phases, counter -> "\"count\" : " + counter.count + ", \"millis\" : " + millis(counter.nanos));
+        result.append("},\n  \"dialectCalls\" : {");
+        appendEntries(result, dialectCalls, counter -> "\"count\" : " + counter.count + ", \"rows\" : " + counter.rows + ", \"millis\" : " + millis(counter.nanos));
+        result.append("},\n  \"cache\" : {");
+        appendEntries(result, cacheLookups, counter -> "\"hits\" : " + counter.hits + ", \"misses\" : " + counter.misses);
+        result.append("},\n  \"totals\" : { \"jdbcCalls\" : ").append(jdbcCalls)
+                .append(", \"rows\" : ").append(rows).append(" }\n}\n");
+        return result.toString();
+    }
+
+    private static void appendEntries(
+            StringBuilder builder,
+            Map<String, Counter> counters,
+            Function<Counter, String> fields) {
+        String separator = "\n";
+        for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+            builder.append(separator)
+                    .append("    \"").append(escape(entry.getKey())).append("\" : { ")
+                    .append(fields.apply(entry.getValue())).append(" }");
+            separator = ",\n";
+        }
+        if (!counters.isEmpty()) {
+            builder.append("\n  ");
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000d);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static class Counter {
+        long count;
+        long nanos;
+        long rows;
+        long hits;
+        long misses;
+    }
+
+}
@@ -19,6 +19,7 @@ package org.hibernate.tool.internal.reveng.dialect;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -30,6 +31,8 @@ import java.util.Map;
 
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.tool.api.reveng.RevengDialect;
+import org.hibernate.tool.api.reveng.RowIterator;
+import org.hibernate.tool.internal.reveng.dialect.PrefetchedMetaData.Kind;
 import org.jboss.logging.Logger;
 
 /**
@@ -48,12 +51,15 @@ public abstract class AbstractMetaDataDialect implements RevengDialect {
 
     private ConnectionProvider connectionProvider = null;
 
+    private final PrefetchedMetaData prefetchedMetaData = new PrefetchedMetaData();
+
     public void configure(
             ConnectionProvider connectionProvider) {
         this.connectionProvider = connectionProvider;
     }
 
     public void close() {
+        prefetchedMetaData.clear();
         metaData = null;
         if(connection != null) {
             try {
@@ -81,6 +87,77 @@ public abstract class AbstractMetaDataDialect implements RevengDialect {
         return metaData;
     }
 
+    protected PrefetchedMetaData getPrefetchedMetaData() {
+        return prefetchedMetaData;
+    }
+
+    /**
+     * Loads the rows returned by the query into the prefetched metadata.
+     * If the bulk query is not available (null) or fails, nothing is loaded
+     * and the per table methods keep querying the database.
+     */
+    protected void prefetch(
+            Kind kind,
+            String catalog,
+            String schema,
+            RowsQuery rowsQuery) {
+        if (prefetchedMetaData.isLoaded(kind, catalog, schema)) {
+            return;
+        }
+        Iterator<Map<String, Object>> rows = null;
+        try {
+            rows = rowsQuery.execute();
+            if (rows == null) {
+                log.debug("No bulk read of " + kind + " available for " + catalog + "." + schema);
+                return;
+            }
+            prefetchedMetaData.load(kind, catalog, schema, rows);
+        }
+        catch (SQLException | RuntimeException e) {
+            log.warn("Bulk read of " + kind + " failed for " + catalog + "." + schema + ", falling back to per table reads", e);
+        }
+        finally {
+            if (rows != null) {
+                try {
+                    close(rows);
+                }
+                catch (RuntimeException e) {
+                    log.warn("Exception while closing bulk " + kind + " meta data", e);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    protected interface RowsQuery {
+        Iterator<Map<String, Object>> execute() throws SQLException;
+    }
+
+    /**
+     * Runs a query returning a single row and joins its values into a fingerprint.
+     * Returns null when the query fails, so the caller treats the structure as unknown.
+     */
+    protected String queryFingerprint(String sql) {
+        try (PreparedStatement statement = getConnection().prepareStatement(sql);
+             ResultSet rs = statement.executeQuery()) {
+            if (!rs.next()) {
+                return null;
+            }
+            StringBuilder fingerprint = new StringBuilder();
+            for (int i = 1; i <= rs.getMetaData().getColumnCount(); i++) {
+                if (i > 1) {
+                    fingerprint.append('/');
+                }
+                fingerprint.append(rs.getString(i));
+            }
+            return fingerprint.toString();
+        }
+        catch (SQLException e) {
+            log.warn("Could not compute the database structure fingerprint", e);
+            return null;
+        }
+    }
+
     protected String getDatabaseStructure(String catalog, String schema) {
         ResultSet schemaRs = null;
         ResultSet catalogRs = null;
@@ -143,8 +220,11 @@ public abstract class AbstractMetaDataDialect implements RevengDialect {
     }
 
     public void close(Iterator<?> iterator) {
-        if(iterator instanceof ResultSetIterator) {
-            ((ResultSetIterator)iterator).close();
+        if(iterator instanceof AbstractResultSetIterator) {
+            ((AbstractResultSetIterator<?>)iterator).close();
+        }
+        else if(iterator instanceof RowIterator) {
+            ((RowIterator<?>)iterator).close();
         }
     }
 
@@ -18,6 +18,7 @@
 package org.hibernate.tool.internal.reveng.dialect;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -25,6 +26,8 @@ import java.util.Map;
 
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.tool.api.reveng.RevengDialect;
+import org.hibernate.tool.api.reveng.RevengListener;
+import org.hibernate.tool.internal.reveng.dialect.MetaDataSnapshotStore.Snapshot;
 
 public class CachedMetaDataDialect implements RevengDialect {
 
@@ -36,17 +39,78 @@ public class CachedMetaDataDialect implements RevengDialect {
     private final Map<StringKey, List<Map<String, Object>>> cachedIndexInfo = new HashMap<>();
     private final Map<StringKey, List<Map<String, Object>>> cachedPrimaryKeyStrategyName = new HashMap<>();
 
+    private final MetaDataSnapshotStore snapshotStore;
+    private boolean snapshotChecked = false;
+    private boolean snapshotUsed = false;
+    private boolean modified = false;
+    private long snapshotCreated;
+    private String fingerprint;
+    private boolean fingerprintComputed = false;
+    private RevengListener listener;
+
     public CachedMetaDataDialect(RevengDialect realMetaData) {
+        this(realMetaData, null);
+    }
+
+    /**
+     * @param snapshotStore store to load the cached rows from on the first configure
+     * and to write them to when the dialect is closed, or null to only cache in memory
+     */
+    public CachedMetaDataDialect(RevengDialect realMetaData, MetaDataSnapshotStore snapshotStore) {
         this.delegate = realMetaData;
+        this.snapshotStore = snapshotStore;
+    }
+
+    /**
+     * @param listener notified of every cache hit and miss, or null
+     */
+    public void setListener(RevengListener listener) {
+        this.listener = listener;
     }
 
     public void close() {
-        delegate.close();
+        try {
+            if (snapshotStore != null && modified) {
+                snapshotStore.save(createSnapshot());
+                modified = false;
+            }
+        }
+        finally {
+            fingerprintComputed = false;
+            delegate.close();
+        }
     }
 
     public void configure(
             ConnectionProvider connectionProvider) {
         delegate.configure(connectionProvider);
+        if (snapshotStore != null) {
+            // taken before anything is read: a change during the read then makes the
+            // saved snapshot stale instead of stamping it with the changed structure
+            getStructureFingerprint();
+            if (!snapshotChecked) {
+                snapshotChecked = true;
+                Snapshot snapshot = snapshotStore.load(this::getStructureFingerprint);
+                if (snapshot != null) {
+                    restoreSnapshot(snapshot);
+                }
+            }
+        }
+    }
+
+    public void prefetch(String catalog, String schema) {
+        // a snapshot already answers everything that was read before
+        if (!snapshotUsed) {
+            delegate.prefetch(catalog, schema);
+        }
+    }
+
+    public String getStructureFingerprint() {
+        if (!fingerprintComputed) {
+            fingerprint = delegate.getStructureFingerprint();
+            fingerprintComputed = true;
+        }
+        return fingerprint;
     }
 
     public void close(Iterator<?> iterator) {
@@ -64,6 +128,7 @@ public class CachedMetaDataDialect implements RevengDialect {
     public Iterator<Map<String, Object>> getColumns(String catalog, String schema, String table, String column) {
         StringKey sk = new StringKey(new String[] { catalog, schema, table, column });
         List<Map<String, Object>> cached = cachedColumns.get( sk );
+        cacheLookup("getColumns", cached != null);
         if(cached==null) {
             cached = new ArrayList<>();
             return new CachedIterator(this, cachedColumns, sk, cached, delegate.getColumns( catalog, schema, table, column ));
@@ -76,6 +141,7 @@ public class CachedMetaDataDialect implements RevengDialect {
     public Iterator<Map<String, Object>> getExportedKeys(String catalog, String schema, String table) {
         StringKey sk = new StringKey(new String[] { catalog, schema, table });
         List<Map<String, Object>> cached = cachedExportedKeys.get( sk );
+        cacheLookup("getExportedKeys", cached != null);
         if(cached==null) {
             cached = new ArrayList<>();
             return new CachedIterator(this, cachedExportedKeys, sk, cached, delegate.getExportedKeys( catalog, schema, table ));
@@ -88,6 +154,7 @@ public class CachedMetaDataDialect implements RevengDialect {
     public Iterator<Map<String, Object>> getIndexInfo(String catalog, String schema, String table) {
         StringKey sk = new StringKey(new String[] { catalog, schema, table });
         List<Map<String, Object>> cached = cachedIndexInfo.get( sk );
+        cacheLookup("getIndexInfo", cached != null);
         if(cached==null) {
             cached = new ArrayList<>();
             return new CachedIterator(this, cachedIndexInfo, sk, cached, delegate.getIndexInfo( catalog, schema, table ));
@@ -100,6 +167,7 @@ public class CachedMetaDataDialect implements RevengDialect {
     public Iterator<Map<String, Object>> getPrimaryKeys(String catalog, String schema, String name) {
         StringKey sk = new StringKey(new String[] { catalog, schema, name });
         List<Map<String, Object>> cached = cachedPrimaryKeys .get( sk );
+        cacheLookup("getPrimaryKeys", cached != null);
         if(cached==null) {
             cached = new ArrayList<>();
             return new CachedIterator(this, cachedPrimaryKeys, sk, cached, delegate.getPrimaryKeys( catalog, schema, name ));
@@ -112,6 +180,7 @@ public class CachedMetaDataDialect implements RevengDialect {
     public Iterator<Map<String, Object>> getTables(String catalog, String schema, String table) {
         StringKey sk = new StringKey(new String[] { catalog, schema, table });
         List<Map<String, Object>> cached = cachedTables.get( sk );
+        cacheLookup("getTables", cached != null);
         if(cached==null) {
             cached = new ArrayList<>();
             return new CachedIterator(this, cachedTables, sk, cached, delegate.getTables( catalog, schema, table ));
@@ -124,6 +193,7 @@ public class CachedMetaDataDialect implements RevengDialect {
     public Iterator<Map<String, Object>> getSuggestedPrimaryKeyStrategyName(String catalog, String schema, String table) {
         StringKey sk = new StringKey(new String[] { catalog, schema, table });
         List<Map<String, Object>> cached = cachedPrimaryKeyStrategyName.get( sk );
+        cacheLookup("getSuggestedPrimaryKeyStrategyName", cached != null);
         if(cached==null) {
             cached = new ArrayList<>();
             return new CachedIterator(this, cachedPrimaryKeyStrategyName, sk, cached, delegate.getSuggestedPrimaryKeyStrategyName( catalog, schema, table ));
@@ -137,6 +207,50 @@ public class CachedMetaDataDialect implements RevengDialect {
         return delegate.needQuote( name );
     }
 
+    private void cacheLookup(String method, boolean hit) {
+        if (listener != null) {
+            listener.cacheLookup(method, hit);
+        }
+    }
+
+    private Snapshot createSnapshot() {
+        Map<String, Map<List<String>, List<Map<String, Object>>>> rows = new HashMap<>();
+        rows.put("tables", toSnapshotRows(cachedTables));
+        rows.put("columns", toSnapshotRows(cachedColumns));
+        rows.put("exportedKeys", toSnapshotRows(cachedExportedKeys));
+        rows.put("primaryKeys", toSnapshotRows(cachedPrimaryKeys));
+        rows.put("indexInfo", toSnapshotRows(cachedIndexInfo));
+        rows.put("primaryKeyStrategyName", toSnapshotRows(cachedPrimaryKeyStrategyName));
+        return new Snapshot(
+                snapshotUsed ? snapshotCreated : System.currentTimeMillis(),
+                getStructureFingerprint(),
+                rows);
+    }
+
+    private void restoreSnapshot(Snapshot snapshot) {
+        Map<String, Map<List<String>, List<Map<String, Object>>>> rows = snapshot.rows();
+        fromSnapshotRows(rows.get("tables"), cachedTables);
+        fromSnapshotRows(rows.get("columns"), cachedColumns);
+        fromSnapshotRows(rows.get("exportedKeys"), cachedExportedKeys);
+        fromSnapshotRows(rows.get("primaryKeys"), cachedPrimaryKeys);
+        fromSnapshotRows(rows.get("indexInfo"), cachedIndexInfo);
+        fromSnapshotRows(rows.get("primaryKeyStrategyName"), cachedPrimaryKeyStrategyName);
+        snapshotCreated = snapshot.createdMillis();
+        snapshotUsed = true;
+    }
+
+    private static Map<List<String>, List<Map<String, Object>>> toSnapshotRows(Map<StringKey, List<Map<String, Object>>> cache) {
+        Map<List<String>, List<Map<String, Object>>> result = new HashMap<>();
+        cache.forEach((key, rows) -> result.put(new ArrayList<>(Arrays.asList(key.keys)), rows));
+        return result;
+    }
+
+    private static void fromSnapshotRows(Map<List<String>, List<Map<String, Object>>> rows, Map<StringKey, List<Map<String, Object>>> cache) {
+        if (rows != null) {
+            rows.forEach((key, value) -> cache.put(new StringKey(key.toArray(new String[0])), value));
+        }
+    }
+
     private static class StringKey {
         String[] keys;
 
@@ -216,6 +330,7 @@ public class CachedMetaDataDialect implements RevengDialect {
 
         public void store() {
             destination.put( target, cache );
+            owner.modified = true;
             if(realIterator.hasNext()) throw new IllegalStateException("CachedMetaDataDialect have not been fully initialized!");
             cache = null;
             target = null;
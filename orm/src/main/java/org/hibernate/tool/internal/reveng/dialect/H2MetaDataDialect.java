@@ -69,10 +69,30 @@ public class H2MetaDataDialect extends JDBCMetaDataDialect {
                     "   cols.COLUMN_NAME = idx_cols.COLUMN_NAME AND " +
                     "   cols.IS_IDENTITY = 'YES'";
 
+    private static final String SQL_H2_2_X_INDEX =
+            """
+                    select ic.TABLE_CATALOG as TABLE_CAT
+                          ,ic.TABLE_SCHEMA as TABLE_SCHEM
+                          ,ic.TABLE_NAME as TABLE_NAME
+                          ,ic.INDEX_NAME as INDEX_NAME
+                          ,ic.COLUMN_NAME as COLUMN_NAME
+                          ,case when i.INDEX_TYPE_NAME = 'PRIMARY KEY' or i.INDEX_TYPE_NAME like 'UNIQUE%' then false else true end as NON_UNIQUE
+                          ,3 as TYPE
+                      from INFORMATION_SCHEMA.INDEXES i
+                      join INFORMATION_SCHEMA.INDEX_COLUMNS ic
+                        on ic.INDEX_CATALOG = i.INDEX_CATALOG
+                           and ic.INDEX_SCHEMA = i.INDEX_SCHEMA
+                           and ic.INDEX_NAME = i.INDEX_NAME
+                     where 1 = 1
+                    """;
+
     private static boolean understandsCatalogName = true;
 
     private String suggested_primary_key_strategy_query = null;
 
+    // only H2 2.x has the standard constraint and index views
+    private boolean supportsInformationSchema = false;
+
     public H2MetaDataDialect() {
         super();
         try {
@@ -82,6 +102,7 @@ public class H2MetaDataDialect extends JDBCMetaDataDialect {
                 understandsCatalogName = false;
             }
             suggested_primary_key_strategy_query = build > 200 ? SPKSQ_H2_2_X : SPKSQ_H2_1_X;
+            supportsInformationSchema = build > 200;
         }
         catch( Throwable e ) {
             // ignore (probably H2 not in the classpath)
@@ -96,18 +117,34 @@ public class H2MetaDataDialect extends JDBCMetaDataDialect {
         element.put("TABLE_TYPE", tableType);
     }
 
-    protected void putTablePart(Map<String, Object> element, ResultSet tableRs) throws SQLException {
-        super.putTablePart( element, tableRs );
-        if ( !understandsCatalogName ) {
-            element.put( "TABLE_CAT", null );
-        }
+    protected String getTableCatalog(ResultSet rs) throws SQLException {
+        return understandsCatalogName ? super.getTableCatalog( rs ) : null;
+    }
+
+    protected String getPrimaryKeyTableCatalog(ResultSet rs) throws SQLException {
+        return understandsCatalogName ? super.getPrimaryKeyTableCatalog( rs ) : null;
     }
 
-    protected void putExportedKeysPart(Map<String, Object> element, ResultSet rs) throws SQLException {
-        super.putExportedKeysPart( element, rs );
-        if ( !understandsCatalogName ) {
-            element.put( "PKTABLE_CAT", null );
+    protected Iterator<Map<String, Object>> getSchemaPrimaryKeys(String catalog, String schema) throws SQLException {
+        return supportsInformationSchema ? getInformationSchemaPrimaryKeys(catalog, schema) : null;
+    }
+
+    protected Iterator<Map<String, Object>> getSchemaIndexInfo(String catalog, String schema) throws SQLException {
+        if (!supportsInformationSchema) {
+            return null;
         }
+        return querySchema(
+                SQL_H2_2_X_INDEX,
+                "ic.TABLE_CATALOG",
+                "ic.TABLE_SCHEMA",
+                "ic.TABLE_NAME, NON_UNIQUE, ic.INDEX_NAME, ic.ORDINAL_POSITION",
+                catalog,
+                schema,
+                this::putIndexInfoPart);
+    }
+
+    protected Iterator<Map<String, Object>> getSchemaExportedKeys(String catalog, String schema) throws SQLException {
+        return supportsInformationSchema ? getInformationSchemaExportedKeys(catalog, schema) : null;
     }
 
     public Iterator<Map<String, Object>> getSuggestedPrimaryKeyStrategyName(String catalog, String schema, String table) {
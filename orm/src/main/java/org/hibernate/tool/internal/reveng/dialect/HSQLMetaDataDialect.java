@@ -33,6 +33,41 @@ import org.hibernate.tool.internal.util.TableNameQualifier;
  */
 public class HSQLMetaDataDialect extends JDBCMetaDataDialect {
 
+    // the SYSTEM_* tables back the JDBC metadata calls and have the same columns
+
+    protected Iterator<Map<String, Object>> getSchemaPrimaryKeys(String catalog, String schema) throws SQLException {
+        return querySchema(
+                "select * from INFORMATION_SCHEMA.SYSTEM_PRIMARYKEYS where 1 = 1",
+                "TABLE_CAT",
+                "TABLE_SCHEM",
+                "TABLE_NAME, COLUMN_NAME",
+                catalog,
+                schema,
+                this::putPrimaryKeyPart);
+    }
+
+    protected Iterator<Map<String, Object>> getSchemaIndexInfo(String catalog, String schema) throws SQLException {
+        return querySchema(
+                "select * from INFORMATION_SCHEMA.SYSTEM_INDEXINFO where 1 = 1",
+                "TABLE_CAT",
+                "TABLE_SCHEM",
+                "TABLE_NAME, NON_UNIQUE, TYPE, INDEX_NAME, ORDINAL_POSITION",
+                catalog,
+                schema,
+                this::putIndexInfoPart);
+    }
+
+    protected Iterator<Map<String, Object>> getSchemaExportedKeys(String catalog, String schema) throws SQLException {
+        return querySchema(
+                "select * from INFORMATION_SCHEMA.SYSTEM_CROSSREFERENCE where 1 = 1",
+                "PKTABLE_CAT",
+                "PKTABLE_SCHEM",
+                "PKTABLE_NAME, FKTABLE_CAT, FKTABLE_SCHEM, FKTABLE_NAME, KEY_SEQ",
+                catalog,
+                schema,
+                this::putExportedKeysPart);
+    }
+
     private String quote(String columnName) {
         if(columnName==null) return null;
         if(needQuote(columnName)) {
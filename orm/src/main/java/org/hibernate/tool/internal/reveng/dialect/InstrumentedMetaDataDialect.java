@@ -0,0 +1,199 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.dialect;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.tool.api.reveng.ColumnRow;
+import org.hibernate.tool.api.reveng.ExportedKeyRow;
+import org.hibernate.tool.api.reveng.IndexRow;
+import org.hibernate.tool.api.reveng.PrimaryKeyRow;
+import org.hibernate.tool.api.reveng.RevengDialect;
+import org.hibernate.tool.api.reveng.RevengListener;
+import org.hibernate.tool.api.reveng.RowIterator;
+
+/**
+ * Reports every call on the wrapped dialect to a {@link RevengListener}, with
+ * the time spent in the call and in reading its rows and the number of rows read.
+ * A call is reported once, when its rows are exhausted or its iterator is closed.
+ */
+public class InstrumentedMetaDataDialect implements RevengDialect {
+
+    private final RevengDialect delegate;
+    private final RevengListener listener;
+
+    public InstrumentedMetaDataDialect(RevengDialect delegate, RevengListener listener) {
+        this.delegate = delegate;
+        this.listener = listener;
+    }
+
+    public void configure(ConnectionProvider connectionProvider) {
+        delegate.configure(connectionProvider);
+    }
+
+    public void prefetch(String catalog, String schema) {
+        long start = System.nanoTime();
+        delegate.prefetch(catalog, schema);
+        listener.dialectCallFinished("prefetch", System.nanoTime() - start, 0);
+    }
+
+    public String getStructureFingerprint() {
+        long start = System.nanoTime();
+        String result = delegate.getStructureFingerprint();
+        listener.dialectCallFinished("getStructureFingerprint", System.nanoTime() - start, 0);
+        return result;
+    }
+
+    public Iterator<Map<String, Object>> getTables(String catalog, String schema, String table) {
+        long start = System.nanoTime();
+        return instrument("getTables", delegate.getTables(catalog, schema, table), start);
+    }
+
+    public Iterator<Map<String, Object>> getIndexInfo(String catalog, String schema, String table) {
+        long start = System.nanoTime();
+        return instrument("getIndexInfo", delegate.getIndexInfo(catalog, schema, table), start);
+    }
+
+    public Iterator<Map<String, Object>> getColumns(String catalog, String schema, String table, String column) {
+        long start = System.nanoTime();
+        return instrument("getColumns", delegate.getColumns(catalog, schema, table, column), start);
+    }
+
+    public Iterator<Map<String, Object>> getPrimaryKeys(String catalog, String schema, String name) {
+        long start = System.nanoTime();
+        return instrument("getPrimaryKeys", delegate.getPrimaryKeys(catalog, schema, name), start);
+    }
+
+    public Iterator<Map<String, Object>> getExportedKeys(String catalog, String schema, String table) {
+        long start = System.nanoTime();
+        return instrument("getExportedKeys", delegate.getExportedKeys(catalog, schema, table), start);
+    }
+
+    public Iterator<Map<String, Object>> getSuggestedPrimaryKeyStrategyName(String catalog, String schema, String table) {
+        long start = System.nanoTime();
+        return instrument(
+                "getSuggestedPrimaryKeyStrategyName",
+                delegate.getSuggestedPrimaryKeyStrategyName(catalog, schema, table),
+                start);
+    }
+
+    public RowIterator<ColumnRow> getColumnRows(String catalog, String schema, String table, String column) {
+        long start = System.nanoTime();
+        return instrument("getColumns", delegate.getColumnRows(catalog, schema, table, column), start);
+    }
+
+    public RowIterator<PrimaryKeyRow> getPrimaryKeyRows(String catalog, String schema, String table) {
+        long start = System.nanoTime();
+        return instrument("getPrimaryKeys", delegate.getPrimaryKeyRows(catalog, schema, table), start);
+    }
+
+    public RowIterator<IndexRow> getIndexRows(String catalog, String schema, String table) {
+        long start = System.nanoTime();
+        return instrument("getIndexInfo", delegate.getIndexRows(catalog, schema, table), start);
+    }
+
+    public RowIterator<ExportedKeyRow> getExportedKeyRows(String catalog, String schema, String table) {
+        long start = System.nanoTime();
+        return instrument("getExportedKeys", delegate.getExportedKeyRows(catalog, schema, table), start);
+    }
+
+    public void close(Iterator<?> iterator) {
+        if (iterator instanceof InstrumentedIterator<?> instrumented && instrumented.owner == this) {
+            instrumented.finish();
+            delegate.close(instrumented.source);
+        }
+        else {
+            delegate.close(iterator);
+        }
+    }
+
+    public boolean needQuote(String name) {
+        return delegate.needQuote(name);
+    }
+
+    public void close() {
+        delegate.close();
+    }
+
+    private <T> Iterator<T> instrument(String method, Iterator<T> source, long start) {
+        return new InstrumentedIterator<>(this, method, source, System.nanoTime() - start);
+    }
+
+    private <T> RowIterator<T> instrument(String method, RowIterator<T> source, long start) {
+        InstrumentedIterator<T> instrumented = new InstrumentedIterator<>(this, method, source, System.nanoTime() - start);
+        return new RowIterator<>(instrumented, Function.identity(), () -> {
+            try {
+                source.close();
+            }
+            finally {
+                instrumented.finish();
+            }
+        });
+    }
+
+    private static class InstrumentedIterator<T> implements Iterator<T> {
+
+        private final InstrumentedMetaDataDialect owner;
+        private final String method;
+        private final Iterator<T> source;
+        private long nanos;
+        private long rows;
+        private boolean finished = false;
+
+        InstrumentedIterator(InstrumentedMetaDataDialect owner, String method, Iterator<T> source, long nanos) {
+            this.owner = owner;
+            this.method = method;
+            this.source = source;
+            this.nanos = nanos;
+        }
+
+        public boolean hasNext() {
+            long start = System.nanoTime();
+            boolean result = source.hasNext();
+            nanos += System.nanoTime() - start;
+            if (!result) {
+                finish();
+            }
+            return result;
+        }
+
+        public T next() {
+            long start = System.nanoTime();
+            T result = source.next();
+            nanos += System.nanoTime() - start;
+            rows++;
+            return result;
+        }
+
+        public void remove() {
+            source.remove();
+        }
+
+        void finish() {
+            if (!finished) {
+                finished = true;
+                owner.listener.dialectCallFinished(method, nanos, rows);
+            }
+        }
+
+    }
+
+}
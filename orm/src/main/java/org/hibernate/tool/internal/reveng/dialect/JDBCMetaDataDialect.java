@@ -17,12 +17,22 @@
  */
 package org.hibernate.tool.internal.reveng.dialect;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
+import org.hibernate.tool.api.reveng.ColumnRow;
+import org.hibernate.tool.api.reveng.ExportedKeyRow;
+import org.hibernate.tool.api.reveng.IndexRow;
+import org.hibernate.tool.api.reveng.PrimaryKeyRow;
+import org.hibernate.tool.api.reveng.RowIterator;
+import org.hibernate.tool.internal.reveng.dialect.PrefetchedMetaData.Kind;
 import org.hibernate.tool.internal.util.TableNameQualifier;
 
 /**
@@ -33,6 +43,172 @@ import org.hibernate.tool.internal.util.TableNameQualifier;
  */
 public class JDBCMetaDataDialect extends AbstractMetaDataDialect {
 
+    /* primary keys of a whole schema through the standard INFORMATION_SCHEMA views */
+    protected static final String SQL_INFORMATION_SCHEMA_PK =
+            """
+                    select tc.TABLE_CATALOG as TABLE_CAT
+                          ,tc.TABLE_SCHEMA as TABLE_SCHEM
+                          ,tc.TABLE_NAME as TABLE_NAME
+                          ,kcu.COLUMN_NAME as COLUMN_NAME
+                          ,kcu.ORDINAL_POSITION as KEY_SEQ
+                          ,tc.CONSTRAINT_NAME as PK_NAME
+                      from INFORMATION_SCHEMA.TABLE_CONSTRAINTS tc
+                      join INFORMATION_SCHEMA.KEY_COLUMN_USAGE kcu
+                        on kcu.CONSTRAINT_CATALOG = tc.CONSTRAINT_CATALOG
+                           and kcu.CONSTRAINT_SCHEMA = tc.CONSTRAINT_SCHEMA
+                           and kcu.CONSTRAINT_NAME = tc.CONSTRAINT_NAME
+                           and kcu.TABLE_NAME = tc.TABLE_NAME
+                     where tc.CONSTRAINT_TYPE = 'PRIMARY KEY'
+                    """;
+
+    /* exported keys of a whole schema through the standard INFORMATION_SCHEMA views */
+    protected static final String SQL_INFORMATION_SCHEMA_FK =
+            """
+                    select pk.TABLE_CATALOG as PKTABLE_CAT
+                          ,pk.TABLE_SCHEMA as PKTABLE_SCHEM
+                          ,pk.TABLE_NAME as PKTABLE_NAME
+                          ,pk.COLUMN_NAME as PKCOLUMN_NAME
+                          ,fk.TABLE_CATALOG as FKTABLE_CAT
+                          ,fk.TABLE_SCHEMA as FKTABLE_SCHEM
+                          ,fk.TABLE_NAME as FKTABLE_NAME
+                          ,fk.COLUMN_NAME as FKCOLUMN_NAME
+                          ,rc.CONSTRAINT_NAME as FK_NAME
+                          ,fk.ORDINAL_POSITION as KEY_SEQ
+                      from INFORMATION_SCHEMA.REFERENTIAL_CONSTRAINTS rc
+                      join INFORMATION_SCHEMA.KEY_COLUMN_USAGE fk
+                        on fk.CONSTRAINT_CATALOG = rc.CONSTRAINT_CATALOG
+                           and fk.CONSTRAINT_SCHEMA = rc.CONSTRAINT_SCHEMA
+                           and fk.CONSTRAINT_NAME = rc.CONSTRAINT_NAME
+                      join INFORMATION_SCHEMA.KEY_COLUMN_USAGE pk
+                        on pk.CONSTRAINT_CATALOG = rc.UNIQUE_CONSTRAINT_CATALOG
+                           and pk.CONSTRAINT_SCHEMA = rc.UNIQUE_CONSTRAINT_SCHEMA
+                           and pk.CONSTRAINT_NAME = rc.UNIQUE_CONSTRAINT_NAME
+                           and pk.ORDINAL_POSITION = fk.POSITION_IN_UNIQUE_CONSTRAINT
+                     where 1 = 1
+                    """;
+
+    /**
+     * Reads all columns of the schema through the standard search patterns of
+     * {@link java.sql.DatabaseMetaData#getColumns}. Primary keys, indexes and
+     * exported keys require an exact table name in JDBC, so those are only read
+     * in bulk by subclasses that override the <code>getSchema*</code> methods.
+     */
+    public void prefetch(String xcatalog, String xschema) {
+        try {
+            final String catalog = caseForSearch( xcatalog );
+            final String schema = caseForSearch( xschema );
+
+            log.debug("prefetch(" + catalog + "." + schema + ")");
+            prefetch(Kind.COLUMNS, catalog, schema, () -> getColumns(xcatalog, xschema, "%", null));
+            prefetch(Kind.PRIMARY_KEYS, catalog, schema, () -> getSchemaPrimaryKeys(catalog, schema));
+            prefetch(Kind.INDEX_INFO, catalog, schema, () -> getSchemaIndexInfo(catalog, schema));
+            prefetch(Kind.EXPORTED_KEYS, catalog, schema, () -> getSchemaExportedKeys(catalog, schema));
+        }
+        catch (SQLException e) {
+            throw new RuntimeException("Error while prefetching meta data for " + TableNameQualifier.qualify(xcatalog, xschema, null), e);
+        }
+    }
+
+    /**
+     * @return the primary key rows of all tables in the schema, or null if not supported
+     */
+    protected Iterator<Map<String, Object>> getSchemaPrimaryKeys(String catalog, String schema) throws SQLException {
+        return null;
+    }
+
+    /**
+     * @return the index rows of all tables in the schema, or null if not supported
+     */
+    protected Iterator<Map<String, Object>> getSchemaIndexInfo(String catalog, String schema) throws SQLException {
+        return null;
+    }
+
+    /**
+     * @return the exported key rows of all tables in the schema, or null if not supported
+     */
+    protected Iterator<Map<String, Object>> getSchemaExportedKeys(String catalog, String schema) throws SQLException {
+        return null;
+    }
+
+    protected Iterator<Map<String, Object>> getInformationSchemaPrimaryKeys(String catalog, String schema) throws SQLException {
+        return querySchema(
+                SQL_INFORMATION_SCHEMA_PK,
+                "tc.TABLE_CATALOG",
+                "tc.TABLE_SCHEMA",
+                "tc.TABLE_NAME, kcu.ORDINAL_POSITION",
+                catalog,
+                schema,
+                this::putPrimaryKeyPart);
+    }
+
+    protected Iterator<Map<String, Object>> getInformationSchemaExportedKeys(String catalog, String schema) throws SQLException {
+        return querySchema(
+                SQL_INFORMATION_SCHEMA_FK,
+                "pk.TABLE_CATALOG",
+                "pk.TABLE_SCHEMA",
+                "pk.TABLE_NAME, fk.TABLE_CATALOG, fk.TABLE_SCHEMA, fk.TABLE_NAME, fk.ORDINAL_POSITION",
+                catalog,
+                schema,
+                this::putExportedKeysPart);
+    }
+
+    /**
+     * Runs a query over the whole schema, appending a <code>like</code> restriction
+     * for the catalog and schema columns when they are given.
+     * The query must already contain a <code>where</code> clause.
+     */
+    protected Iterator<Map<String, Object>> querySchema(
+            String query,
+            String catalogColumn,
+            String schemaColumn,
+            String orderBy,
+            final String catalog,
+            final String schema,
+            final RowPart rowPart) throws SQLException {
+        StringBuilder sql = new StringBuilder(query);
+        List<String> parameters = new ArrayList<>();
+        if (catalog != null && catalogColumn != null) {
+            sql.append(" and ").append(catalogColumn).append(" like ?");
+            parameters.add(catalog);
+        }
+        if (schema != null && schemaColumn != null) {
+            sql.append(" and ").append(schemaColumn).append(" like ?");
+            parameters.add(schema);
+        }
+        if (orderBy != null) {
+            sql.append(" order by ").append(orderBy);
+        }
+        log.debug("querySchema(" + sql + ")");
+        PreparedStatement statement = getConnection().prepareStatement(sql.toString());
+        try {
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setString(i + 1, parameters.get(i));
+            }
+            return new ResultSetIterator(statement, statement.executeQuery()) {
+
+                final Map<String, Object> element = new HashMap<>();
+                protected Map<String, Object> convertRow(ResultSet rs) throws SQLException {
+                    element.clear();
+                    rowPart.put(element, rs);
+                    return element;
+                }
+                protected Throwable handleSQLException(SQLException e) {
+                    throw new RuntimeException(
+                            "Error while reading meta data for " + TableNameQualifier.qualify(catalog, schema, null), e);
+                }
+            };
+        }
+        catch (SQLException e) {
+            statement.close();
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    protected interface RowPart {
+        void put(Map<String, Object> element, ResultSet rs) throws SQLException;
+    }
+
     public Iterator<Map<String,Object>> getTables(String xcatalog, String xschema, String xtable) {
         try {
             final String catalog = caseForSearch( xcatalog );
@@ -73,31 +249,33 @@ public class JDBCMetaDataDialect extends AbstractMetaDataDialect {
     }
 
     public Iterator<Map<String, Object>> getIndexInfo(final String xcatalog, final String xschema, final String xtable) {
+        return RowIterator.toMaps(getIndexRows(xcatalog, xschema, xtable), IndexRow::toMap);
+    }
+
+    public RowIterator<IndexRow> getIndexRows(final String xcatalog, final String xschema, final String xtable) {
         try {
             final String catalog = caseForSearch( xcatalog );
             final String schema = caseForSearch( xschema );
             final String table = caseForSearch( xtable );
 
+            Iterator<Map<String, Object>> prefetched = getPrefetchedMetaData().get(Kind.INDEX_INFO, catalog, schema, table);
+            if (prefetched != null) {
+                return RowIterator.adapt(this, prefetched, IndexRow::fromMap);
+            }
+
             log.debug("getIndexInfo(" + catalog + "." + schema + "." + table + ")");
             ResultSet tableRs = getMetaData().getIndexInfo(catalog , schema , table, false, true);
 
-            return new ResultSetIterator(tableRs) {
+            return rows(new AbstractResultSetIterator<IndexRow>(tableRs) {
 
-                final Map<String, Object> element = new HashMap<>();
-                protected Map<String, Object> convertRow(ResultSet rs) throws SQLException {
-                    element.clear();
-                    putTablePart(element, rs);
-                    element.put("INDEX_NAME", rs.getString("INDEX_NAME"));
-                    element.put("COLUMN_NAME", rs.getString("COLUMN_NAME"));
-                    element.put("NON_UNIQUE", rs.getBoolean( "NON_UNIQUE" ) );
-                    element.put("TYPE", rs.getShort( "TYPE" ) );
-                    return element;
+                protected IndexRow convertRow(ResultSet rs) throws SQLException {
+                    return readIndexRow(rs);
                 }
                 protected Throwable handleSQLException(SQLException e) {
                     throw new RuntimeException(
                             "Exception while getting index info for " + TableNameQualifier.qualify(catalog, schema, table), e);
                 }
-            };
+            });
         }
         catch (SQLException e) {
             throw new RuntimeException(
@@ -105,6 +283,25 @@ public class JDBCMetaDataDialect extends AbstractMetaDataDialect {
         }
     }
 
+    protected IndexRow readIndexRow(ResultSet rs) throws SQLException {
+        return new IndexRow(
+                getTableCatalog(rs),
+                rs.getString("TABLE_SCHEM"),
+                rs.getString("TABLE_NAME"),
+                rs.getString("INDEX_NAME"),
+                rs.getString("COLUMN_NAME"),
+                rs.getBoolean("NON_UNIQUE"),
+                rs.getShort("TYPE"));
+    }
+
+    protected void putIndexInfoPart(Map<String, Object> element, ResultSet rs) throws SQLException {
+        putTablePart(element, rs);
+        element.put("INDEX_NAME", rs.getString("INDEX_NAME"));
+        element.put("COLUMN_NAME", rs.getString("COLUMN_NAME"));
+        element.put("NON_UNIQUE", rs.getBoolean( "NON_UNIQUE" ) );
+        element.put("TYPE", rs.getShort( "TYPE" ) );
+    }
+
     protected void putTableType(Map<String, Object> element, ResultSet tableRs) throws SQLException {
         element.put("TABLE_TYPE", tableRs.getString("TABLE_TYPE"));
     }
@@ -112,70 +309,106 @@ public class JDBCMetaDataDialect extends AbstractMetaDataDialect {
     protected void putTablePart(Map<String, Object> element, ResultSet tableRs) throws SQLException {
         element.put("TABLE_NAME", tableRs.getString("TABLE_NAME"));
         element.put("TABLE_SCHEM", tableRs.getString("TABLE_SCHEM"));
-        element.put("TABLE_CAT", tableRs.getString("TABLE_CAT"));
+        element.put("TABLE_CAT", getTableCatalog(tableRs));
+    }
+
+    /**
+     * @return the value of the <code>TABLE_CAT</code> column, as the rest of the dialect should see it
+     */
+    protected String getTableCatalog(ResultSet rs) throws SQLException {
+        return rs.getString("TABLE_CAT");
     }
 
     public Iterator<Map<String, Object>> getColumns(final String xcatalog, final String xschema, final String xtable, String xcolumn) {
+        return RowIterator.toMaps(getColumnRows(xcatalog, xschema, xtable, xcolumn), ColumnRow::toMap);
+    }
+
+    public RowIterator<ColumnRow> getColumnRows(final String xcatalog, final String xschema, final String xtable, String xcolumn) {
         try {
             final String catalog = caseForSearch( xcatalog );
             final String schema = caseForSearch( xschema );
             final String table = caseForSearch( xtable );
             final String column = caseForSearch( xcolumn );
 
+            if (column == null || "%".equals(column)) {
+                Iterator<Map<String, Object>> prefetched = getPrefetchedMetaData().get(Kind.COLUMNS, catalog, schema, table);
+                if (prefetched != null) {
+                    return RowIterator.adapt(this, prefetched, ColumnRow::fromMap);
+                }
+            }
+
             log.debug("getColumns(" + catalog + "." + schema + "." + table + "." + column + ")");
             ResultSet tableRs = getMetaData().getColumns(catalog, schema, table, column);
 
-            return new ResultSetIterator(tableRs) {
+            return rows(new AbstractResultSetIterator<ColumnRow>(tableRs) {
 
-                final Map<String, Object> element = new HashMap<>();
-                protected Map<String, Object> convertRow(ResultSet rs) throws SQLException {
-                    element.clear();
-                    putTablePart(element, rs);
-                    element.put("DATA_TYPE", rs.getInt( "DATA_TYPE" ) );
-                    element.put("TYPE_NAME", rs.getString("TYPE_NAME"));
-                    element.put("COLUMN_NAME", rs.getString("COLUMN_NAME"));
-                    element.put("NULLABLE", rs.getInt( "NULLABLE" ) );
-                    element.put("COLUMN_SIZE", rs.getInt( "COLUMN_SIZE" ) );
-                    element.put("DECIMAL_DIGITS", rs.getInt( "DECIMAL_DIGITS" ) );
-                    element.put("REMARKS", rs.getString("REMARKS"));
-                    return element;
+                protected ColumnRow convertRow(ResultSet rs) throws SQLException {
+                    return readColumnRow(rs);
                 }
                 protected Throwable handleSQLException(SQLException e) {
                     throw new RuntimeException("Error while reading column meta data for " + TableNameQualifier.qualify(catalog, schema, table), e);
                 }
-            };
+            });
         }
         catch (SQLException e) {
             throw new RuntimeException("Error while reading column meta data for " + TableNameQualifier.qualify(xcatalog, xschema, xtable), e);
         }
     }
 
+    protected ColumnRow readColumnRow(ResultSet rs) throws SQLException {
+        return new ColumnRow(
+                getTableCatalog(rs),
+                rs.getString("TABLE_SCHEM"),
+                rs.getString("TABLE_NAME"),
+                rs.getString("COLUMN_NAME"),
+                rs.getInt("DATA_TYPE"),
+                rs.getString("TYPE_NAME"),
+                rs.getInt("NULLABLE"),
+                rs.getInt("COLUMN_SIZE"),
+                rs.getInt("DECIMAL_DIGITS"),
+                rs.getString("REMARKS"));
+    }
+
+    protected void putColumnPart(Map<String, Object> element, ResultSet rs) throws SQLException {
+        putTablePart(element, rs);
+        element.put("DATA_TYPE", rs.getInt( "DATA_TYPE" ) );
+        element.put("TYPE_NAME", rs.getString("TYPE_NAME"));
+        element.put("COLUMN_NAME", rs.getString("COLUMN_NAME"));
+        element.put("NULLABLE", rs.getInt( "NULLABLE" ) );
+        element.put("COLUMN_SIZE", rs.getInt( "COLUMN_SIZE" ) );
+        element.put("DECIMAL_DIGITS", rs.getInt( "DECIMAL_DIGITS" ) );
+        element.put("REMARKS", rs.getString("REMARKS"));
+    }
+
     public Iterator<Map<String, Object>> getPrimaryKeys(final String xcatalog, final String xschema, final String xtable) {
+        return RowIterator.toMaps(getPrimaryKeyRows(xcatalog, xschema, xtable), PrimaryKeyRow::toMap);
+    }
+
+    public RowIterator<PrimaryKeyRow> getPrimaryKeyRows(final String xcatalog, final String xschema, final String xtable) {
         try {
             final String catalog = caseForSearch( xcatalog );
             final String schema = caseForSearch( xschema );
             final String table = caseForSearch( xtable );
 
+            Iterator<Map<String, Object>> prefetched = getPrefetchedMetaData().get(Kind.PRIMARY_KEYS, catalog, schema, table);
+            if (prefetched != null) {
+                return RowIterator.adapt(this, prefetched, PrimaryKeyRow::fromMap);
+            }
+
             log.debug("getPrimaryKeys(" + catalog + "." + schema + "." + table + ")");
             ResultSet tableRs = getMetaData().getPrimaryKeys(catalog, schema, table);
 
-            return new ResultSetIterator(tableRs) {
+            return rows(new AbstractResultSetIterator<PrimaryKeyRow>(tableRs) {
 
-                final Map<String, Object> element = new HashMap<>();
-                protected Map<String, Object> convertRow(ResultSet rs) throws SQLException {
-                    element.clear();
-                    putTablePart(element, rs);
-                    element.put("COLUMN_NAME", rs.getString("COLUMN_NAME"));
-                    element.put("KEY_SEQ", rs.getShort( "KEY_SEQ" ) );
-                    element.put("PK_NAME", rs.getString("PK_NAME"));
-                    return element;
+                protected PrimaryKeyRow convertRow(ResultSet rs) throws SQLException {
+                    return readPrimaryKeyRow(rs);
                 }
                 protected Throwable handleSQLException(SQLException e) {
                     throw new RuntimeException(
                             "Error while reading primary key meta data for " + TableNameQualifier.qualify(catalog, schema, table),
                             e);
                 }
-            };
+            });
         }
         catch (SQLException e) {
             throw new RuntimeException(
@@ -183,28 +416,51 @@ public class JDBCMetaDataDialect extends AbstractMetaDataDialect {
         }
     }
 
+    protected PrimaryKeyRow readPrimaryKeyRow(ResultSet rs) throws SQLException {
+        return new PrimaryKeyRow(
+                getTableCatalog(rs),
+                rs.getString("TABLE_SCHEM"),
+                rs.getString("TABLE_NAME"),
+                rs.getString("COLUMN_NAME"),
+                rs.getShort("KEY_SEQ"),
+                rs.getString("PK_NAME"));
+    }
+
+    protected void putPrimaryKeyPart(Map<String, Object> element, ResultSet rs) throws SQLException {
+        putTablePart(element, rs);
+        element.put("COLUMN_NAME", rs.getString("COLUMN_NAME"));
+        element.put("KEY_SEQ", rs.getShort( "KEY_SEQ" ) );
+        element.put("PK_NAME", rs.getString("PK_NAME"));
+    }
+
     public Iterator<Map<String, Object>> getExportedKeys(final String xcatalog, final String xschema, final String xtable) {
+        return RowIterator.toMaps(getExportedKeyRows(xcatalog, xschema, xtable), ExportedKeyRow::toMap);
+    }
+
+    public RowIterator<ExportedKeyRow> getExportedKeyRows(final String xcatalog, final String xschema, final String xtable) {
         try {
             final String catalog = caseForSearch( xcatalog );
             final String schema = caseForSearch( xschema );
             final String table = caseForSearch( xtable );
 
+            Iterator<Map<String, Object>> prefetched = getPrefetchedMetaData().get(Kind.EXPORTED_KEYS, catalog, schema, table);
+            if (prefetched != null) {
+                return RowIterator.adapt(this, prefetched, ExportedKeyRow::fromMap);
+            }
+
             log.debug("getExportedKeys(" + catalog + "." + schema + "." + table + ")");
             ResultSet tableRs = getMetaData().getExportedKeys(catalog, schema, table);
 
-            return new ResultSetIterator(tableRs) {
+            return rows(new AbstractResultSetIterator<ExportedKeyRow>(tableRs) {
 
-                final Map<String, Object> element = new HashMap<>();
-                protected Map<String, Object> convertRow(ResultSet rs) throws SQLException {
-                    element.clear();
-                    putExportedKeysPart( element, rs );
-                    return element;
+                protected ExportedKeyRow convertRow(ResultSet rs) throws SQLException {
+                    return readExportedKeyRow(rs);
                 }
                 protected Throwable handleSQLException(SQLException e) {
                     throw new RuntimeException(
                             "Error while reading exported keys meta data for " + TableNameQualifier.qualify(catalog, schema, table), e);
                 }
-            };
+            });
         }
         catch (SQLException e) {
             throw new RuntimeException(
@@ -212,10 +468,24 @@ public class JDBCMetaDataDialect extends AbstractMetaDataDialect {
         }
     }
 
+    protected ExportedKeyRow readExportedKeyRow(ResultSet rs) throws SQLException {
+        return new ExportedKeyRow(
+                getPrimaryKeyTableCatalog(rs),
+                rs.getString("PKTABLE_SCHEM"),
+                rs.getString("PKTABLE_NAME"),
+                rs.getString("PKCOLUMN_NAME"),
+                rs.getString("FKTABLE_CAT"),
+                rs.getString("FKTABLE_SCHEM"),
+                rs.getString("FKTABLE_NAME"),
+                rs.getString("FKCOLUMN_NAME"),
+                rs.getShort("KEY_SEQ"),
+                rs.getString("FK_NAME"));
+    }
+
     protected void putExportedKeysPart(Map<String, Object> element, ResultSet rs) throws SQLException {
         element.put( "PKTABLE_NAME", rs.getString("PKTABLE_NAME"));
         element.put( "PKTABLE_SCHEM", rs.getString("PKTABLE_SCHEM"));
-        element.put( "PKTABLE_CAT", rs.getString("PKTABLE_CAT"));
+        element.put( "PKTABLE_CAT", getPrimaryKeyTableCatalog(rs));
         element.put( "FKTABLE_CAT", rs.getString("FKTABLE_CAT"));
         element.put( "FKTABLE_SCHEM",rs.getString("FKTABLE_SCHEM"));
         element.put( "FKTABLE_NAME", rs.getString("FKTABLE_NAME"));
@@ -225,4 +495,15 @@ public class JDBCMetaDataDialect extends AbstractMetaDataDialect {
         element.put( "KEY_SEQ", rs.getShort( "KEY_SEQ" ) );
     }
 
+    /**
+     * @return the value of the <code>PKTABLE_CAT</code> column, as the rest of the dialect should see it
+     */
+    protected String getPrimaryKeyTableCatalog(ResultSet rs) throws SQLException {
+        return rs.getString("PKTABLE_CAT");
+    }
+
+    private <T> RowIterator<T> rows(AbstractResultSetIterator<T> iterator) {
+        return new RowIterator<>(iterator, Function.identity(), iterator::close);
+    }
+
 }
@@ -0,0 +1,193 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.dialect;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.tool.api.metadata.MetadataConstants;
+import org.jboss.logging.Logger;
+
+/**
+ * Stores the rows cached by a {@link CachedMetaDataDialect} in a compressed
+ * file, so later runs against the same database can skip reading the metadata.
+ *
+ * The file name is derived from the JDBC url, the user and the schema selection.
+ * A stored snapshot is used when it is younger than the configured time to live,
+ * or when the structure fingerprint of the database did not change since it was
+ * written. Without either check a snapshot is never trusted.
+ */
+public class MetaDataSnapshotStore {
+
+    private static final Logger log = Logger.getLogger(MetaDataSnapshotStore.class);
+
+    private static final int FORMAT_VERSION = 1;
+
+    // rows only contain strings, numbers and booleans
+    private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=12;java.lang.*;java.util.*;java.math.*;"
+                    + Snapshot.class.getName() + ";!*");
+
+    /**
+     * @return the store configured by {@link MetadataConstants#METADATA_SNAPSHOT_DIR},
+     * or null if snapshots are not enabled
+     */
+    public static MetaDataSnapshotStore create(Properties properties, String schemaSelection) {
+        String directory = properties.getProperty(MetadataConstants.METADATA_SNAPSHOT_DIR);
+        if (directory == null || directory.isBlank()) {
+            return null;
+        }
+        String url = properties.getProperty(AvailableSettings.JAKARTA_JDBC_URL);
+        String user = properties.getProperty(AvailableSettings.JAKARTA_JDBC_USER);
+        String ttl = properties.getProperty(MetadataConstants.METADATA_SNAPSHOT_TTL);
+        return new MetaDataSnapshotStore(
+                Path.of(directory.trim()).resolve(fileName(url, user, schemaSelection)),
+                ttl == null || ttl.isBlank() ? -1 : Long.parseLong(ttl.trim()) * 1000);
+    }
+
+    private final Path file;
+    private final long timeToLiveMillis;
+
+    MetaDataSnapshotStore(Path file, long timeToLiveMillis) {
+        this.file = file;
+        this.timeToLiveMillis = timeToLiveMillis;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @param currentFingerprint computes the fingerprint of the database, only called
+     * when the time to live does not already decide
+     * @return the stored snapshot if it is still fresh, otherwise null
+     */
+    public Snapshot load(Supplier<String> currentFingerprint) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        Snapshot snapshot = read();
+        if (snapshot == null) {
+            return null;
+        }
+        long age = System.currentTimeMillis() - snapshot.createdMillis();
+        if (timeToLiveMillis >= 0 && age <= timeToLiveMillis) {
+            log.debug("Using metadata snapshot " + file + " (age " + age + "ms)");
+            return snapshot;
+        }
+        if (snapshot.fingerprint() != null && snapshot.fingerprint().equals(currentFingerprint.get())) {
+            log.debug("Using metadata snapshot " + file + " (structure unchanged)");
+            return snapshot;
+        }
+        log.info("Metadata snapshot " + file + " is stale, reading from the database");
+        return null;
+    }
+
+    /**
+     * Writes the snapshot to a temporary file first and then moves it in place,
+     * so concurrent builds never see a partially written file.
+     */
+    public void save(Snapshot snapshot) {
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(temp);
+                     ObjectOutputStream oos = new ObjectOutputStream(new GZIPOutputStream(out))) {
+                    oos.writeInt(FORMAT_VERSION);
+                    oos.writeObject(snapshot);
+                }
+                move(temp);
+            }
+            finally {
+                Files.deleteIfExists(temp);
+            }
+            log.debug("Wrote metadata snapshot " + file);
+        }
+        catch (IOException | RuntimeException e) {
+            log.warn("Could not write metadata snapshot " + file, e);
+        }
+    }
+
+    private Snapshot read() {
+        try (InputStream in = Files.newInputStream(file);
+             ObjectInputStream ois = new ObjectInputStream(new GZIPInputStream(in))) {
+            ois.setObjectInputFilter(FILTER);
+            if (ois.readInt() != FORMAT_VERSION) {
+                log.info("Ignoring metadata snapshot " + file + " written in another format");
+                return null;
+            }
+            return (Snapshot) ois.readObject();
+        }
+        catch (IOException | ClassNotFoundException | ClassCastException e) {
+            log.warn("Could not read metadata snapshot " + file + ", ignoring it", e);
+            return null;
+        }
+    }
+
+    private void move(Path temp) throws IOException {
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String fileName(String url, String user, String schemaSelection) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String key = url + '\u0000' + user + '\u0000' + schemaSelection;
+            return "metadata-" + HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8))) + ".snapshot";
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * The cached rows per dialect method, keyed by the arguments of the call.
+     */
+    public record Snapshot(
+            long createdMillis,
+            String fingerprint,
+            Map<String, Map<List<String>, List<Map<String, Object>>>> rows) implements Serializable {
+    }
+
+}
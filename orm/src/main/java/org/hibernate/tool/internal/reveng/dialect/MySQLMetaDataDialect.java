@@ -24,8 +24,86 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
+import org.hibernate.tool.api.reveng.ColumnRow;
+import org.hibernate.tool.api.reveng.RowIterator;
+
 public class MySQLMetaDataDialect extends JDBCMetaDataDialect {
 
+    // MySQL reports its databases as JDBC catalogs, which are the schemas of INFORMATION_SCHEMA
+
+    private static final String SQL_PK =
+            """
+                    select TABLE_SCHEMA as TABLE_CAT
+                          ,null as TABLE_SCHEM
+                          ,TABLE_NAME
+                          ,COLUMN_NAME
+                          ,ORDINAL_POSITION as KEY_SEQ
+                          ,CONSTRAINT_NAME as PK_NAME
+                      from INFORMATION_SCHEMA.KEY_COLUMN_USAGE
+                     where CONSTRAINT_NAME = 'PRIMARY'
+                    """;
+
+    private static final String SQL_INDEX =
+            """
+                    select TABLE_SCHEMA as TABLE_CAT
+                          ,null as TABLE_SCHEM
+                          ,TABLE_NAME
+                          ,INDEX_NAME
+                          ,COLUMN_NAME
+                          ,NON_UNIQUE
+                          ,3 as TYPE
+                      from INFORMATION_SCHEMA.STATISTICS
+                     where 1 = 1
+                    """;
+
+    private static final String SQL_FK =
+            """
+                    select REFERENCED_TABLE_SCHEMA as PKTABLE_CAT
+                          ,null as PKTABLE_SCHEM
+                          ,REFERENCED_TABLE_NAME as PKTABLE_NAME
+                          ,REFERENCED_COLUMN_NAME as PKCOLUMN_NAME
+                          ,TABLE_SCHEMA as FKTABLE_CAT
+                          ,null as FKTABLE_SCHEM
+                          ,TABLE_NAME as FKTABLE_NAME
+                          ,COLUMN_NAME as FKCOLUMN_NAME
+                          ,CONSTRAINT_NAME as FK_NAME
+                          ,ORDINAL_POSITION as KEY_SEQ
+                      from INFORMATION_SCHEMA.KEY_COLUMN_USAGE
+                     where REFERENCED_TABLE_NAME is not null
+                    """;
+
+    private static final String SQL_FINGERPRINT =
+            """
+                    select (select count(*) from INFORMATION_SCHEMA.COLUMNS)
+                          ,(select sum(crc32(concat_ws('|', TABLE_SCHEMA, TABLE_NAME, COLUMN_NAME, ORDINAL_POSITION, COLUMN_TYPE, IS_NULLABLE, COLUMN_KEY)))
+                              from INFORMATION_SCHEMA.COLUMNS)
+                          ,(select sum(crc32(concat_ws('|', TABLE_SCHEMA, TABLE_NAME, CONSTRAINT_NAME, COLUMN_NAME, REFERENCED_TABLE_NAME, REFERENCED_COLUMN_NAME)))
+                              from INFORMATION_SCHEMA.KEY_COLUMN_USAGE)
+                    """;
+
+    public String getStructureFingerprint() {
+        return queryFingerprint(SQL_FINGERPRINT);
+    }
+
+    protected Iterator<Map<String, Object>> getSchemaPrimaryKeys(String catalog, String schema) throws SQLException {
+        return querySchema(SQL_PK, "TABLE_SCHEMA", null, "TABLE_NAME, ORDINAL_POSITION", catalog, schema, this::putPrimaryKeyPart);
+    }
+
+    protected Iterator<Map<String, Object>> getSchemaIndexInfo(String catalog, String schema) throws SQLException {
+        return querySchema(SQL_INDEX, "TABLE_SCHEMA", null, "TABLE_NAME, NON_UNIQUE, INDEX_NAME, SEQ_IN_INDEX", catalog, schema, this::putIndexInfoPart);
+    }
+
+    protected Iterator<Map<String, Object>> getSchemaExportedKeys(String catalog, String schema) throws SQLException {
+        return querySchema(
+                SQL_FK,
+                "REFERENCED_TABLE_SCHEMA",
+                null,
+                "REFERENCED_TABLE_NAME, TABLE_SCHEMA, TABLE_NAME, ORDINAL_POSITION",
+                catalog,
+                schema,
+                this::putExportedKeysPart);
+    }
+
     /**
      * Based on info from <a href="http://dev.mysql.com/doc/refman/5.0/en/show-table-status.html">...</a>
      * Should work on pre-mysql 5 too since it uses the "old" SHOW TABLE command instead of SELECT from infotable.
@@ -84,13 +162,14 @@ public class MySQLMetaDataDialect extends JDBCMetaDataDialect {
         return super.getTables(xcatalog, xschema, xtable != null ? xtable : "%");
     }
 
-    public Iterator<Map<String, Object>> getColumns(
+    @Override
+    public RowIterator<ColumnRow> getColumnRows(
             String xcatalog,
             String xschema,
             String xtable,
             String xcolumn) {
         // MySql JDBC Driver doesn't like 'null' values for the table and column search patterns, use '%' instead
-        return super.getColumns(
+        return super.getColumnRows(
                 xcatalog,
                 xschema,
                 xtable != null ? xtable : "%",
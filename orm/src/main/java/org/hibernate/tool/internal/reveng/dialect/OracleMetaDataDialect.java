@@ -25,6 +25,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
+import org.hibernate.tool.internal.reveng.dialect.PrefetchedMetaData.Kind;
 import org.hibernate.tool.internal.util.TableNameQualifier;
 
 /**
@@ -281,6 +282,23 @@ public class OracleMetaDataDialect extends AbstractMetaDataDialect {
 
     private PreparedStatement prepFkSchemaAndTable;
 
+    /**
+     * Uses the schema wide variants of the data dictionary queries, one query per kind.
+     */
+    public void prefetch(String catalog, String schema) {
+        log.debug("prefetch(" + catalog + "." + schema + ")");
+        prefetch(Kind.COLUMNS, catalog, schema, () -> getColumns(catalog, schema, null, null));
+        prefetch(Kind.PRIMARY_KEYS, catalog, schema, () -> getPrimaryKeys(catalog, schema, null));
+        prefetch(Kind.INDEX_INFO, catalog, schema, () -> getIndexInfo(catalog, schema, null));
+        prefetch(Kind.EXPORTED_KEYS, catalog, schema, () -> getExportedKeys(catalog, schema, null));
+    }
+
+    public String getStructureFingerprint() {
+        return queryFingerprint(
+                "select to_char(max(last_ddl_time), 'YYYYMMDDHH24MISS'), count(*) from all_objects "
+                        + "where object_type in ('TABLE', 'VIEW', 'SYNONYM', 'SEQUENCE', 'INDEX')");
+    }
+
     public Iterator<Map<String,Object>> getTables(final String catalog, final String schema,
                                                   String table) {
         try {
@@ -332,6 +350,11 @@ public class OracleMetaDataDialect extends AbstractMetaDataDialect {
     public Iterator<Map<String, Object>> getIndexInfo(final String catalog, final String schema,
                                                       final String table) {
         try {
+            Iterator<Map<String, Object>> prefetched = getPrefetchedMetaData().get(Kind.INDEX_INFO, catalog, schema, table);
+            if (prefetched != null) {
+                return prefetched;
+            }
+
             log.debug("getIndexInfo(" + catalog + "." + schema + "." + table + ")");
 
             ResultSet indexRs;
@@ -376,6 +399,13 @@ public class OracleMetaDataDialect extends AbstractMetaDataDialect {
                                                     final String table, String column) {
 
         try {
+            if (column == null) {
+                Iterator<Map<String, Object>> prefetched = getPrefetchedMetaData().get(Kind.COLUMNS, catalog, schema, table);
+                if (prefetched != null) {
+                    return prefetched;
+                }
+            }
+
             log.debug("getColumns(" + catalog + "." + schema + "." + table + "." + column + ")");
 
             ResultSet columnRs;
@@ -421,6 +451,11 @@ public class OracleMetaDataDialect extends AbstractMetaDataDialect {
                                                         final String table) {
 
         try {
+            Iterator<Map<String, Object>> prefetched = getPrefetchedMetaData().get(Kind.PRIMARY_KEYS, catalog, schema, table);
+            if (prefetched != null) {
+                return prefetched;
+            }
+
             log.debug("getPrimaryKeys(" + catalog + "." + schema + "." + table
                     + ")");
 
@@ -463,6 +498,11 @@ public class OracleMetaDataDialect extends AbstractMetaDataDialect {
                                                          final String table) {
 
         try {
+            Iterator<Map<String, Object>> prefetched = getPrefetchedMetaData().get(Kind.EXPORTED_KEYS, catalog, schema, table);
+            if (prefetched != null) {
+                return prefetched;
+            }
+
             log.debug("getExportedKeys(" + catalog + "." + schema + "." + table
                     + ")");
 
@@ -548,7 +588,7 @@ public class OracleMetaDataDialect extends AbstractMetaDataDialect {
     }
 
     private String escape(String str) {
-        return str.replace("_", "\\_");
+        return str == null ? null : str.replace("_", "\\_");
     }
 
     private ResultSet getPrimaryKeysResultSet(final String schem, final String tab) throws SQLException {
@@ -567,9 +607,24 @@ public class OracleMetaDataDialect extends AbstractMetaDataDialect {
         }
 
         ResultSet pkeyRs;
-        prepPkSchemaAndTable.setString( 1, schema );
-        prepPkSchemaAndTable.setString( 2, table );
-        pkeyRs = prepPkSchemaAndTable.executeQuery();
+        if (schema == null && table == null) {
+            pkeyRs = prepPkNone.executeQuery();
+        }
+        else if (schema != null) {
+            if (table == null) {
+                prepPkSchema.setString(1, schema);
+                pkeyRs = prepPkSchema.executeQuery();
+            }
+            else {
+                prepPkSchemaAndTable.setString( 1, schema );
+                prepPkSchemaAndTable.setString( 2, table );
+                pkeyRs = prepPkSchemaAndTable.executeQuery();
+            }
+        }
+        else {
+            prepPkTable.setString(1, table);
+            pkeyRs = prepPkTable.executeQuery();
+        }
         return pkeyRs;
     }
 
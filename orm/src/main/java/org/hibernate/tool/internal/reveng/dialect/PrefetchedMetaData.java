@@ -0,0 +1,170 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.dialect;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * In memory index of metadata rows that were read for a whole schema at once,
+ * grouped by table so the per table lookups of a {@link AbstractMetaDataDialect}
+ * can be answered without another round trip.
+ *
+ * A lookup is only answered when the kind was loaded for a matching catalog
+ * and schema and the table itself was seen while loading the columns; in all
+ * other cases <code>null</code> is returned and the dialect falls back to
+ * querying the database.
+ */
+public class PrefetchedMetaData {
+
+    public enum Kind {
+        COLUMNS("TABLE_CAT", "TABLE_SCHEM", "TABLE_NAME"),
+        PRIMARY_KEYS("TABLE_CAT", "TABLE_SCHEM", "TABLE_NAME"),
+        INDEX_INFO("TABLE_CAT", "TABLE_SCHEM", "TABLE_NAME"),
+        EXPORTED_KEYS("PKTABLE_CAT", "PKTABLE_SCHEM", "PKTABLE_NAME");
+
+        private final String catalogKey;
+        private final String schemaKey;
+        private final String tableKey;
+
+        Kind(String catalogKey, String schemaKey, String tableKey) {
+            this.catalogKey = catalogKey;
+            this.schemaKey = schemaKey;
+            this.tableKey = tableKey;
+        }
+    }
+
+    private final Map<Kind, List<Scope>> scopes = new EnumMap<>(Kind.class);
+    private final Map<Kind, Map<String, List<Map<String, Object>>>> rowsByTable = new EnumMap<>(Kind.class);
+
+    /**
+     * @return true if rows of this kind were already loaded for the catalog and schema
+     */
+    public boolean isLoaded(Kind kind, String catalog, String schema) {
+        for (Scope scope : scopes.getOrDefault(kind, List.of())) {
+            if (Objects.equals(scope.catalog, catalog) && Objects.equals(scope.schema, schema)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Copies all rows of the iterator into the index. The iterator is not closed.
+     */
+    public void load(Kind kind, String catalogPattern, String schemaPattern, Iterator<Map<String, Object>> rows) {
+        Map<String, List<Map<String, Object>>> loaded = new HashMap<>();
+        while (rows.hasNext()) {
+            Map<String, Object> row = new HashMap<>(rows.next()); // need to copy since the dialect might reuse it
+            String table = (String) row.get(kind.tableKey);
+            loaded.computeIfAbsent(table, k -> new ArrayList<>()).add(row);
+        }
+        Map<String, List<Map<String, Object>>> existing = rowsByTable.computeIfAbsent(kind, k -> new HashMap<>());
+        loaded.forEach((table, tableRows) -> existing.computeIfAbsent(table, k -> new ArrayList<>()).addAll(tableRows));
+        scopes.computeIfAbsent(kind, k -> new ArrayList<>()).add(new Scope(catalogPattern, schemaPattern));
+    }
+
+    /**
+     * @return the rows for the given table, or null if this index cannot answer the lookup
+     */
+    public Iterator<Map<String, Object>> get(Kind kind, String catalog, String schema, String table) {
+        if (table == null || !isCovered(kind, catalog, schema) || !isKnownTable(catalog, schema, table)) {
+            return null;
+        }
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Map<String, Object> row : getRows(kind, table)) {
+            if (matches(kind, row, catalog, schema)) {
+                result.add(row);
+            }
+        }
+        return result.iterator();
+    }
+
+    public void clear() {
+        scopes.clear();
+        rowsByTable.clear();
+    }
+
+    private boolean isCovered(Kind kind, String catalog, String schema) {
+        for (Scope scope : scopes.getOrDefault(kind, List.of())) {
+            if (scope.covers(unquote(catalog), unquote(schema))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isKnownTable(String catalog, String schema, String table) {
+        for (Map<String, Object> row : getRows(Kind.COLUMNS, table)) {
+            if (matches(Kind.COLUMNS, row, catalog, schema)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Map<String, Object>> getRows(Kind kind, String table) {
+        return rowsByTable
+                .getOrDefault(kind, Map.of())
+                .getOrDefault(unquote(table), List.of());
+    }
+
+    private static boolean matches(Kind kind, Map<String, Object> row, String catalog, String schema) {
+        return matches(unquote(catalog), (String) row.get(kind.catalogKey))
+                && matches(unquote(schema), (String) row.get(kind.schemaKey));
+    }
+
+    // null on either side means the database or the lookup does not care
+    private static boolean matches(String requested, String actual) {
+        return requested == null || actual == null || requested.equals(actual);
+    }
+
+    private static String unquote(String name) {
+        if (name != null && name.length() > 1 && name.charAt(0) == '`' && name.charAt(name.length() - 1) == '`') {
+            return name.substring(1, name.length() - 1);
+        }
+        return name;
+    }
+
+    private static class Scope {
+
+        final String catalog;
+        final String schema;
+        final Pattern catalogPattern;
+        final Pattern schemaPattern;
+
+        Scope(String catalog, String schema) {
+            this.catalog = catalog;
+            this.schema = schema;
+            this.catalogPattern = SearchPatterns.toPattern(unquote(catalog));
+            this.schemaPattern = SearchPatterns.toPattern(unquote(schema));
+        }
+
+        boolean covers(String catalog, String schema) {
+            return SearchPatterns.matches(catalogPattern, catalog)
+                    && SearchPatterns.matches(schemaPattern, schema);
+        }
+    }
+
+}
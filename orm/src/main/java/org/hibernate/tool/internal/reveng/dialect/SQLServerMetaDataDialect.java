@@ -31,6 +31,101 @@ import java.util.Map;
  */
 public class SQLServerMetaDataDialect extends JDBCMetaDataDialect {
 
+    // the catalog views only cover the current database
+
+    private static final String SQL_PK =
+            """
+                    select DB_NAME() as TABLE_CAT
+                          ,s.name as TABLE_SCHEM
+                          ,t.name as TABLE_NAME
+                          ,c.name as COLUMN_NAME
+                          ,ic.key_ordinal as KEY_SEQ
+                          ,i.name as PK_NAME
+                      from sys.indexes i
+                      join sys.tables t on t.object_id = i.object_id
+                      join sys.schemas s on s.schema_id = t.schema_id
+                      join sys.index_columns ic on ic.object_id = i.object_id and ic.index_id = i.index_id
+                      join sys.columns c on c.object_id = ic.object_id and c.column_id = ic.column_id
+                     where i.is_primary_key = 1
+                    """;
+
+    private static final String SQL_INDEX =
+            """
+                    select DB_NAME() as TABLE_CAT
+                          ,s.name as TABLE_SCHEM
+                          ,t.name as TABLE_NAME
+                          ,i.name as INDEX_NAME
+                          ,c.name as COLUMN_NAME
+                          ,case when i.is_unique = 1 then 0 else 1 end as NON_UNIQUE
+                          ,case when i.type = 1 then 1 else 3 end as TYPE
+                      from sys.indexes i
+                      join sys.tables t on t.object_id = i.object_id
+                      join sys.schemas s on s.schema_id = t.schema_id
+                      join sys.index_columns ic on ic.object_id = i.object_id and ic.index_id = i.index_id
+                      join sys.columns c on c.object_id = ic.object_id and c.column_id = ic.column_id
+                     where i.type > 0 and ic.key_ordinal > 0
+                    """;
+
+    private static final String SQL_FK =
+            """
+                    select DB_NAME() as PKTABLE_CAT
+                          ,ps.name as PKTABLE_SCHEM
+                          ,pt.name as PKTABLE_NAME
+                          ,pc.name as PKCOLUMN_NAME
+                          ,DB_NAME() as FKTABLE_CAT
+                          ,fs.name as FKTABLE_SCHEM
+                          ,ft.name as FKTABLE_NAME
+                          ,fc.name as FKCOLUMN_NAME
+                          ,fk.name as FK_NAME
+                          ,fkc.constraint_column_id as KEY_SEQ
+                      from sys.foreign_key_columns fkc
+                      join sys.foreign_keys fk on fk.object_id = fkc.constraint_object_id
+                      join sys.tables pt on pt.object_id = fkc.referenced_object_id
+                      join sys.schemas ps on ps.schema_id = pt.schema_id
+                      join sys.columns pc on pc.object_id = fkc.referenced_object_id and pc.column_id = fkc.referenced_column_id
+                      join sys.tables ft on ft.object_id = fkc.parent_object_id
+                      join sys.schemas fs on fs.schema_id = ft.schema_id
+                      join sys.columns fc on fc.object_id = fkc.parent_object_id and fc.column_id = fkc.parent_column_id
+                     where 1 = 1
+                    """;
+
+    public String getStructureFingerprint() {
+        return queryFingerprint(
+                "select convert(varchar(30), max(modify_date), 126), count(*) from sys.objects where is_ms_shipped = 0");
+    }
+
+    protected Iterator<Map<String, Object>> getSchemaPrimaryKeys(String catalog, String schema) throws SQLException {
+        if (!isCurrentCatalog(catalog)) {
+            return null;
+        }
+        return querySchema(SQL_PK, null, "s.name", "t.name, ic.key_ordinal", catalog, schema, this::putPrimaryKeyPart);
+    }
+
+    protected Iterator<Map<String, Object>> getSchemaIndexInfo(String catalog, String schema) throws SQLException {
+        if (!isCurrentCatalog(catalog)) {
+            return null;
+        }
+        return querySchema(SQL_INDEX, null, "s.name", "t.name, NON_UNIQUE, TYPE, INDEX_NAME, ic.key_ordinal", catalog, schema, this::putIndexInfoPart);
+    }
+
+    protected Iterator<Map<String, Object>> getSchemaExportedKeys(String catalog, String schema) throws SQLException {
+        if (!isCurrentCatalog(catalog)) {
+            return null;
+        }
+        return querySchema(
+                SQL_FK,
+                null,
+                "ps.name",
+                "pt.name, fs.name, ft.name, fkc.constraint_column_id",
+                catalog,
+                schema,
+                this::putExportedKeysPart);
+    }
+
+    private boolean isCurrentCatalog(String catalog) throws SQLException {
+        return catalog == null || catalog.equalsIgnoreCase(getConnection().getCatalog());
+    }
+
     public Iterator<Map<String, Object>> getSuggestedPrimaryKeyStrategyName(String catalog, String schema, String table) {
         String sql;
         try {
@@ -0,0 +1,73 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.dialect;
+
+import java.util.regex.Pattern;
+
+/**
+ * Helpers for the search patterns of {@link java.sql.DatabaseMetaData},
+ * where <code>%</code> matches any sequence of characters and <code>_</code>
+ * any single character.
+ */
+final class SearchPatterns {
+
+    private SearchPatterns() {}
+
+    /**
+     * @return the search pattern as a regular expression, or null if it matches anything
+     */
+    static Pattern toPattern(String searchPattern) {
+        if (searchPattern == null || "%".equals(searchPattern)) {
+            return null;
+        }
+        StringBuilder regex = new StringBuilder();
+        for (char c : searchPattern.toCharArray()) {
+            if (c == '%') {
+                regex.append(".*");
+            }
+            else if (c == '_') {
+                regex.append('.');
+            }
+            else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    /**
+     * @return the part of the search pattern before its first wildcard
+     */
+    static String literalPrefix(String searchPattern) {
+        for (int i = 0; i < searchPattern.length(); i++) {
+            char c = searchPattern.charAt(i);
+            if (c == '%' || c == '_') {
+                return searchPattern.substring(0, i);
+            }
+        }
+        return searchPattern;
+    }
+
+    /**
+     * @return true if the value matches the pattern, a null pattern matches anything
+     */
+    static boolean matches(Pattern pattern, String value) {
+        return pattern == null || (value != null && pattern.matcher(value).matches());
+    }
+
+}
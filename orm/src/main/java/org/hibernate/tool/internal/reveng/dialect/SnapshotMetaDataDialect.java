@@ -0,0 +1,546 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.dialect;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.tool.api.metadata.MetadataConstants;
+import org.hibernate.tool.api.reveng.RevengDialect;
+import org.hibernate.tool.api.reveng.RevengStrategy.SchemaSelection;
+import org.jboss.logging.Logger;
+
+/**
+ * {@link RevengDialect} answering all metadata requests from a snapshot file
+ * captured earlier, so reverse engineering can run without a database.
+ *
+ * The snapshot is a plain xml file holding the rows of each metadata kind,
+ * the hibernate dialect of the captured database, how that database stores
+ * unquoted identifiers and which names need quoting.
+ * Lookups use the same semantics as {@link java.sql.DatabaseMetaData}: null
+ * matches anything and table and column names of getTables and getColumns
+ * are search patterns.
+ */
+public class SnapshotMetaDataDialect implements RevengDialect {
+
+    private static final Logger log = Logger.getLogger(SnapshotMetaDataDialect.class);
+
+    private static final String ROOT = "metadata-snapshot";
+    private static final String VERSION = "1";
+
+    public enum Kind {
+        TABLES("tables", "TABLE_CAT", "TABLE_SCHEM", "TABLE_NAME"),
+        COLUMNS("columns", "TABLE_CAT", "TABLE_SCHEM", "TABLE_NAME"),
+        PRIMARY_KEYS("primary-keys", "TABLE_CAT", "TABLE_SCHEM", "TABLE_NAME"),
+        INDEX_INFO("index-info", "TABLE_CAT", "TABLE_SCHEM", "TABLE_NAME"),
+        EXPORTED_KEYS("exported-keys", "PKTABLE_CAT", "PKTABLE_SCHEM", "PKTABLE_NAME"),
+        PRIMARY_KEY_STRATEGIES("primary-key-strategies", "TABLE_CAT", "TABLE_SCHEM", "TABLE_NAME");
+
+        private final String element;
+        private final String catalogKey;
+        private final String schemaKey;
+        private final String tableKey;
+
+        Kind(String element, String catalogKey, String schemaKey, String tableKey) {
+            this.element = element;
+            this.catalogKey = catalogKey;
+            this.schemaKey = schemaKey;
+            this.tableKey = tableKey;
+        }
+    }
+
+    private static final Map<String, Function<String, Object>> VALUE_PARSERS = new HashMap<>();
+    static {
+        VALUE_PARSERS.put("String", s -> s);
+        VALUE_PARSERS.put("Integer", Integer::valueOf);
+        VALUE_PARSERS.put("Short", Short::valueOf);
+        VALUE_PARSERS.put("Long", Long::valueOf);
+        VALUE_PARSERS.put("Byte", Byte::valueOf);
+        VALUE_PARSERS.put("Boolean", Boolean::valueOf);
+        VALUE_PARSERS.put("Double", Double::valueOf);
+        VALUE_PARSERS.put("Float", Float::valueOf);
+        VALUE_PARSERS.put("BigDecimal", BigDecimal::new);
+    }
+
+    /**
+     * @return the dialect configured by {@link MetadataConstants#METADATA_SNAPSHOT_FILE},
+     * or null if no snapshot file is configured
+     */
+    public static SnapshotMetaDataDialect fromProperties(Properties properties) {
+        String file = properties.getProperty(MetadataConstants.METADATA_SNAPSHOT_FILE);
+        if (file == null || file.isBlank()) {
+            return null;
+        }
+        Path path = Path.of(file.trim()).toAbsolutePath();
+        LoadedSnapshot loaded = lastLoaded;
+        if (loaded != null && loaded.isCurrent(path)) {
+            return loaded.dialect();
+        }
+        SnapshotMetaDataDialect result = load(path);
+        lastLoaded = new LoadedSnapshot(path, fileStamp(path), result);
+        return result;
+    }
+
+    // the snapshot read last, answers are never modified so it can be handed out again
+    private static volatile LoadedSnapshot lastLoaded;
+
+    private record LoadedSnapshot(Path path, String stamp, SnapshotMetaDataDialect dialect) {
+        boolean isCurrent(Path file) {
+            return path.equals(file) && stamp.equals(fileStamp(file));
+        }
+    }
+
+    private static String fileStamp(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis() + ":" + Files.size(file);
+        }
+        catch (IOException e) {
+            return "";
+        }
+    }
+
+    public static SnapshotMetaDataDialect load(Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            XMLInputFactory factory = XMLInputFactory.newInstance();
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            XMLStreamReader reader = factory.createXMLStreamReader(in);
+            try {
+                return read(reader);
+            }
+            finally {
+                reader.close();
+            }
+        }
+        catch (IOException | XMLStreamException e) {
+            throw new RuntimeException("Could not read metadata snapshot " + file, e);
+        }
+    }
+
+    /**
+     * Reads everything the source dialect returns for the tables in the schema selections.
+     * The source dialect must already be configured.
+     *
+     * @param identifierCase how the database stores unquoted identifiers: "upper", "lower" or "mixed"
+     */
+    public static SnapshotMetaDataDialect capture(
+            RevengDialect source,
+            List<SchemaSelection> schemaSelections,
+            String dialectName,
+            String identifierCase) {
+        SnapshotMetaDataDialect result = new SnapshotMetaDataDialect(dialectName, identifierCase);
+        Set<String> seenTables = new TreeSet<>();
+        for (SchemaSelection selection : schemaSelections) {
+            List<Map<String, Object>> tables = readAll(source, source.getTables(
+                    StringHelper.replace(selection.getMatchCatalog(), ".*", "%"),
+                    StringHelper.replace(selection.getMatchSchema(), ".*", "%"),
+                    StringHelper.replace(selection.getMatchTable(), ".*", "%")));
+            for (Map<String, Object> table : tables) {
+                String name = (String) table.get("TABLE_NAME");
+                if (!seenTables.add(table.get("TABLE_CAT") + "." + table.get("TABLE_SCHEM") + "." + name)) {
+                    continue;
+                }
+                result.add(Kind.TABLES, table);
+                // quoted the same way as the TableCollector does when reading from the database
+                String catalog = result.recordQuoting(source, (String) table.get("TABLE_CAT"));
+                String schema = result.recordQuoting(source, (String) table.get("TABLE_SCHEM"));
+                String quotedName = result.recordQuoting(source, name);
+                result.addAll(Kind.COLUMNS, source, source.getColumns(catalog, schema, quotedName, null))
+                        .forEach(column -> result.recordQuoting(source, (String) column.get("COLUMN_NAME")));
+                result.addAll(Kind.PRIMARY_KEYS, source, source.getPrimaryKeys(catalog, schema, quotedName));
+                if ("TABLE".equalsIgnoreCase((String) table.get("TABLE_TYPE"))) {
+                    result.addAll(Kind.INDEX_INFO, source, source.getIndexInfo(catalog, schema, quotedName));
+                }
+                result.addAll(Kind.EXPORTED_KEYS, source, source.getExportedKeys(catalog, schema, quotedName));
+                result.addAll(Kind.PRIMARY_KEY_STRATEGIES, source, source.getSuggestedPrimaryKeyStrategyName(catalog, schema, quotedName));
+            }
+        }
+        return result;
+    }
+
+    private final String dialectName;
+    private final String identifierCase;
+    private final Map<Kind, List<Map<String, Object>>> rows = new EnumMap<>(Kind.class);
+    // the positions of the rows in the lists above, by table name
+    private final Map<Kind, NavigableMap<String, List<Integer>>> rowsByTable = new EnumMap<>(Kind.class);
+    private final Set<String> quotedNames = new TreeSet<>();
+
+    private SnapshotMetaDataDialect(String dialectName, String identifierCase) {
+        this.dialectName = dialectName;
+        this.identifierCase = identifierCase == null ? "mixed" : identifierCase;
+        for (Kind kind : Kind.values()) {
+            rows.put(kind, new ArrayList<>());
+            rowsByTable.put(kind, new TreeMap<>());
+        }
+    }
+
+    /**
+     * @return the class name of the hibernate dialect of the captured database, or null
+     */
+    public String getDialectName() {
+        return dialectName;
+    }
+
+    public void save(Path file) {
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            try (OutputStream out = Files.newOutputStream(file)) {
+                XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(out, "UTF-8");
+                try {
+                    write(writer);
+                }
+                finally {
+                    writer.close();
+                }
+            }
+        }
+        catch (IOException | XMLStreamException e) {
+            throw new RuntimeException("Could not write metadata snapshot " + file, e);
+        }
+    }
+
+    public void configure(ConnectionProvider connectionProvider) {
+        // nothing to connect to
+    }
+
+    public Iterator<Map<String, Object>> getTables(String catalog, String schema, String table) {
+        return find(Kind.TABLES, catalog, schema, table, true, null, null);
+    }
+
+    public Iterator<Map<String, Object>> getColumns(String catalog, String schema, String table, String column) {
+        return find(Kind.COLUMNS, catalog, schema, table, true, "COLUMN_NAME", column);
+    }
+
+    public Iterator<Map<String, Object>> getPrimaryKeys(String catalog, String schema, String name) {
+        return find(Kind.PRIMARY_KEYS, catalog, schema, name, false, null, null);
+    }
+
+    public Iterator<Map<String, Object>> getIndexInfo(String catalog, String schema, String table) {
+        return find(Kind.INDEX_INFO, catalog, schema, table, false, null, null);
+    }
+
+    public Iterator<Map<String, Object>> getExportedKeys(String catalog, String schema, String table) {
+        return find(Kind.EXPORTED_KEYS, catalog, schema, table, false, null, null);
+    }
+
+    public Iterator<Map<String, Object>> getSuggestedPrimaryKeyStrategyName(String catalog, String schema, String table) {
+        return find(Kind.PRIMARY_KEY_STRATEGIES, catalog, schema, table, false, null, null);
+    }
+
+    public boolean needQuote(String name) {
+        return name != null && quotedNames.contains(name);
+    }
+
+    public void close(Iterator<?> iterator) {
+    }
+
+    public void close() {
+    }
+
+    private Iterator<Map<String, Object>> find(
+            Kind kind,
+            String catalog,
+            String schema,
+            String table,
+            boolean tablePattern,
+            String columnKey,
+            String column) {
+        String searchTable = caseForSearch(table);
+        Pattern tableMatcher = tablePattern ? SearchPatterns.toPattern(searchTable) : null;
+        Pattern columnMatcher = columnKey != null ? SearchPatterns.toPattern(caseForSearch(column)) : null;
+        Scope catalogScope = new Scope(caseForSearch(catalog));
+        Scope schemaScope = new Scope(caseForSearch(schema));
+        List<Map<String, Object>> kindRows = rows.get(kind);
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (int position : candidates(kind, searchTable, tablePattern)) {
+            Map<String, Object> row = kindRows.get(position);
+            if (!catalogScope.matches((String) row.get(kind.catalogKey))
+                    || !schemaScope.matches((String) row.get(kind.schemaKey))) {
+                continue;
+            }
+            if (tablePattern && !SearchPatterns.matches(tableMatcher, (String) row.get(kind.tableKey))) {
+                continue;
+            }
+            if (columnKey != null && !SearchPatterns.matches(columnMatcher, (String) row.get(columnKey))) {
+                continue;
+            }
+            result.add(new HashMap<>(row));
+        }
+        return result.iterator();
+    }
+
+    /*
+     * The positions of the rows that can belong to the table, in snapshot order:
+     * all rows without a table, the rows of that table for a plain name and the rows
+     * of the tables starting with the part before the first wildcard for a pattern.
+     */
+    private List<Integer> candidates(Kind kind, String table, boolean pattern) {
+        NavigableMap<String, List<Integer>> index = rowsByTable.get(kind);
+        if (table == null || (pattern && SearchPatterns.literalPrefix(table).isEmpty())) {
+            return allPositions(kind);
+        }
+        if (!pattern) {
+            return index.getOrDefault(table, List.of());
+        }
+        String prefix = SearchPatterns.literalPrefix(table);
+        List<Integer> result = new ArrayList<>();
+        for (List<Integer> positions : index.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+            result.addAll(positions);
+        }
+        result.sort(null);
+        return result;
+    }
+
+    private List<Integer> allPositions(Kind kind) {
+        int size = rows.get(kind).size();
+        List<Integer> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+    // mirrors AbstractMetaDataDialect.caseForSearch for the captured database
+    private String caseForSearch(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.length() > 1 && value.startsWith("`") && value.endsWith("`")) {
+            return value.substring(1, value.length() - 1);
+        }
+        if (needQuote(value)) {
+            return value;
+        }
+        return switch (identifierCase) {
+            case "upper" -> value.toUpperCase(Locale.ROOT);
+            case "lower" -> value.toLowerCase(Locale.ROOT);
+            default -> value;
+        };
+    }
+
+    private List<Map<String, Object>> addAll(Kind kind, RevengDialect source, Iterator<Map<String, Object>> iterator) {
+        List<Map<String, Object>> added = readAll(source, iterator);
+        added.forEach(row -> add(kind, row));
+        return added;
+    }
+
+    private void add(Kind kind, Map<String, Object> row) {
+        List<Map<String, Object>> kindRows = rows.get(kind);
+        rowsByTable.get(kind)
+                .computeIfAbsent(tableKey((String) row.get(kind.tableKey)), k -> new ArrayList<>())
+                .add(kindRows.size());
+        kindRows.add(row);
+    }
+
+    private static String tableKey(String table) {
+        return table == null ? "" : table;
+    }
+
+    private static List<Map<String, Object>> readAll(RevengDialect source, Iterator<Map<String, Object>> iterator) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        try {
+            while (iterator.hasNext()) {
+                result.add(new LinkedHashMap<>(iterator.next())); // need to copy since the dialect might reuse it
+            }
+        }
+        finally {
+            source.close(iterator);
+        }
+        return result;
+    }
+
+    private String recordQuoting(RevengDialect source, String name) {
+        if (name != null && source.needQuote(name)) {
+            quotedNames.add(name);
+            return "`" + name + "`";
+        }
+        return name;
+    }
+
+    private void write(XMLStreamWriter writer) throws XMLStreamException {
+        writer.writeStartDocument("UTF-8", "1.0");
+        writer.writeCharacters(System.lineSeparator());
+        writer.writeStartElement(ROOT);
+        writer.writeAttribute("version", VERSION);
+        if (dialectName != null) {
+            writer.writeAttribute("dialect", dialectName);
+        }
+        writer.writeAttribute("identifier-case", identifierCase);
+        for (Kind kind : Kind.values()) {
+            newLine(writer, 1);
+            writer.writeStartElement(kind.element);
+            for (Map<String, Object> row : rows.get(kind)) {
+                newLine(writer, 2);
+                writer.writeStartElement("row");
+                for (Map.Entry<String, Object> entry : row.entrySet()) {
+                    newLine(writer, 3);
+                    writeValue(writer, entry.getKey(), entry.getValue());
+                }
+                newLine(writer, 2);
+                writer.writeEndElement();
+            }
+            newLine(writer, 1);
+            writer.writeEndElement();
+        }
+        newLine(writer, 1);
+        writer.writeStartElement("quoted-names");
+        for (String name : quotedNames) {
+            newLine(writer, 2);
+            writer.writeStartElement("name");
+            writer.writeCharacters(name);
+            writer.writeEndElement();
+        }
+        newLine(writer, 1);
+        writer.writeEndElement();
+        newLine(writer, 0);
+        writer.writeEndElement();
+        writer.writeCharacters(System.lineSeparator());
+        writer.writeEndDocument();
+    }
+
+    private static void writeValue(XMLStreamWriter writer, String name, Object value) throws XMLStreamException {
+        if (value == null) {
+            writer.writeEmptyElement("value");
+            writer.writeAttribute("name", name);
+            return;
+        }
+        String type = value.getClass().getSimpleName();
+        if (!VALUE_PARSERS.containsKey(type)) {
+            log.debug("Storing " + name + " of type " + value.getClass().getName() + " as String");
+            type = "String";
+        }
+        writer.writeStartElement("value");
+        writer.writeAttribute("name", name);
+        writer.writeAttribute("type", type);
+        writer.writeCharacters(value.toString());
+        writer.writeEndElement();
+    }
+
+    private static void newLine(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        writer.writeCharacters(System.lineSeparator() + "  ".repeat(depth));
+    }
+
+    private static SnapshotMetaDataDialect read(XMLStreamReader reader) throws XMLStreamException {
+        reader.nextTag();
+        if (!ROOT.equals(reader.getLocalName())) {
+            throw new XMLStreamException("Expected <" + ROOT + "> but found <" + reader.getLocalName() + ">", reader.getLocation());
+        }
+        if (!VERSION.equals(reader.getAttributeValue(null, "version"))) {
+            throw new XMLStreamException("Unsupported snapshot version " + reader.getAttributeValue(null, "version"), reader.getLocation());
+        }
+        SnapshotMetaDataDialect result = new SnapshotMetaDataDialect(
+                reader.getAttributeValue(null, "dialect"),
+                reader.getAttributeValue(null, "identifier-case"));
+        Map<String, Kind> kinds = new HashMap<>();
+        for (Kind kind : Kind.values()) {
+            kinds.put(kind.element, kind);
+        }
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            String element = reader.getLocalName();
+            if ("quoted-names".equals(element)) {
+                while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                    result.quotedNames.add(reader.getElementText());
+                }
+                continue;
+            }
+            Kind kind = kinds.get(element);
+            if (kind == null) {
+                throw new XMLStreamException("Unknown snapshot element <" + element + ">", reader.getLocation());
+            }
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                result.add(kind, readRow(reader));
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, Object> readRow(XMLStreamReader reader) throws XMLStreamException {
+        Map<String, Object> row = new LinkedHashMap<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            String name = reader.getAttributeValue(null, "name");
+            String type = reader.getAttributeValue(null, "type");
+            String text = reader.getElementText();
+            if (type == null) {
+                row.put(name, null);
+            }
+            else {
+                Function<String, Object> parser = VALUE_PARSERS.get(type);
+                if (parser == null) {
+                    throw new XMLStreamException("Unknown value type " + type + " for " + name, reader.getLocation());
+                }
+                row.put(name, parser.apply(text));
+            }
+        }
+        return row;
+    }
+
+    /*
+     * A catalog or schema of a lookup, compiled once per lookup. Null means the
+     * lookup does not care, an empty string selects rows without a catalog or schema.
+     */
+    private static final class Scope {
+
+        private final String requested;
+        private final Pattern pattern;
+
+        Scope(String requested) {
+            this.requested = requested;
+            this.pattern = requested == null || requested.isEmpty() ? null : SearchPatterns.toPattern(requested);
+        }
+
+        boolean matches(String actual) {
+            if (requested == null) {
+                return true;
+            }
+            if (requested.isEmpty()) {
+                return actual == null || actual.isEmpty();
+            }
+            return actual == null || SearchPatterns.matches(pattern, actual);
+        }
+    }
+
+}
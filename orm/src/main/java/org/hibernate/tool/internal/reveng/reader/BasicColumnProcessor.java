@@ -18,14 +18,14 @@
 package org.hibernate.tool.internal.reveng.reader;
 
 import java.sql.DatabaseMetaData;
-import java.util.Iterator;
-import java.util.Map;
 
 import org.hibernate.JDBCException;
 import org.hibernate.mapping.Column;
 import org.hibernate.mapping.Table;
+import org.hibernate.tool.api.reveng.ColumnRow;
 import org.hibernate.tool.api.reveng.RevengDialect;
 import org.hibernate.tool.api.reveng.RevengStrategy;
+import org.hibernate.tool.api.reveng.RowIterator;
 import org.hibernate.tool.api.reveng.TableIdentifier;
 import org.hibernate.tool.internal.reveng.util.RevengUtils;
 import org.hibernate.tool.internal.util.JdbcToHibernateTypeHelper;
@@ -43,21 +43,21 @@ public class BasicColumnProcessor {
             Table table) {
 
         String qualify = TableNameQualifier.qualify(table.getCatalog(), table.getSchema(), table.getName() );
-        Iterator<?> columnIterator = null;
+        RowIterator<ColumnRow> columnIterator = null;
 
         try {
-            Map<?, ?> columnRs;
+            ColumnRow columnRs;
             log.debug("Finding columns for " + qualify );
-            columnIterator = metaDataDialect.getColumns(getCatalogForDBLookup(table.getCatalog(), defaultCatalog), getSchemaForDBLookup(table.getSchema(), defaultSchema), table.getName(), null);
+            columnIterator = metaDataDialect.getColumnRows(getCatalogForDBLookup(table.getCatalog(), defaultCatalog), getSchemaForDBLookup(table.getSchema(), defaultSchema), table.getName(), null);
             //dumpHeader(columnRs);
             while (columnIterator.hasNext() ) {
                 //dumpRow(columnRs);
-                columnRs = (Map<?, ?>) columnIterator.next();
-                String tableName = (String) columnRs.get("TABLE_NAME");
-                int sqlType = (Integer) columnRs.get( "DATA_TYPE" );
-                //String sqlTypeName = (String) columnRs.get("TYPE_NAME");
-                String columnName = (String) columnRs.get("COLUMN_NAME");
-                String comment = (String) columnRs.get("REMARKS");
+                columnRs = columnIterator.next();
+                String tableName = columnRs.tableName();
+                int sqlType = columnRs.dataType();
+                //String sqlTypeName = columnRs.typeName();
+                String columnName = columnRs.columnName();
+                String comment = columnRs.remarks();
 
                 TableIdentifier ti = RevengUtils.createTableIdentifier(table, defaultCatalog, defaultSchema);
                 if(revengStrategy.excludeColumn(ti, columnName)) {
@@ -70,10 +70,10 @@ public class BasicColumnProcessor {
                 }
 
                 //String columnDefaultValue = columnRs.getString("COLUMN_DEF"); TODO: only read if have a way to avoid issues with clobs/lobs and similar
-                int dbNullability = (Integer) columnRs.get( "NULLABLE" );
+                int dbNullability = columnRs.nullable();
                 boolean isNullable = dbNullability != DatabaseMetaData.columnNoNulls;
-                int size = (Integer) columnRs.get( "COLUMN_SIZE" );
-                int decimalDigits = (Integer) columnRs.get( "DECIMAL_DIGITS" );
+                int size = columnRs.columnSize();
+                int decimalDigits = columnRs.decimalDigits();
 
                 Column column = new Column();
                 column.setName(quote(columnName, metaDataDialect));
@@ -114,7 +114,7 @@ public class BasicColumnProcessor {
 
             if(columnIterator!=null) {
                 try {
-                    metaDataDialect.close(columnIterator);
+                    columnIterator.close();
                 }
                 catch(JDBCException se) {
                     log.warn("Exception while closing iterator for column meta data",se);
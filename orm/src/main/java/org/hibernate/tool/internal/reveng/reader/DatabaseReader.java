@@ -23,42 +23,101 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.function.Supplier;
 
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.internal.util.StringHelper;
 import org.hibernate.mapping.ForeignKey;
 import org.hibernate.mapping.Table;
 import org.hibernate.service.ServiceRegistry;
+import org.hibernate.tool.api.metadata.MetadataConstants;
 import org.hibernate.tool.api.reveng.RevengDialect;
+import org.hibernate.tool.api.reveng.RevengListener;
 import org.hibernate.tool.api.reveng.RevengStrategy;
 import org.hibernate.tool.api.reveng.RevengStrategy.SchemaSelection;
 import org.hibernate.tool.internal.reveng.RevengMetadataCollector;
+import org.hibernate.tool.internal.reveng.RevengMonitor;
+import org.hibernate.tool.internal.reveng.strategy.SynchronizedStrategy;
+import org.jboss.logging.Logger;
 
 public class DatabaseReader {
 
+    private static final Logger log = Logger.getLogger(DatabaseReader.class);
+
     public static DatabaseReader create(
             Properties properties,
             RevengStrategy revengStrategy,
             RevengDialect mdd,
             ServiceRegistry serviceRegistry) {
+        return create(properties, revengStrategy, mdd, null, serviceRegistry);
+    }
+
+    /**
+     * Creates a reader that, when {@link MetadataConstants#METADATA_READER_THREADS}
+     * is set to more than one thread, reads the per table metadata through
+     * additional dialects obtained from the given supplier.
+     */
+    public static DatabaseReader create(
+            Properties properties,
+            RevengStrategy revengStrategy,
+            RevengDialect mdd,
+            Supplier<RevengDialect> workerDialectSupplier,
+            ServiceRegistry serviceRegistry) {
+        return create(properties, revengStrategy, mdd, workerDialectSupplier, serviceRegistry, RevengMonitor.NONE);
+    }
+
+    /**
+     * Creates a reader that reports the time spent in its phases to the given monitor.
+     * The dialects are expected to be instrumented by the caller already.
+     */
+    public static DatabaseReader create(
+            Properties properties,
+            RevengStrategy revengStrategy,
+            RevengDialect mdd,
+            Supplier<RevengDialect> workerDialectSupplier,
+            ServiceRegistry serviceRegistry,
+            RevengMonitor monitor) {
         ConnectionProvider connectionProvider = serviceRegistry.getService(ConnectionProvider.class);
-        return new DatabaseReader(properties, mdd, connectionProvider, revengStrategy);
+        return create(properties, revengStrategy, mdd, workerDialectSupplier, connectionProvider, monitor);
+    }
+
+    /**
+     * Creates a reader using the given connection provider, which may be null
+     * for dialects that do not connect to a database, like the snapshot dialect.
+     */
+    public static DatabaseReader create(
+            Properties properties,
+            RevengStrategy revengStrategy,
+            RevengDialect mdd,
+            Supplier<RevengDialect> workerDialectSupplier,
+            ConnectionProvider connectionProvider,
+            RevengMonitor monitor) {
+        return new DatabaseReader(properties, mdd, workerDialectSupplier, connectionProvider, revengStrategy, monitor);
     }
 
     private final RevengStrategy revengStrategy;
 
     private final RevengDialect metadataDialect;
 
+    private final Supplier<RevengDialect> workerDialectSupplier;
+
     private final ConnectionProvider provider;
 
     private final Properties properties;
 
+    private final RevengMonitor monitor;
+
     private DatabaseReader(
             Properties properties,
             RevengDialect dialect,
+            Supplier<RevengDialect> workerDialectSupplier,
             ConnectionProvider provider,
-            RevengStrategy reveng) {
+            RevengStrategy reveng,
+            RevengMonitor monitor) {
+        this.monitor = monitor;
         this.metadataDialect = dialect;
+        this.workerDialectSupplier = workerDialectSupplier;
         this.provider = provider;
         this.revengStrategy = reveng;
         this.properties = properties;
@@ -68,46 +127,113 @@ public class DatabaseReader {
     }
 
     public void readDatabaseSchema(RevengMetadataCollector revengMetadataCollector) {
+        MetaDataWorkerPool workerPool = null;
+        long start = monitor.start();
         try {
             metadataDialect.configure(provider);
+            workerPool = createWorkerPool();
+            RevengStrategy strategy = getStrategy(workerPool);
             TableCollector tableCollector = TableCollector.create(
                     metadataDialect,
-                    revengStrategy,
+                    strategy,
                     revengMetadataCollector,
-                    properties);
+                    properties,
+                    workerPool);
+            boolean prefetch = isPrefetchEnabled();
             for ( SchemaSelection schemaSelection : getSchemaSelections() ) {
+                // a selection without catalog and schema would prefetch the whole database
+                if (prefetch && (schemaSelection.getMatchCatalog() != null || schemaSelection.getMatchSchema() != null)) {
+                    metadataDialect.prefetch(
+                            StringHelper.replace(schemaSelection.getMatchCatalog(), ".*", "%"),
+                            StringHelper.replace(schemaSelection.getMatchSchema(), ".*", "%"));
+                }
+                long processTablesStart = monitor.start();
                 tableCollector.processTables( schemaSelection );
+                monitor.phase(RevengListener.PROCESS_TABLES, processTablesStart);
             }
-            revengMetadataCollector.setOneToManyCandidates(resolveForeignKeys(revengMetadataCollector));
+            revengMetadataCollector.setOneToManyCandidates(resolveForeignKeys(revengMetadataCollector, workerPool, strategy));
 
         }
         finally {
+            if (workerPool != null) {
+                workerPool.close();
+            }
             metadataDialect.close();
             revengStrategy.close();
+            monitor.phase(RevengListener.READ_DATABASE_SCHEMA, start);
+        }
+    }
+
+    private MetaDataWorkerPool createWorkerPool() {
+        int threads = getReaderThreads();
+        if (threads > 1 && isPrefetchEnabled()) {
+            // the worker dialects have their own connections and would not see the prefetched rows
+            log.info("Metadata prefetch is enabled, ignoring " + MetadataConstants.METADATA_READER_THREADS);
+            return null;
         }
+        if (threads > 1 && workerDialectSupplier != null) {
+            return MetaDataWorkerPool.create(workerDialectSupplier, provider, threads);
+        }
+        return null;
+    }
+
+    // the worker threads call the strategy one at a time, it need not be thread safe
+    private RevengStrategy getStrategy(MetaDataWorkerPool workerPool) {
+        return workerPool == null ? revengStrategy : new SynchronizedStrategy(revengStrategy);
+    }
+
+    private boolean isPrefetchEnabled() {
+        Object value = properties.get(MetadataConstants.METADATA_PREFETCH);
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        return value != null && Boolean.parseBoolean(value.toString().trim());
+    }
+
+    private int getReaderThreads() {
+        Object value = properties.get(MetadataConstants.METADATA_READER_THREADS);
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        if (value instanceof String string && !string.isBlank()) {
+            return Integer.parseInt(string.trim());
+        }
+        return 1;
     }
 
     /**
      * Iterates the tables and find all the foreignkeys that refers to something
      * that is available inside the DatabaseCollector.
      */
-    private Map<String, List<ForeignKey>> resolveForeignKeys(RevengMetadataCollector revengMetadataCollector) {
+    private Map<String, List<ForeignKey>> resolveForeignKeys(
+            RevengMetadataCollector revengMetadataCollector,
+            MetaDataWorkerPool workerPool,
+            RevengStrategy strategy) {
         List<ForeignKeysInfo> fks = new ArrayList<ForeignKeysInfo>();
-        ForeignKeyProcessor foreignKeyProcessor = ForeignKeyProcessor.create(
-                metadataDialect,
-                revengStrategy,
-                getDefaultCatalog(),
-                getDefaultSchema(),
-                revengMetadataCollector);
-        for (Table table : revengMetadataCollector.getTables()) {
-            // Done here after the basic process of collections as we might not have touched
-            // all referenced tables (this ensure the columns are the same instances
-            // througout the basic JDBC derived model.
-            // after this stage it should be "ok" to divert from keeping columns in sync as
-            // it can be required if the same
-            // column is used with different aliases in the ORM mapping.
-            ForeignKeysInfo foreignKeys = foreignKeyProcessor.processForeignKeys(table);
-            fks.add(foreignKeys);
+        if (workerPool != null) {
+            // the exported keys are only read here, the foreign keys themselves
+            // are still created serially below in the original table order
+            fks.addAll(workerPool.map(
+                    new ArrayList<>(revengMetadataCollector.getTables()),
+                    (dialect, table) -> processForeignKeys(
+                            createForeignKeyProcessor(dialect, strategy, revengMetadataCollector),
+                            table)));
+        }
+        else {
+            ForeignKeyProcessor foreignKeyProcessor = createForeignKeyProcessor(
+                    metadataDialect,
+                    strategy,
+                    revengMetadataCollector);
+            for (Table table : revengMetadataCollector.getTables()) {
+                // Done here after the basic process of collections as we might not have touched
+                // all referenced tables (this ensure the columns are the same instances
+                // througout the basic JDBC derived model.
+                // after this stage it should be "ok" to divert from keeping columns in sync as
+                // it can be required if the same
+                // column is used with different aliases in the ORM mapping.
+                ForeignKeysInfo foreignKeys = processForeignKeys(foreignKeyProcessor, table);
+                fks.add(foreignKeys);
+            }
         }
 
         Map<String, List<ForeignKey>> oneToManyCandidates = new HashMap<String, List<ForeignKey>>();
@@ -119,6 +245,25 @@ public class DatabaseReader {
         return oneToManyCandidates;
     }
 
+    private ForeignKeysInfo processForeignKeys(ForeignKeyProcessor foreignKeyProcessor, Table table) {
+        long start = monitor.start();
+        ForeignKeysInfo result = foreignKeyProcessor.processForeignKeys(table);
+        monitor.phase(RevengListener.PROCESS_FOREIGN_KEYS, start);
+        return result;
+    }
+
+    private ForeignKeyProcessor createForeignKeyProcessor(
+            RevengDialect dialect,
+            RevengStrategy strategy,
+            RevengMetadataCollector revengMetadataCollector) {
+        return ForeignKeyProcessor.create(
+                dialect,
+                strategy,
+                getDefaultCatalog(),
+                getDefaultSchema(),
+                revengMetadataCollector);
+    }
+
     private void mergeMultiMap(Map<String, List<ForeignKey>> dest, Map<String, List<ForeignKey>> src) {
 
         for ( Entry<String, List<ForeignKey>> element : src.entrySet() ) {
@@ -24,8 +24,10 @@ import org.hibernate.MappingException;
 import org.hibernate.mapping.Column;
 import org.hibernate.mapping.ForeignKey;
 import org.hibernate.mapping.Table;
+import org.hibernate.tool.api.reveng.ExportedKeyRow;
 import org.hibernate.tool.api.reveng.RevengDialect;
 import org.hibernate.tool.api.reveng.RevengStrategy;
+import org.hibernate.tool.api.reveng.RowIterator;
 import org.hibernate.tool.api.reveng.TableIdentifier;
 import org.hibernate.tool.internal.reveng.RevengMetadataCollector;
 import org.hibernate.tool.internal.reveng.util.RevengUtils;
@@ -111,7 +113,7 @@ public class ForeignKeyProcessor {
             Map<String, List<Column>> referencedColumns) {
         try {
             log.debug("Calling getExportedKeys on " + referencedTable);
-            Iterator<Map<String, Object>> exportedKeyIterator = metaDataDialect.getExportedKeys(
+            RowIterator<ExportedKeyRow> exportedKeyIterator = metaDataDialect.getExportedKeyRows(
                     getCatalogForDBLookup(referencedTable.getCatalog(), defaultCatalog),
                     getSchemaForDBLookup(referencedTable.getSchema(), defaultSchema),
                     referencedTable.getName() );
@@ -130,7 +132,7 @@ public class ForeignKeyProcessor {
             finally {
                 try {
                     if(exportedKeyIterator!=null) {
-                        metaDataDialect.close(exportedKeyIterator);
+                        exportedKeyIterator.close();
                     }
                 }
                 catch(JDBCException se) {
@@ -144,7 +146,7 @@ public class ForeignKeyProcessor {
     }
 
     private void processExportedKey(
-            Map<String, Object> exportedKeyRs,
+            ExportedKeyRow exportedKeyRs,
             short bogusFkName,
             Map<String, List<Column>> dependentColumns,
             Map<String, Table> dependentTables,
@@ -159,15 +161,15 @@ public class ForeignKeyProcessor {
         }
     }
 
-    private Table determineForeignKeyTable(Map<String, Object> exportedKeyRs, String fkName) {
+    private Table determineForeignKeyTable(ExportedKeyRow exportedKeyRs, String fkName) {
         Table fkTable = getTable(
-                (String) exportedKeyRs.get("FKTABLE_CAT"),
-                (String) exportedKeyRs.get("FKTABLE_SCHEM"),
-                (String) exportedKeyRs.get("FKTABLE_NAME"));
+                exportedKeyRs.fkTableCatalog(),
+                exportedKeyRs.fkTableSchema(),
+                exportedKeyRs.fkTableName());
         if (fkTable == null) {
-            String fkCatalog = getCatalogForModel((String) exportedKeyRs.get("FKTABLE_CAT"), defaultCatalog);
-            String fkSchema = getSchemaForModel((String) exportedKeyRs.get("FKTABLE_SCHEM"), defaultSchema);
-            String fkTableName = (String) exportedKeyRs.get("FKTABLE_NAME");
+            String fkCatalog = getCatalogForModel(exportedKeyRs.fkTableCatalog(), defaultCatalog);
+            String fkSchema = getSchemaForModel(exportedKeyRs.fkTableSchema(), defaultSchema);
+            String fkTableName = exportedKeyRs.fkTableName();
             fkTable = getTable(fkCatalog, fkSchema, fkTableName);
             if (fkTable == null) {
                 log.debug(
@@ -181,9 +183,9 @@ public class ForeignKeyProcessor {
     }
 
     private String determineForeignKeyName(
-            Map<String, Object> exportedKeyRs,
+            ExportedKeyRow exportedKeyRs,
             short bogusFkName) {
-        String fkName = (String) exportedKeyRs.get("FK_NAME");
+        String fkName = exportedKeyRs.fkName();
         if (fkName == null) {
             fkName = Short.toString(bogusFkName);
         }
@@ -191,23 +193,23 @@ public class ForeignKeyProcessor {
     }
 
     private void handleReferences(
-            Map<String, Object> exportedKeyRs,
+            ExportedKeyRow exportedKeyRs,
             Map<String, List<Column>> referencedColumns,
             Table referencedTable,
             String fkName) {
         List<Column> primColumns = referencedColumns.computeIfAbsent( fkName, k -> new ArrayList<>() );
-        Column refColumn = new Column((String) exportedKeyRs.get("PKCOLUMN_NAME"));
+        Column refColumn = new Column(exportedKeyRs.pkColumnName());
         Column existingColumn = referencedTable.getColumn(refColumn);
         primColumns.add( Objects.requireNonNullElse( existingColumn, refColumn ) );
     }
 
     private void handleDependencies(
-            Map<String, Object> exportedKeyRs,
+            ExportedKeyRow exportedKeyRs,
             Map<String, List<Column>> dependentColumns,
             Map<String, Table> dependentTables,
             Table fkTable,
             String fkName) {
-        String fkColumnName = (String) exportedKeyRs.get("FKCOLUMN_NAME");
+        String fkColumnName = exportedKeyRs.fkColumnName();
         List<Column> depColumns =  dependentColumns.get(fkName);
         if (depColumns == null) {
             depColumns = new ArrayList<>();
@@ -20,7 +20,6 @@ package org.hibernate.tool.internal.reveng.reader;
 import java.sql.DatabaseMetaData;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -30,7 +29,9 @@ import org.hibernate.mapping.Column;
 import org.hibernate.mapping.Index;
 import org.hibernate.mapping.Table;
 import org.hibernate.mapping.UniqueKey;
+import org.hibernate.tool.api.reveng.IndexRow;
 import org.hibernate.tool.api.reveng.RevengDialect;
+import org.hibernate.tool.api.reveng.RowIterator;
 import org.hibernate.tool.internal.util.TableNameQualifier;
 import org.jboss.logging.Logger;
 
@@ -48,16 +49,16 @@ public class IndexProcessor {
         Map<String, UniqueKey> uniquekeys = new HashMap<>(); // name (String) -> UniqueKey
         Map<Column, List<UniqueKey>> uniqueColumns = new HashMap<>(); // Column -> List<Index>
 
-        Iterator<Map<String, Object>> indexIterator = null;
+        RowIterator<IndexRow> indexIterator = null;
         try {
-            Map<String,Object> indexRs;
-            indexIterator = metaDataDialect.getIndexInfo(getCatalogForDBLookup(table.getCatalog(), defaultCatalog), getSchemaForDBLookup(table.getSchema(), defaultSchema), table.getName());
+            IndexRow indexRs;
+            indexIterator = metaDataDialect.getIndexRows(getCatalogForDBLookup(table.getCatalog(), defaultCatalog), getSchemaForDBLookup(table.getSchema(), defaultSchema), table.getName());
 
             while (indexIterator.hasNext() ) {
                 indexRs = indexIterator.next();
-                String indexName = (String) indexRs.get("INDEX_NAME");
-                String columnName = (String) indexRs.get("COLUMN_NAME");
-                boolean unique = !(Boolean) indexRs.get( "NON_UNIQUE" );
+                String indexName = indexRs.indexName();
+                String columnName = indexRs.columnName();
+                boolean unique = !indexRs.nonUnique();
 
                 if (columnName != null || indexName != null) { // both can be non-null with statistical indexs which we don't have any use for.
 
@@ -103,7 +104,7 @@ public class IndexProcessor {
 
                 }
                 else {
-                    if( DatabaseMetaData.tableIndexStatistic != (Short) indexRs.get( "TYPE" ) ) {
+                    if( DatabaseMetaData.tableIndexStatistic != indexRs.type() ) {
                         log.warn("Index was not statistical, but no column name was found in " + indexName);
                     }
 
@@ -118,7 +119,7 @@ public class IndexProcessor {
         finally {
             if (indexIterator != null) {
                 try {
-                    metaDataDialect.close(indexIterator);
+                    indexIterator.close();
                 }
                 catch(JDBCException se) {
                     log.warn("Exception while trying to close resultset for index meta data",se);
@@ -0,0 +1,152 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.reader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.tool.api.reveng.RevengDialect;
+import org.jboss.logging.Logger;
+
+/**
+ * Bounded pool of worker threads, each borrowing one of a fixed number of
+ * {@link RevengDialect} instances (and thus at most one JDBC connection each)
+ * to read per-table metadata concurrently.
+ * Results are always returned in the order of the submitted items.
+ */
+public class MetaDataWorkerPool {
+
+    private static final Logger log = Logger.getLogger(MetaDataWorkerPool.class);
+
+    public static MetaDataWorkerPool create(
+            Supplier<RevengDialect> dialectSupplier,
+            ConnectionProvider connectionProvider,
+            int size) {
+        return new MetaDataWorkerPool(dialectSupplier, connectionProvider, size);
+    }
+
+    private final ExecutorService executor;
+    private final BlockingQueue<RevengDialect> idleDialects;
+    private final List<RevengDialect> allDialects;
+
+    private MetaDataWorkerPool(
+            Supplier<RevengDialect> dialectSupplier,
+            ConnectionProvider connectionProvider,
+            int size) {
+        this.idleDialects = new ArrayBlockingQueue<>(size);
+        this.allDialects = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            RevengDialect dialect = dialectSupplier.get();
+            dialect.configure(connectionProvider);
+            idleDialects.add(dialect);
+            allDialects.add(dialect);
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(size, r -> {
+            Thread thread = new Thread(r, "hibernatetool-metadata-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.debug("Reading table metadata with " + size + " worker connections");
+    }
+
+    /**
+     * Applies the task to every item on the worker threads and returns the
+     * results in the same order as the items.
+     */
+    public <T, R> List<R> map(List<T> items, BiFunction<RevengDialect, T, R> task) {
+        List<Future<R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(executor.submit(() -> runWithDialect(item, task)));
+        }
+        List<R> result = new ArrayList<>(items.size());
+        try {
+            for (Future<R> future : futures) {
+                result.add(await(future));
+            }
+        }
+        finally {
+            for (Future<R> future : futures) {
+                future.cancel(false);
+            }
+        }
+        return result;
+    }
+
+    public void close() {
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.warn("Metadata worker threads did not terminate in time");
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (RevengDialect dialect : allDialects) {
+            try {
+                dialect.close();
+            }
+            catch (RuntimeException e) {
+                log.warn("Exception while closing metadata worker dialect", e);
+            }
+        }
+    }
+
+    private <T, R> R runWithDialect(T item, BiFunction<RevengDialect, T, R> task) throws InterruptedException {
+        RevengDialect dialect = idleDialects.take();
+        try {
+            return task.apply(dialect, item);
+        }
+        finally {
+            idleDialects.add(dialect);
+        }
+    }
+
+    private static <R> R await(Future<R> future) {
+        try {
+            return future.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while reading database metadata", e);
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException("Problem while reading database metadata", cause);
+        }
+    }
+
+}
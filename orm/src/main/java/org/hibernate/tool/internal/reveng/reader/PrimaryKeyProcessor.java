@@ -24,8 +24,10 @@ import org.hibernate.mapping.Column;
 import org.hibernate.mapping.PrimaryKey;
 import org.hibernate.mapping.Table;
 import org.hibernate.sql.Alias;
+import org.hibernate.tool.api.reveng.PrimaryKeyRow;
 import org.hibernate.tool.api.reveng.RevengDialect;
 import org.hibernate.tool.api.reveng.RevengStrategy;
+import org.hibernate.tool.api.reveng.RowIterator;
 import org.hibernate.tool.internal.reveng.RevengMetadataCollector;
 import org.hibernate.tool.internal.reveng.util.RevengUtils;
 import org.jboss.logging.Logger;
@@ -44,17 +46,17 @@ public class PrimaryKeyProcessor {
 
         List<Object[]> columns = new ArrayList<>();
         PrimaryKey key = null;
-        Iterator<Map<String, Object>> primaryKeyIterator = null;
+        RowIterator<PrimaryKeyRow> primaryKeyIterator = null;
         try {
-            Map<String, Object> primaryKeyRs;
-            primaryKeyIterator = metaDataDialect.getPrimaryKeys(getCatalogForDBLookup(table.getCatalog(), defaultCatalog), getSchemaForDBLookup(table.getSchema(), defaultSchema), table.getName() );
+            PrimaryKeyRow primaryKeyRs;
+            primaryKeyIterator = metaDataDialect.getPrimaryKeyRows(getCatalogForDBLookup(table.getCatalog(), defaultCatalog), getSchemaForDBLookup(table.getSchema(), defaultSchema), table.getName() );
 
             while (primaryKeyIterator.hasNext() ) {
                 primaryKeyRs = primaryKeyIterator.next();
 
-                String columnName = (String) primaryKeyRs.get("COLUMN_NAME");
-                short seq = (Short) primaryKeyRs.get("KEY_SEQ");
-                String name = (String) primaryKeyRs.get("PK_NAME");
+                String columnName = primaryKeyRs.columnName();
+                short seq = primaryKeyRs.keySeq();
+                String name = primaryKeyRs.pkName();
 
                 if(key==null) {
                     key = new PrimaryKey(table);
@@ -76,7 +78,7 @@ public class PrimaryKeyProcessor {
         finally {
             if (primaryKeyIterator!=null) {
                 try {
-                    metaDataDialect.close(primaryKeyIterator);
+                    primaryKeyIterator.close();
                 }
                 catch(JDBCException se) {
                     log.warn("Exception when closing resultset for reading primary key information",se);
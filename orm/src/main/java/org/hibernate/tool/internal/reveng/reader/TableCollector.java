@@ -17,8 +17,10 @@
  */
 package org.hibernate.tool.internal.reveng.reader;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
@@ -41,39 +43,58 @@ public class TableCollector {
             RevengStrategy revengStrategy,
             RevengMetadataCollector revengMetadataCollector,
             Properties properties) {
+        return create(
+                metaDataDialect,
+                revengStrategy,
+                revengMetadataCollector,
+                properties,
+                null);
+    }
+
+    public static TableCollector create(
+            RevengDialect metaDataDialect,
+            RevengStrategy revengStrategy,
+            RevengMetadataCollector revengMetadataCollector,
+            Properties properties,
+            MetaDataWorkerPool workerPool) {
         return new TableCollector(
                 metaDataDialect,
                 revengStrategy,
                 revengMetadataCollector,
-                properties);
+                properties,
+                workerPool);
     }
 
     private final RevengDialect metaDataDialect;
     private final RevengStrategy revengStrategy;
     private final RevengMetadataCollector revengMetadataCollector;
     private final Properties properties;
+    private final MetaDataWorkerPool workerPool;
 
     private TableCollector(
             RevengDialect metaDataDialect,
             RevengStrategy revengStrategy,
             RevengMetadataCollector revengMetadataCollector,
-            Properties properties) {
+            Properties properties,
+            MetaDataWorkerPool workerPool) {
         this.metaDataDialect = metaDataDialect;
         this.revengStrategy = revengStrategy;
         this.revengMetadataCollector = revengMetadataCollector;
         this.properties = properties;
+        this.workerPool = workerPool;
     }
 
     public void processTables(SchemaSelection schemaSelection) {
         Iterator<Map<String,Object>> tableIterator = null;
         HashMap<Table, Boolean> processedTables = new HashMap<>();
+        List<PendingTable> pendingTables = new ArrayList<>();
         try {
             tableIterator = metaDataDialect.getTables(
                     StringHelper.replace(schemaSelection.getMatchCatalog(),".*", "%"),
                     StringHelper.replace(schemaSelection.getMatchSchema(),".*", "%"),
                     StringHelper.replace(schemaSelection.getMatchTable(),".*", "%"));
             while (tableIterator.hasNext() ) {
-                processTable(tableIterator.next(), processedTables);
+                processTable(tableIterator.next(), processedTables, pendingTables);
             }
         }
         finally {
@@ -81,9 +102,20 @@ public class TableCollector {
                 metaDataDialect.close(tableIterator);
             }
         }
+        if (!pendingTables.isEmpty()) {
+            // tables are registered serially above, only the per table
+            // lookups are spread over the worker connections
+            workerPool.map(pendingTables, (dialect, pendingTable) -> {
+                processTableDetails(dialect, pendingTable.table(), pendingTable.tableType());
+                return pendingTable;
+            });
+        }
     }
 
-    private void processTable(Map<String, Object> tableRs, HashMap<Table, Boolean> processedTables) {
+    private void processTable(
+            Map<String, Object> tableRs,
+            HashMap<Table, Boolean> processedTables,
+            List<PendingTable> pendingTables) {
         TableIdentifier tableIdentifier = TableIdentifier.create(
                 quote((String) tableRs.get("TABLE_CAT")),
                 quote((String) tableRs.get("TABLE_SCHEM")),
@@ -99,7 +131,8 @@ public class TableCollector {
                     tableIdentifier,
                     (String) tableRs.get("TABLE_TYPE"),
                     (String) tableRs.get("REMARKS"),
-                    processedTables);
+                    processedTables,
+                    pendingTables);
         }
     }
 
@@ -107,30 +140,17 @@ public class TableCollector {
             TableIdentifier tableIdentifier,
             String tableType,
             String comment,
-            HashMap<Table, Boolean> processedTables) {
+            HashMap<Table, Boolean> processedTables,
+            List<PendingTable> pendingTables) {
         if (isTypeToAdd(tableType)) { //||
             log.debug("Adding table " + tableIdentifier + " of type " + tableType);
             Table table = revengMetadataCollector.addTable(tableIdentifier);
             table.setComment(comment);
-            BasicColumnProcessor.processBasicColumns(
-                    metaDataDialect,
-                    revengStrategy,
-                    properties.getProperty(AvailableSettings.DEFAULT_SCHEMA),
-                    properties.getProperty(AvailableSettings.DEFAULT_CATALOG),
-                    table);
-            PrimaryKeyProcessor.processPrimaryKey(
-                    metaDataDialect,
-                    revengStrategy,
-                    properties.getProperty(AvailableSettings.DEFAULT_SCHEMA),
-                    properties.getProperty(AvailableSettings.DEFAULT_CATALOG),
-                    revengMetadataCollector,
-                    table);
-            if (tableType.equalsIgnoreCase("TABLE")) {
-                IndexProcessor.processIndices(
-                        metaDataDialect,
-                        properties.getProperty(AvailableSettings.DEFAULT_SCHEMA),
-                        properties.getProperty(AvailableSettings.DEFAULT_CATALOG),
-                        table);
+            if (workerPool == null) {
+                processTableDetails(metaDataDialect, table, tableType);
+            }
+            else {
+                pendingTables.add(new PendingTable(table, tableType));
             }
             processedTables.put(table, tableType.equalsIgnoreCase("TABLE"));
         }
@@ -139,6 +159,29 @@ public class TableCollector {
         }
     }
 
+    private void processTableDetails(RevengDialect dialect, Table table, String tableType) {
+        BasicColumnProcessor.processBasicColumns(
+                dialect,
+                revengStrategy,
+                properties.getProperty(AvailableSettings.DEFAULT_SCHEMA),
+                properties.getProperty(AvailableSettings.DEFAULT_CATALOG),
+                table);
+        PrimaryKeyProcessor.processPrimaryKey(
+                dialect,
+                revengStrategy,
+                properties.getProperty(AvailableSettings.DEFAULT_SCHEMA),
+                properties.getProperty(AvailableSettings.DEFAULT_CATALOG),
+                revengMetadataCollector,
+                table);
+        if (tableType.equalsIgnoreCase("TABLE")) {
+            IndexProcessor.processIndices(
+                    dialect,
+                    properties.getProperty(AvailableSettings.DEFAULT_SCHEMA),
+                    properties.getProperty(AvailableSettings.DEFAULT_CATALOG),
+                    table);
+        }
+    }
+
     private boolean isTypeToAdd(String tableType) {
         return "TABLE".equalsIgnoreCase(tableType) ||
                 "VIEW".equalsIgnoreCase(tableType) ||
@@ -160,4 +203,7 @@ public class TableCollector {
             return name;
         }
     }
+
+    private record PendingTable(Table table, String tableType) {}
+
 }
@@ -48,8 +48,14 @@ public abstract class AbstractStrategy implements RevengStrategy {
 
     private static final Set<String> AUTO_OPTIMISTICLOCK_COLUMNS;
 
+    private static final int NAME_CACHE_SIZE = 16384;
+
     private RevengSettings settings = new RevengSettings(this);
 
+    // the conversions only depend on the name, so they are computed once per name
+    private final NameCache upperCamelCaseNames = new NameCache(NAME_CACHE_SIZE);
+    private final NameCache propertyNames = new NameCache(NAME_CACHE_SIZE);
+
     static {
         AUTO_OPTIMISTICLOCK_COLUMNS = new HashSet<>();
         AUTO_OPTIMISTICLOCK_COLUMNS.add("version");
@@ -63,9 +69,11 @@ public abstract class AbstractStrategy implements RevengStrategy {
     }
 
     public String columnToPropertyName(TableIdentifier table, String columnName) {
-        String decapitalize = Introspector.decapitalize( toUpperCamelCase(columnName) );
+        return propertyNames.get( columnName, name -> {
+            String decapitalize = Introspector.decapitalize( toUpperCamelCase(name) );
 
-        return keywordCheck( decapitalize );
+            return keywordCheck( decapitalize );
+        } );
     }
 
     private String keywordCheck(String possibleKeyword) {
@@ -76,7 +84,7 @@ public abstract class AbstractStrategy implements RevengStrategy {
     }
 
     protected String toUpperCamelCase(String s) {
-        return NameConverter.toUpperCamelCase(s);
+        return upperCamelCaseNames.get( s, NameConverter::toUpperCamelCase );
     }
 
     /**
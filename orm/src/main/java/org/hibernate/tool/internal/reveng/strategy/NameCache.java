@@ -0,0 +1,55 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.strategy;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * A thread safe cache of converted names. It holds at most the given number
+ * of names and is emptied when full, so it stays small even for schemas with
+ * huge numbers of distinct names.
+ */
+final class NameCache {
+
+    private final Map<String, String> names = new ConcurrentHashMap<>();
+
+    private final int maxSize;
+
+    NameCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    String get(String name, UnaryOperator<String> converter) {
+        String result = names.get( name );
+        if ( result == null ) {
+            result = converter.apply( name );
+            if ( names.size() >= maxSize ) {
+                names.clear();
+            }
+            names.put( name, result );
+        }
+        return result;
+    }
+
+    int size() {
+        return names.size();
+    }
+
+}
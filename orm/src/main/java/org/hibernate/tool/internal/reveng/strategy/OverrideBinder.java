@@ -20,6 +20,7 @@ package org.hibernate.tool.internal.reveng.strategy;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.function.Consumer;
 
 import org.apache.commons.collections4.MultiValuedMap;
 import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
@@ -49,6 +50,47 @@ public class OverrideBinder {
         bindTables(getChildElements(rootElement, "table"), repository);
     }
 
+    /**
+     * @return a consumer that binds the top level elements of one document
+     * one by one, in the order they are read
+     */
+    public static Consumer<Element> elementBinder(OverrideRepository repository) {
+        return new ElementBinder(repository);
+    }
+
+    private static class ElementBinder implements Consumer<Element> {
+
+        private final OverrideRepository repository;
+
+        // like bindRoot, only the first type-mapping of a document is used
+        private boolean typeMappingBound = false;
+
+        private ElementBinder(OverrideRepository repository) {
+            this.repository = repository;
+        }
+
+        @Override
+        public void accept(Element element) {
+            String tagName = element.getTagName();
+            if ("schema-selection".equals(tagName)) {
+                bindSchemaSelection(element, repository);
+            }
+            else if ("type-mapping".equals(tagName)) {
+                if (!typeMappingBound) {
+                    bindTypeMapping(element, repository);
+                    typeMappingBound = true;
+                }
+            }
+            else if ("table-filter".equals(tagName)) {
+                bindTableFilter(element, repository);
+            }
+            else if ("table".equals(tagName)) {
+                bindTable(element, repository);
+            }
+        }
+
+    }
+
     private static void bindSchemaSelections(
             ArrayList<Element> schemaSelections,
             OverrideRepository repository) {
@@ -69,43 +111,55 @@ public class OverrideBinder {
             ArrayList<Element> tableFilters,
             OverrideRepository repository) {
         for (Element element : tableFilters) {
-            TableFilter tableFilter = new TableFilter();
-            tableFilter.setMatchCatalog(getAttribute(element, "match-catalog"));
-            tableFilter.setMatchSchema(getAttribute(element, "match-schema"));
-            tableFilter.setMatchName(getAttribute(element, "match-name"));
-            tableFilter.setExclude(Boolean.valueOf(getAttribute(element, "exclude")));
-            tableFilter.setPackage(getAttribute(element, "package"));
-            MultiValuedMap<String, SimpleMetaAttribute> map =
-                    MetaAttributeHelper.loadAndMergeMetaMap(
-                            element,
-                            new HashSetValuedHashMap<>());
-            if ( !map.isEmpty() ) {
-                tableFilter.setMetaAttributes(map);
-            }
-            else {
-                tableFilter.setMetaAttributes(null);
-            }
-            repository.addTableFilter(tableFilter);
+            bindTableFilter(element, repository);
+        }
+    }
+
+    private static void bindTableFilter(
+            Element element,
+            OverrideRepository repository) {
+        TableFilter tableFilter = new TableFilter();
+        tableFilter.setMatchCatalog(getAttribute(element, "match-catalog"));
+        tableFilter.setMatchSchema(getAttribute(element, "match-schema"));
+        tableFilter.setMatchName(getAttribute(element, "match-name"));
+        tableFilter.setExclude(Boolean.valueOf(getAttribute(element, "exclude")));
+        tableFilter.setPackage(getAttribute(element, "package"));
+        MultiValuedMap<String, SimpleMetaAttribute> map =
+                MetaAttributeHelper.loadAndMergeMetaMap(
+                        element,
+                        new HashSetValuedHashMap<>());
+        if ( !map.isEmpty() ) {
+            tableFilter.setMetaAttributes(map);
         }
+        else {
+            tableFilter.setMetaAttributes(null);
+        }
+        repository.addTableFilter(tableFilter);
     }
 
     private static void bindTables(
             ArrayList<Element> tables,
             OverrideRepository repository) {
         for (Element element : tables) {
-            Table table = new Table("Hibernate Tools");
-            table.setCatalog(getAttribute(element, "catalog"));
-            table.setSchema(getAttribute(element, "schema"));
-            table.setName(getAttribute(element, "name"));
-            ArrayList<Element> primaryKeys = getChildElements(element, "primary-key");
-            if ( !primaryKeys.isEmpty() ) {
-                bindPrimaryKey(primaryKeys.get(0), table, repository);
-            }
-            bindColumns(getChildElements(element, "column"), table, repository);
-            bindForeignKeys(getChildElements(element, "foreign-key"), table, repository);
-            bindMetaAttributes(element, table, repository);
-            repository.addTable(table, getAttribute(element, "class"));
+            bindTable(element, repository);
+        }
+    }
+
+    private static void bindTable(
+            Element element,
+            OverrideRepository repository) {
+        Table table = new Table("Hibernate Tools");
+        table.setCatalog(getAttribute(element, "catalog"));
+        table.setSchema(getAttribute(element, "schema"));
+        table.setName(getAttribute(element, "name"));
+        ArrayList<Element> primaryKeys = getChildElements(element, "primary-key");
+        if ( !primaryKeys.isEmpty() ) {
+            bindPrimaryKey(primaryKeys.get(0), table, repository);
         }
+        bindColumns(getChildElements(element, "column"), table, repository);
+        bindForeignKeys(getChildElements(element, "foreign-key"), table, repository);
+        bindMetaAttributes(element, table, repository);
+        repository.addTable(table, getAttribute(element, "class"));
     }
 
     private static void bindPrimaryKey(
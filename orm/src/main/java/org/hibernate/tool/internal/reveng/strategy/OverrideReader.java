@@ -0,0 +1,164 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.strategy;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.hibernate.MappingException;
+import org.jboss.logging.Logger;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Reads a reveng.xml document with a SAX parser and hands each top level element
+ * (<code>table-filter</code>, <code>table</code>, <code>type-mapping</code>, ...)
+ * to a consumer as soon as its end tag is read. Only the element being read is kept
+ * in memory, so large files no longer need a DOM of the whole document.
+ *
+ * The parser is the same xerces implementation that used to build the DOM, so
+ * attribute handling and the reported parse errors are unchanged. An error reported
+ * by the parser stops at the next top level element, so a consumer may already have
+ * seen the elements before it; {@link #readElements(InputStream)} only returns
+ * the elements of documents that were read without errors.
+ */
+class OverrideReader {
+
+    private static final Logger log = Logger.getLogger(OverrideReader.class);
+
+    private static final String SAX_PARSER_FACTORY =
+            "com.sun.org.apache.xerces.internal.jaxp.SAXParserFactoryImpl";
+
+    private static final String DOCUMENT_BUILDER_FACTORY =
+            "com.sun.org.apache.xerces.internal.jaxp.DocumentBuilderFactoryImpl";
+
+    // captured on creation, the reader may be used from worker threads
+    private final ClassLoader classLoader;
+
+    OverrideReader() {
+        this.classLoader = Thread.currentThread().getContextClassLoader();
+    }
+
+    void read(InputStream xmlInputStream, Consumer<Element> consumer) throws Exception {
+        SAXParser parser = SAXParserFactory.newInstance(SAX_PARSER_FACTORY, classLoader).newSAXParser();
+        Document document = DocumentBuilderFactory.newInstance(DOCUMENT_BUILDER_FACTORY, classLoader)
+                .newDocumentBuilder()
+                .newDocument();
+        Handler handler = new Handler(document, consumer);
+        parser.parse(xmlInputStream, handler);
+        handler.checkErrors();
+    }
+
+    /**
+     * @return the top level elements of the document in document order
+     */
+    List<Element> readElements(InputStream xmlInputStream) throws Exception {
+        List<Element> result = new ArrayList<>();
+        read(xmlInputStream, result::add);
+        return result;
+    }
+
+    private static class Handler extends DefaultHandler {
+
+        private final Document document;
+        private final Consumer<Element> consumer;
+        private final List<SAXParseException> errors = new ArrayList<>();
+
+        private int depth;
+        private Element current;
+
+        Handler(Document document, Consumer<Element> consumer) {
+            this.document = document;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            depth++;
+            if (depth == 1) {
+                // the root element itself carries nothing to bind
+                return;
+            }
+            Element element = document.createElement(qName);
+            for (int i = 0; i < attributes.getLength(); i++) {
+                element.setAttribute(attributes.getQName(i), attributes.getValue(i));
+            }
+            if (current != null) {
+                current.appendChild(element);
+            }
+            current = element;
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            depth--;
+            if (current == null) {
+                return;
+            }
+            Node parent = current.getParentNode();
+            if (parent == null) {
+                checkErrors();
+                consumer.accept(current);
+                current = null;
+            }
+            else {
+                current = (Element) parent;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (current != null) {
+                current.appendChild(document.createTextNode(new String(ch, start, length)));
+            }
+        }
+
+        @Override
+        public void warning(SAXParseException exception) {
+            log.warn("warning while parsing xml", exception);
+        }
+
+        @Override
+        public void error(SAXParseException exception) {
+            errors.add(exception);
+        }
+
+        @Override
+        public void fatalError(SAXParseException exception) {
+            error(exception);
+        }
+
+        void checkErrors() {
+            if (!errors.isEmpty()) {
+                throw new MappingException("invalid override definition", errors.get(0));
+            }
+        }
+
+    }
+
+}
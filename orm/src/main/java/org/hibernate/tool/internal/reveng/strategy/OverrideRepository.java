@@ -22,18 +22,16 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import java.util.function.UnaryOperator;
 
 import org.apache.commons.collections4.MapIterator;
 import org.apache.commons.collections4.MultiValuedMap;
@@ -50,9 +48,7 @@ import org.hibernate.tool.internal.reveng.strategy.MetaAttributeHelper.SimpleMet
 import org.hibernate.tool.internal.util.JdbcToHibernateTypeHelper;
 import org.hibernate.tool.internal.util.TableNameQualifier;
 import org.jboss.logging.Logger;
-import org.w3c.dom.Document;
-import org.xml.sax.ErrorHandler;
-import org.xml.sax.SAXParseException;
+import org.w3c.dom.Element;
 
 public class OverrideRepository  {
 
@@ -62,6 +58,9 @@ public class OverrideRepository  {
 
     final private List<TableFilter> tableFilters;
 
+    // built on first use, reset when a filter is added
+    private volatile TableFilterIndex tableFilterIndex;
+
     final private Map<TableIdentifier, List<ForeignKey>> foreignKeys; // key: TableIdentifier element: List of foreignkeys that references the Table
 
     final private Map<TableColumnKey, String> typeForColumn;
@@ -158,42 +157,129 @@ public class OverrideRepository  {
         }
     }
 
+    /**
+     * Binds the elements of the document while it is being read, see {@link OverrideReader},
+     * so only the element being read is kept in memory. If the document turns out to be
+     * broken, the repository is reset to its state before the document.
+     */
     public OverrideRepository addInputStream(InputStream xmlInputStream) throws MappingException {
+        Runnable rollback = snapshot();
         try {
-            final List<SAXParseException> errors = new ArrayList<>();
-            ErrorHandler errorHandler = new ErrorHandler() {
-                @Override
-                public void warning(SAXParseException exception) {
-                    log.warn("warning while parsing xml", exception);
-                }
-                @Override
-                public void error(SAXParseException exception) {
-                    errors.add(exception);
-                }
-                @Override
-                public void fatalError(SAXParseException exception) {
-                    error(exception);
-                }
-            };
-            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance(
-                    "com.sun.org.apache.xerces.internal.jaxp.DocumentBuilderFactoryImpl",
-                    Thread.currentThread().getContextClassLoader());
-            DocumentBuilder db = dbf.newDocumentBuilder();
-            db.setErrorHandler(errorHandler);
-            Document document = db.parse(xmlInputStream);
-            if ( !errors.isEmpty()) throw new MappingException( "invalid override definition", errors.get( 0 ) );
-            add( document );
+            new OverrideReader().read(xmlInputStream, OverrideBinder.elementBinder(this));
             return this;
         }
         catch ( MappingException me ) {
+            rollback.run();
             throw me;
         }
         catch ( Exception e ) {
+            rollback.run();
             log.error( "Could not configure overrides from input stream", e );
             throw new MappingException( e );
         }
     }
 
+    /**
+     * @return restores the current content of the repository; the collections are
+     * copied, not the bound objects, which are not changed once they are added
+     */
+    private Runnable snapshot() {
+        List<Runnable> restores = new ArrayList<>();
+        restores.add(snapshot(typeMappings, ArrayList::new));
+        restores.add(snapshot(foreignKeys, ArrayList::new));
+        restores.add(snapshot(typeForColumn));
+        restores.add(snapshot(propertyNameForColumn));
+        restores.add(snapshot(identifierStrategyForTable));
+        restores.add(snapshot(identifierPropertiesForTable));
+        restores.add(snapshot(primaryKeyColumnsForTable));
+        restores.add(snapshot(excludedColumns));
+        restores.add(snapshot(tableToClassName.map));
+        restores.add(snapshot(schemaSelections));
+        restores.add(snapshot(propertyNameForPrimaryKey));
+        restores.add(snapshot(compositeIdNameForTable));
+        restores.add(snapshot(foreignKeyToOneName));
+        restores.add(snapshot(foreignKeyToInverseName));
+        restores.add(snapshot(foreignKeyInverseExclude));
+        restores.add(snapshot(foreignKeyToOneExclude));
+        restores.add(snapshot(foreignKeyToEntityInfo));
+        restores.add(snapshot(foreignKeyToInverseEntityInfo));
+        restores.add(snapshot(tableMetaAttributes));
+        restores.add(snapshot(columnMetaAttributes));
+        List<TableFilter> filters;
+        synchronized (tableFilters) {
+            filters = new ArrayList<>(tableFilters);
+        }
+        return () -> {
+            restores.forEach(Runnable::run);
+            synchronized (tableFilters) {
+                tableFilters.clear();
+                tableFilters.addAll(filters);
+                tableFilterIndex = null;
+            }
+        };
+    }
+
+    private static <K, V> Runnable snapshot(Map<K, V> map) {
+        return snapshot(map, v -> v);
+    }
+
+    private static <K, V> Runnable snapshot(Map<K, V> map, UnaryOperator<V> copy) {
+        Map<K, V> content = new HashMap<>();
+        map.forEach((key, value) -> content.put(key, copy.apply(value)));
+        return () -> {
+            map.clear();
+            map.putAll(content);
+        };
+    }
+
+    private static <E> Runnable snapshot(Collection<E> collection) {
+        List<E> content = new ArrayList<>(collection);
+        return () -> {
+            collection.clear();
+            collection.addAll(content);
+        };
+    }
+
+    /**
+     * Reads several override files concurrently and binds them in the given order,
+     * so the result is the same as calling {@link #addFile(File)} for each of them.
+     * Unlike {@link #addFile(File)}, this keeps the elements of all the files in
+     * memory until they are bound; for a single large file, use {@link #addFile(File)}.
+     */
+    public OverrideRepository addFiles(File... xmlFiles) {
+        if (xmlFiles.length < 2) {
+            for (File xmlFile : xmlFiles) {
+                addFile(xmlFile);
+            }
+            return this;
+        }
+        OverrideReader reader = new OverrideReader();
+        List<List<Element>> documents = Arrays.stream(xmlFiles)
+                .parallel()
+                .map(xmlFile -> readElements(reader, xmlFile))
+                .toList();
+        for (int i = 0; i < xmlFiles.length; i++) {
+            try {
+                documents.get(i).forEach(OverrideBinder.elementBinder(this));
+            }
+            catch ( MappingException e ) {
+                throw new MappingException( "Could not configure overrides from file: " + xmlFiles[i].getPath(), e );
+            }
+        }
+        return this;
+    }
+
+    private static List<Element> readElements(OverrideReader reader, File xmlFile) {
+        log.info( "Override file: " + xmlFile.getPath() );
+        try (InputStream xmlInputStream = new FileInputStream( xmlFile )) {
+            return reader.readElements( xmlInputStream );
+        }
+        catch ( Exception e ) {
+            log.error( "Could not configure overrides from file: " + xmlFile.getPath(), e );
+            throw new MappingException( "Could not configure overrides from file: " + xmlFile.getPath(), e );
+        }
+    }
+
     public void addInputStream(File file) throws MappingException {
         try (InputStream xmlInputStream = new FileInputStream( file )) {
             try {
@@ -209,10 +295,6 @@ public class OverrideRepository  {
         }
     }
 
-    private void add(Document doc) {
-        OverrideBinder.bindRoot(this, doc);
-    }
-
     private String getPreferredHibernateType(int sqlType, int length, int precision, int scale, boolean nullable) {
         List<SQLTypeMapping> l = typeMappings.get(new TypeMappingKey(sqlType,length) );
 
@@ -273,35 +355,37 @@ public class OverrideRepository  {
     }
 
     protected String getPackageName(TableIdentifier identifier) {
-        for ( TableFilter tf : tableFilters ) {
-            String value = tf.getPackage( identifier );
-            if ( value != null ) {
-                return value;
-            }
-        }
-        return null;
+        return getTableFilterIndex().findFirst(identifier, tf -> tf.getPackage(identifier));
     }
 
     protected boolean excludeTable(TableIdentifier identifier) {
-        Iterator<TableFilter> iterator = tableFilters.iterator();
-        boolean hasInclude = false;
-
-        while(iterator.hasNext() ) {
-            TableFilter tf = iterator.next();
-            Boolean value = tf.exclude(identifier);
-            if(value!=null) {
-                return value;
-            }
-            if(!tf.getExclude() ) {
-                hasInclude = true;
-            }
+        Boolean value = getTableFilterIndex().findFirst(identifier, tf -> tf.exclude(identifier));
+        if(value!=null) {
+            return value;
         }
-
-        return hasInclude;
+        // no filter matched, so the table is excluded if there are any include filters
+        return getTableFilterIndex().hasIncludeFilters();
     }
 
     public void addTableFilter(TableFilter filter) {
-        tableFilters.add(filter);
+        synchronized (tableFilters) {
+            tableFilters.add(filter);
+            tableFilterIndex = null;
+        }
+    }
+
+    private TableFilterIndex getTableFilterIndex() {
+        TableFilterIndex result = tableFilterIndex;
+        if (result == null) {
+            synchronized (tableFilters) {
+                result = tableFilterIndex;
+                if (result == null) {
+                    result = new TableFilterIndex(tableFilters);
+                    tableFilterIndex = result;
+                }
+            }
+        }
+        return result;
     }
 
     public RevengStrategy getReverseEngineeringStrategy(RevengStrategy delegate) {
@@ -579,13 +663,7 @@ public class OverrideRepository  {
     }
 
     private MultiValuedMap<String, SimpleMetaAttribute> findGeneralAttributes(TableIdentifier identifier) {
-        for ( TableFilter tf : tableFilters ) {
-            MultiValuedMap<String, SimpleMetaAttribute> value = tf.getMetaAttributes( identifier );
-            if ( value != null ) {
-                return value;
-            }
-        }
-        return null;
+        return getTableFilterIndex().findFirst(identifier, tf -> tf.getMetaAttributes(identifier));
     }
 
     private Map<String, MetaAttribute> toMetaAttributes(MultiValuedMap<String, SimpleMetaAttribute> mvm) {
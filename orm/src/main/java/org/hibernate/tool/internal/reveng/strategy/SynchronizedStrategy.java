@@ -0,0 +1,166 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.strategy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.hibernate.mapping.ForeignKey;
+import org.hibernate.mapping.MetaAttribute;
+import org.hibernate.mapping.Table;
+import org.hibernate.tool.api.reveng.AssociationInfo;
+import org.hibernate.tool.api.reveng.RevengSettings;
+import org.hibernate.tool.api.reveng.RevengStrategy;
+import org.hibernate.tool.api.reveng.TableIdentifier;
+
+/**
+ * Passes the calls on to the delegate one at a time, so a strategy that is not
+ * thread safe can be used by the threads reading the table metadata.
+ */
+public class SynchronizedStrategy extends DelegatingStrategy {
+
+	public SynchronizedStrategy(RevengStrategy delegate) {
+		super(delegate);
+	}
+
+	public synchronized List<ForeignKey> getForeignKeys(TableIdentifier referencedTable) {
+		return super.getForeignKeys(referencedTable);
+	}
+
+	public synchronized String columnToPropertyName(TableIdentifier table, String column) {
+		return super.columnToPropertyName(table, column);
+	}
+
+	public synchronized boolean excludeTable(TableIdentifier ti) {
+		return super.excludeTable(ti);
+	}
+
+	public synchronized boolean excludeColumn(TableIdentifier identifier, String columnName) {
+		return super.excludeColumn(identifier, columnName);
+	}
+
+	public synchronized String foreignKeyToCollectionName(String keyname, TableIdentifier fromTable, List<?> fromColumns, TableIdentifier referencedTable, List<?> referencedColumns, boolean uniqueReference) {
+		return super.foreignKeyToCollectionName(keyname, fromTable, fromColumns, referencedTable, referencedColumns, uniqueReference);
+	}
+
+	public synchronized String foreignKeyToEntityName(String keyname, TableIdentifier fromTable, List<?> fromColumnNames, TableIdentifier referencedTable, List<?> referencedColumnNames, boolean uniqueReference) {
+		return super.foreignKeyToEntityName(keyname, fromTable, fromColumnNames, referencedTable, referencedColumnNames, uniqueReference);
+	}
+
+	public synchronized String columnToHibernateTypeName(TableIdentifier table, String columnName, int sqlType, int length, int precision, int scale, boolean nullable, boolean generatedIdentifier) {
+		return super.columnToHibernateTypeName(table, columnName, sqlType, length, precision, scale, nullable, generatedIdentifier);
+	}
+
+	public synchronized String tableToClassName(TableIdentifier tableIdentifier) {
+		return super.tableToClassName(tableIdentifier);
+	}
+
+	public synchronized String getTableIdentifierStrategyName(TableIdentifier tableIdentifier) {
+		return super.getTableIdentifierStrategyName(tableIdentifier);
+	}
+
+	public synchronized Properties getTableIdentifierProperties(TableIdentifier identifier) {
+		return super.getTableIdentifierProperties(identifier);
+	}
+
+	public synchronized List<String> getPrimaryKeyColumnNames(TableIdentifier identifier) {
+		return super.getPrimaryKeyColumnNames(identifier);
+	}
+
+	public synchronized String classNameToCompositeIdName(String className) {
+		return super.classNameToCompositeIdName(className);
+	}
+
+	public synchronized void close() {
+		super.close();
+	}
+
+	public synchronized String getOptimisticLockColumnName(TableIdentifier identifier) {
+		return super.getOptimisticLockColumnName(identifier);
+	}
+
+	public synchronized boolean useColumnForOptimisticLock(TableIdentifier identifier, String column) {
+		return super.useColumnForOptimisticLock(identifier, column);
+	}
+
+	public synchronized List<SchemaSelection> getSchemaSelections() {
+		return super.getSchemaSelections();
+	}
+
+	public synchronized String tableToIdentifierPropertyName(TableIdentifier tableIdentifier) {
+		return super.tableToIdentifierPropertyName(tableIdentifier);
+	}
+
+	public synchronized String tableToCompositeIdName(TableIdentifier identifier) {
+		return super.tableToCompositeIdName(identifier);
+	}
+
+	public synchronized boolean excludeForeignKeyAsCollection(String keyname, TableIdentifier fromTable, List<?> fromColumns, TableIdentifier referencedTable, List<?> referencedColumns) {
+		return super.excludeForeignKeyAsCollection(keyname, fromTable, fromColumns, referencedTable, referencedColumns);
+	}
+
+	public synchronized boolean excludeForeignKeyAsManytoOne(String keyname, TableIdentifier fromTable, List<?> fromColumns, TableIdentifier referencedTable, List<?> referencedColumns) {
+		return super.excludeForeignKeyAsManytoOne(keyname, fromTable, fromColumns, referencedTable, referencedColumns);
+	}
+
+	public synchronized boolean isForeignKeyCollectionInverse(String name, Table foreignKeyTable, List<?> columns, Table foreignKeyReferencedTable, List<?> referencedColumns) {
+		return super.isForeignKeyCollectionInverse(name, foreignKeyTable, columns, foreignKeyReferencedTable, referencedColumns);
+	}
+
+	public synchronized boolean isForeignKeyCollectionLazy(String name, TableIdentifier foreignKeyTable, List<?> columns, TableIdentifier foreignKeyReferencedTable, List<?> referencedColumns) {
+		return super.isForeignKeyCollectionLazy(name, foreignKeyTable, columns, foreignKeyReferencedTable, referencedColumns);
+	}
+
+	public synchronized void setSettings(RevengSettings settings) {
+		super.setSettings(settings);
+	}
+
+	public synchronized boolean isManyToManyTable(Table table) {
+		return super.isManyToManyTable(table);
+	}
+
+	public synchronized boolean isOneToOne(ForeignKey foreignKey) {
+		return super.isOneToOne(foreignKey);
+	}
+
+	public synchronized String foreignKeyToManyToManyName(ForeignKey fromKey, TableIdentifier middleTable, ForeignKey toKey, boolean uniqueReference) {
+		return super.foreignKeyToManyToManyName(fromKey, middleTable, toKey, uniqueReference);
+	}
+
+	public synchronized Map<String,MetaAttribute> tableToMetaAttributes(TableIdentifier tableIdentifier) {
+		return super.tableToMetaAttributes(tableIdentifier);
+	}
+
+	public synchronized Map<String, MetaAttribute> columnToMetaAttributes(TableIdentifier identifier, String column) {
+		return super.columnToMetaAttributes(identifier, column);
+	}
+
+	public synchronized AssociationInfo foreignKeyToAssociationInfo(ForeignKey foreignKey) {
+		return super.foreignKeyToAssociationInfo(foreignKey);
+	}
+
+	public synchronized AssociationInfo foreignKeyToInverseAssociationInfo(ForeignKey foreignKey) {
+		return super.foreignKeyToInverseAssociationInfo(foreignKey);
+	}
+
+	public synchronized String foreignKeyToInverseEntityName(String keyname, TableIdentifier fromTable, List<?> fromColumnNames, TableIdentifier referencedTable, List<?> referencedColumnNames, boolean uniqueReference) {
+		return super.foreignKeyToInverseEntityName(keyname, fromTable, fromColumnNames, referencedTable, referencedColumnNames, uniqueReference);
+	}
+
+}
@@ -17,6 +17,8 @@
  */
 package org.hibernate.tool.internal.reveng.strategy;
 
+import java.util.regex.Pattern;
+
 import org.apache.commons.collections4.MultiValuedMap;
 import org.hibernate.tool.api.reveng.TableIdentifier;
 import org.hibernate.tool.internal.reveng.strategy.MetaAttributeHelper.SimpleMetaAttribute;
@@ -32,18 +34,25 @@ import org.hibernate.tool.internal.reveng.strategy.MetaAttributeHelper.SimpleMet
  */
 public class TableFilter {
 
-	// TODO: very basic substring matching. Possibly include regex functionallity ? (jdk 1.4 dep)
+	/**
+	 * Matches a name against <code>.*</code> (anything), <code>value</code> (equals),
+	 * <code>value.*</code> (starts with), <code>.*value</code> (ends with) or
+	 * <code>.*value.*</code> (contains). Any other use of regular expression
+	 * syntax makes the whole value a {@link Pattern} that must match the entire name.
+	 */
 	public static class Matcher {
 		
-		private static final int EQUALS = 1;
-		private static final int ENDSWITH = 2;
-		private static final int STARTSWITH = 3;
-		private static final int SUBSTRING = 4;
-		private static final int ANY = 5;
+		static final int EQUALS = 1;
+		static final int ENDSWITH = 2;
+		static final int STARTSWITH = 3;
+		static final int SUBSTRING = 4;
+		static final int ANY = 5;
+		static final int REGEX = 6;
 		
 		final int mode;
 		final String value;
 		final String matchValue;
+		final Pattern pattern;
 		
 		Matcher(String match) {
 			matchValue = match;
@@ -51,36 +60,57 @@ public class TableFilter {
 				mode = ANY;
 				value = null;
 			} 
-			else if(match.length()>4 && match.startsWith(".*") && match.endsWith(".*") ) {
+			else if(match.length()>4 && match.startsWith(".*") && match.endsWith(".*") && isLiteral(match.substring(2, match.length()-2))) {
 				mode = SUBSTRING;
 				value = match.substring(2, match.length()-2);
 			}  
-			else if(match.endsWith(".*") ) {
+			else if(match.endsWith(".*") && isLiteral(match.substring(0, match.length()-2))) {
 				mode = STARTSWITH;
 				value = match.substring(0, match.length()-2);
 			} 
-			else if (match.startsWith(".*") ){
+			else if (match.startsWith(".*") && isLiteral(match.substring(2))){
 				mode = ENDSWITH;
 				value = match.substring(2);
 			} 
-			else {
+			else if (isLiteral(match)) {
 				mode = EQUALS;
 				value = match;
 			}
+			else {
+				mode = REGEX;
+				value = match;
+			}
+			pattern = mode == REGEX ? Pattern.compile(match) : null;
 		}
 		
 		boolean match(String matchEnum) {
+			if (mode == ANY) {
+				return true;
+			}
+			if (matchEnum == null) {
+				return false;
+			}
 			switch (mode) {
-			case ANY: return true;
 			case EQUALS: return this.value.equals(matchEnum);
 			case ENDSWITH: return matchEnum.endsWith(this.value);
 			case STARTSWITH: return matchEnum.startsWith(this.value);
 			case SUBSTRING: return matchEnum.indexOf(this.value)>=0;
+			case REGEX: return pattern.matcher(matchEnum).matches();
 			default:
 				throw new IllegalStateException();				
 			}
 		}
 		
+		// '.' and '$' are left out, they are common in plain table names
+		private static boolean isLiteral(String value) {
+			for (int i = 0; i < value.length(); i++) {
+				if ("[](){}|+?*^\\".indexOf(value.charAt(i)) >= 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+		
 		public String toString() {
 			return matchValue;
 		}
@@ -131,6 +161,10 @@ public class TableFilter {
 		return isRelevantFor(identifier) ? packageName : null;
 	}
 	
+	Matcher getNameMatcher() {
+		return nameMatcher;
+	}
+	
 	private boolean isRelevantFor(TableIdentifier identifier) {
 		if(catalogMatcher.match(identifier.getCatalog() ) ) {
 			if(schemaMatcher.match(identifier.getSchema() ) ) {
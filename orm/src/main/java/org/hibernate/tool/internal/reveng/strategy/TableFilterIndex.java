@@ -0,0 +1,127 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.strategy;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.hibernate.tool.api.reveng.TableIdentifier;
+
+/**
+ * Index over the table filters of an {@link OverrideRepository}, keyed on their
+ * name matchers. Only the filters whose name matcher can possibly match are
+ * evaluated, still in the order they were added, so the first matching filter wins
+ * just as with a linear scan.
+ */
+final class TableFilterIndex {
+
+	private final List<TableFilter> filters;
+	private final Map<String, BitSet> exactNames = new HashMap<>();
+	private final Node prefixes = new Node();
+	private final Node suffixes = new Node();
+	// filters matching any name and those that have to be evaluated (substring and regex)
+	private final BitSet unindexed = new BitSet();
+	private final boolean hasIncludeFilters;
+
+	TableFilterIndex(List<TableFilter> filters) {
+		this.filters = List.copyOf(filters);
+		boolean includes = false;
+		for (int i = 0; i < this.filters.size(); i++) {
+			TableFilter.Matcher matcher = this.filters.get(i).getNameMatcher();
+			switch (matcher.mode) {
+			case TableFilter.Matcher.EQUALS:
+				exactNames.computeIfAbsent(matcher.value, k -> new BitSet()).set(i);
+				break;
+			case TableFilter.Matcher.STARTSWITH:
+				prefixes.add(matcher.value, false).filters.set(i);
+				break;
+			case TableFilter.Matcher.ENDSWITH:
+				suffixes.add(matcher.value, true).filters.set(i);
+				break;
+			default:
+				unindexed.set(i);
+			}
+			includes |= Boolean.FALSE.equals(this.filters.get(i).getExclude());
+		}
+		hasIncludeFilters = includes;
+	}
+
+	boolean hasIncludeFilters() {
+		return hasIncludeFilters;
+	}
+
+	/**
+	 * @return the first non null value the function returns for the filters that
+	 * could match the name of the identifier, in the order the filters were added
+	 */
+	<T> T findFirst(TableIdentifier identifier, Function<TableFilter, T> function) {
+		BitSet candidates = (BitSet) unindexed.clone();
+		String name = identifier.getName();
+		if (name != null) {
+			BitSet exact = exactNames.get(name);
+			if (exact != null) {
+				candidates.or(exact);
+			}
+			prefixes.collect(name, false, candidates);
+			suffixes.collect(name, true, candidates);
+		}
+		for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+			T value = function.apply(filters.get(i));
+			if (value != null) {
+				return value;
+			}
+		}
+		return null;
+	}
+
+	/*
+	 * A character trie; the suffix trie stores the values reversed.
+	 */
+	private static final class Node {
+
+		private final Map<Character, Node> children = new HashMap<>();
+		private final BitSet filters = new BitSet();
+
+		Node add(String value, boolean reversed) {
+			Node node = this;
+			int length = value.length();
+			for (int i = 0; i < length; i++) {
+				char c = value.charAt(reversed ? length - 1 - i : i);
+				node = node.children.computeIfAbsent(c, k -> new Node());
+			}
+			return node;
+		}
+
+		void collect(String name, boolean reversed, BitSet result) {
+			Node node = this;
+			int length = name.length();
+			result.or(node.filters);
+			for (int i = 0; i < length && node != null; i++) {
+				node = node.children.get(name.charAt(reversed ? length - 1 - i : i));
+				if (node != null) {
+					result.or(node.filters);
+				}
+			}
+		}
+
+	}
+
+}
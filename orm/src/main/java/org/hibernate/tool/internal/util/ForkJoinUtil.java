@@ -0,0 +1,60 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.util;
+
+import java.util.Collection;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Runs work on a fork join pool of its own, so the number of threads is the one
+ * configured for the task and not the one of the common pool.
+ */
+public final class ForkJoinUtil {
+
+    private ForkJoinUtil() {
+    }
+
+    /**
+     * Runs the action for each element on a pool of the given number of threads and
+     * waits until all of them are done. A runtime exception thrown by the action is
+     * rethrown as it is; the activity names what was done in other failure messages,
+     * like "rendering the documentation".
+     */
+    public static <T> void forEach(int threads, Collection<T> elements, Consumer<? super T> action, String activity) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.submit(() -> elements.parallelStream().forEach(action)).get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while " + activity, e);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Error while " + activity, e.getCause());
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+}
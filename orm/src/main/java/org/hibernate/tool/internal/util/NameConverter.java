@@ -18,6 +18,7 @@
 package org.hibernate.tool.internal.util;
 
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 
 final public class NameConverter {
@@ -93,19 +94,24 @@ final public class NameConverter {
         if (s.isEmpty()) {
             return s;
         }
-        StringBuilder result = new StringBuilder();
+        // case conversions of single characters are done on chars, without
+        // intermediate strings, unless the default locale or the character
+        // could make the String based conversion give a different answer
+        boolean charsOnly = !hasSpecialCasing(Locale.getDefault());
+        StringBuilder result = new StringBuilder(s.length());
 
         boolean capitalize = true;
         boolean lastCapital = false;
         boolean lastDecapitalized = false;
         for (int i = 0; i < s.length(); i++) {
-            String c = s.substring(i, i + 1);
-            if ( "_".equals(c) || " ".equals(c) || "-".equals(c) ) {
+            char c = s.charAt(i);
+            if ( c == '_' || c == ' ' || c == '-' ) {
                 capitalize = true;
                 continue;
             }
+            boolean ascii = charsOnly && c < 128;
 
-            if ( c.toUpperCase().equals(c) ) {
+            if ( ascii ? !(c >= 'a' && c <= 'z') : isUpperCase(c) ) {
                 if (lastDecapitalized && !lastCapital) {
                     capitalize = true;
                 }
@@ -118,11 +124,21 @@ final public class NameConverter {
             //if(forceFirstLetter && result.length()==0) capitalize = false;
 
             if (capitalize) {
-                result.append(c.toUpperCase());
+                if (ascii) {
+                    result.append(c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c);
+                }
+                else {
+                    result.append(String.valueOf(c).toUpperCase());
+                }
                 capitalize = false;
             }
             else {
-                result.append(c.toLowerCase() );
+                if (ascii) {
+                    result.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+                }
+                else {
+                    result.append(String.valueOf(c).toLowerCase());
+                }
                 lastDecapitalized = true;
             }
 
@@ -130,6 +146,20 @@ final public class NameConverter {
         return result.toString();
     }
 
+    private static boolean isUpperCase(char c) {
+        String s = String.valueOf(c);
+        return s.toUpperCase().equals(s);
+    }
+
+    /**
+     * The turkic languages map i and I to dotted and dotless variants,
+     * lithuanian adds dots when lower casing.
+     */
+    private static boolean hasSpecialCasing(Locale locale) {
+        String language = locale.getLanguage();
+        return "tr".equals(language) || "az".equals(language) || "lt".equals(language);
+    }
+
     static public String simplePluralize(String singular) {
         char last = singular.charAt( singular.length()-1 );
         Character prev = singular.length() > 1 ? singular.charAt( singular.length() - 2 ) : null;
@@ -24,10 +24,12 @@ import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
+import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 import java.io.ByteArrayInputStream;
@@ -39,17 +41,20 @@ public abstract class AbstractXMLPrettyPrinterStrategy implements XMLPrettyPrint
     private static final Logger LOGGER = Logger.getLogger( AbstractXMLPrettyPrinterStrategy.class.getName() );
     private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = createDocumentBuilderFactory();
 
+    // builders and compiled expressions are not thread safe, but can be reused by one thread
+    private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER = new ThreadLocal<>();
+    private static final ThreadLocal<XPathExpression> WHITESPACE_TEXT = ThreadLocal.withInitial(
+            AbstractXMLPrettyPrinterStrategy::compileWhitespaceText );
+
     public Document newDocument(String xml, String encoding) throws SAXException, IOException, ParserConfigurationException {
-        final Document document = DOCUMENT_BUILDER_FACTORY
-                .newDocumentBuilder()
+        final Document document = getDocumentBuilder()
                 .parse(new InputSource(new ByteArrayInputStream(xml.getBytes(encoding))));
         document.normalize();
         return document;
     }
 
     protected void removeWhitespace(final Document document) throws XPathExpressionException {
-        XPath xPath = XPathFactory.newInstance().newXPath();
-        NodeList nodeList = (NodeList) xPath.evaluate("//text()[normalize-space()='']",
+        NodeList nodeList = (NodeList) WHITESPACE_TEXT.get().evaluate(
                 document,
                 XPathConstants.NODESET);
 
@@ -59,6 +64,30 @@ public abstract class AbstractXMLPrettyPrinterStrategy implements XMLPrettyPrint
         }
     }
 
+    private static DocumentBuilder getDocumentBuilder() throws ParserConfigurationException {
+        DocumentBuilder result = DOCUMENT_BUILDER.get();
+        if (result == null) {
+            synchronized (DOCUMENT_BUILDER_FACTORY) {
+                result = DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
+            }
+            DOCUMENT_BUILDER.set(result);
+        }
+        else {
+            result.reset();
+        }
+        return result;
+    }
+
+    private static XPathExpression compileWhitespaceText() {
+        XPath xPath = XPathFactory.newInstance().newXPath();
+        try {
+            return xPath.compile("//text()[normalize-space()='']");
+        }
+        catch (XPathExpressionException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private static DocumentBuilderFactory createDocumentBuilderFactory() {
         DocumentBuilderFactory result = null;
         try {
@@ -0,0 +1,555 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.xml;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.hibernate.tool.api.xml.XMLPrettyPrinterStrategy;
+
+/**
+ * Pretty prints XML in one pass over a StAX reader, without building a DOM.
+ * The output is the same as the one of {@link TrAXPrettyPrinterStrategy}: the
+ * whitespace between elements is replaced by indentation, attributes are sorted
+ * by name and the document type and XML declaration are written the same way.
+ * Documents using constructs this strategy does not reproduce, like an internal
+ * DTD subset, adjacent CDATA sections or another encoding than UTF-8, are handed
+ * to a {@link TrAXPrettyPrinterStrategy}.
+ * <p>
+ * The strategy is thread safe; every thread reuses its own input factory.
+ * <p>
+ * It is not the default; set the system property
+ * {@value XMLPrettyPrinterStrategyFactory#PROPERTY_STRATEGY_IMPL} to the name of
+ * this class to use it.
+ */
+public class StAXPrettyPrinterStrategy implements XMLPrettyPrinterStrategy {
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    // a document type with public and system id, but without internal subset
+    private static final Pattern DOCTYPE = Pattern.compile(
+            "<!DOCTYPE\\s+[^\\s>]+\\s+PUBLIC\\s+(\"[^\"]*\"|'[^']*')\\s+(\"[^\"]*\"|'[^']*')\\s*>" );
+    // what may come before the document type
+    private static final Pattern PROLOG = Pattern.compile(
+            "(?s)(?:\\s+|<\\?.*?\\?>|<!--.*?-->)*+" );
+    private static final String REPORT_CDATA_EVENT = "http://java.sun.com/xml/stream/properties/report-cdata-event";
+
+    private static final ThreadLocal<XMLInputFactory> INPUT_FACTORY = ThreadLocal.withInitial(
+            StAXPrettyPrinterStrategy::createInputFactory );
+
+    private int indent = 4;
+    private boolean omitXmlDeclaration;
+
+    @Override
+    public String prettyPrint(String xml) throws Exception {
+        try {
+            return new Serializer().serialize( xml );
+        }
+        catch (UnsupportedContentException | XMLStreamException e) {
+            // the DOM based strategy knows how to handle it, or reports the error
+            TrAXPrettyPrinterStrategy fallback = new TrAXPrettyPrinterStrategy();
+            fallback.setIndent( getIndent() );
+            fallback.setOmitXmlDeclaration( isOmitXmlDeclaration() );
+            return fallback.prettyPrint( xml );
+        }
+    }
+
+    public int getIndent() {
+        return indent;
+    }
+
+    public void setIndent(int indent) {
+        this.indent = indent;
+    }
+
+    public boolean isOmitXmlDeclaration() {
+        return omitXmlDeclaration;
+    }
+
+    public void setOmitXmlDeclaration(boolean omitXmlDeclaration) {
+        this.omitXmlDeclaration = omitXmlDeclaration;
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory result = XMLInputFactory.newDefaultFactory();
+        result.setProperty( XMLInputFactory.IS_NAMESPACE_AWARE, false );
+        result.setProperty( XMLInputFactory.IS_COALESCING, false );
+        result.setProperty( XMLInputFactory.IS_VALIDATING, false );
+        result.setProperty( XMLInputFactory.SUPPORT_DTD, true );
+        result.setProperty( XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false );
+        // the JDK reader reports CDATA sections as characters otherwise
+        if ( result.isPropertySupported( REPORT_CDATA_EVENT ) ) {
+            result.setProperty( REPORT_CDATA_EVENT, true );
+        }
+        // like the DOM based strategies, never load the external DTD
+        result.setXMLResolver( (publicId, systemId, baseUri, namespace) -> new ByteArrayInputStream( new byte[0] ) );
+        return result;
+    }
+
+    private static boolean isWhitespace(String text) {
+        for ( int i = 0; i < text.length(); i++ ) {
+            char c = text.charAt( i );
+            if ( c != ' ' && c != '\t' && c != '\n' && c != '\r' ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String unquote(String literal) {
+        return literal.substring( 1, literal.length() - 1 );
+    }
+
+    private static String quote(String value) {
+        char quote = value.indexOf( '"' ) > -1 ? '\'' : '"';
+        return quote + value + quote;
+    }
+
+    private record TextNode(String content, boolean cdata) {
+    }
+
+    private record NamespaceDeclaration(String prefix, int depth) {
+    }
+
+    private static final class UnsupportedContentException extends Exception {
+        private static final long serialVersionUID = 1L;
+    }
+
+    /**
+     * Writes the events of one document, following the rules of the JDK serializer
+     * used by {@link TrAXPrettyPrinterStrategy} for indented output.
+     */
+    private final class Serializer {
+
+        private final StringBuilder out = new StringBuilder();
+        private final StringBuilder text = new StringBuilder();
+        private final List<TextNode> run = new ArrayList<>();
+        private final Map<String, Deque<String>> namespaceUris = new HashMap<>();
+        private final Deque<NamespaceDeclaration> declaredNamespaces = new ArrayDeque<>();
+        private final Deque<Integer> childNodeNums = new ArrayDeque<>();
+
+        private String declaration;
+        private boolean newLineAfterDeclaration;
+        private String publicId;
+        private String systemId;
+
+        private int depth;
+        private int childNodeNum;
+        private boolean startTagOpen;
+        private boolean startNewLine;
+        private boolean prevText;
+        private String bufferedText;
+
+        Serializer() {
+            // the default namespace is in scope from the start
+            namespaceUris.put( "", new ArrayDeque<>( List.of( "" ) ) );
+        }
+
+        String serialize(String xml) throws XMLStreamException, UnsupportedContentException {
+            XMLStreamReader reader = INPUT_FACTORY.get().createXMLStreamReader( new StringReader( xml ) );
+            try {
+                readDeclaration( reader );
+                readDoctype( xml );
+                while ( reader.hasNext() ) {
+                    int event = reader.next();
+                    if ( event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.SPACE ) {
+                        if ( depth > 0 ) {
+                            text.append( reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength() );
+                        }
+                        continue;
+                    }
+                    if ( event == XMLStreamConstants.CDATA ) {
+                        cdataEvent( reader.getText(), xml );
+                        continue;
+                    }
+                    endRun();
+                    switch ( event ) {
+                        case XMLStreamConstants.START_ELEMENT -> startElement( reader );
+                        case XMLStreamConstants.END_ELEMENT -> endElement( qualifiedName( reader.getPrefix(), reader.getLocalName() ) );
+                        case XMLStreamConstants.COMMENT -> comment( reader.getText() );
+                        case XMLStreamConstants.PROCESSING_INSTRUCTION -> processingInstruction( reader.getPITarget(), reader.getPIData() );
+                        case XMLStreamConstants.DTD -> {
+                            // already read, the reader does not report the system id of a DTD it did not load
+                        }
+                        case XMLStreamConstants.END_DOCUMENT -> endDocument();
+                        default -> throw new UnsupportedContentException();
+                    }
+                }
+            }
+            finally {
+                reader.close();
+            }
+            return out.toString();
+        }
+
+        private void readDeclaration(XMLStreamReader reader) throws UnsupportedContentException {
+            String version = reader.getVersion();
+            String encoding = reader.getCharacterEncodingScheme();
+            if ( ( version != null && !"1.0".equals( version ) )
+                    || ( encoding != null && !"UTF-8".equalsIgnoreCase( encoding ) ) ) {
+                // the DOM based strategies take both from the document
+                throw new UnsupportedContentException();
+            }
+            boolean standalone = reader.standaloneSet() && reader.isStandalone();
+            declaration = standalone
+                    ? "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                    : "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>";
+            newLineAfterDeclaration = !standalone;
+        }
+
+        /**
+         * The document type decides about the line break after the XML declaration,
+         * so it has to be known before anything is written.
+         */
+        private void readDoctype(String xml) throws UnsupportedContentException {
+            Matcher prolog = PROLOG.matcher( xml );
+            prolog.lookingAt();
+            if ( !xml.startsWith( "<!DOCTYPE", prolog.end() ) ) {
+                return;
+            }
+            Matcher matcher = DOCTYPE.matcher( xml );
+            if ( !matcher.region( prolog.end(), xml.length() ).lookingAt() ) {
+                // an internal subset or no public id
+                throw new UnsupportedContentException();
+            }
+            publicId = unquote( matcher.group( 1 ) );
+            systemId = unquote( matcher.group( 2 ) );
+            newLineAfterDeclaration = true;
+        }
+
+        private void startDocument() {
+            if ( declaration != null ) {
+                if ( !isOmitXmlDeclaration() ) {
+                    out.append( declaration );
+                    if ( newLineAfterDeclaration ) {
+                        out.append( LINE_SEPARATOR );
+                    }
+                }
+                declaration = null;
+                startNewLine = false;
+            }
+        }
+
+        private void startElement(XMLStreamReader reader) throws UnsupportedContentException {
+            String name = qualifiedName( reader.getPrefix(), reader.getLocalName() );
+            // the DOM keeps the attributes sorted by name
+            Map<String, String> attributes = new TreeMap<>();
+            for ( int i = 0; i < reader.getAttributeCount(); i++ ) {
+                String attributeName = qualifiedName( reader.getAttributePrefix( i ), reader.getAttributeLocalName( i ) );
+                attributes.put( attributeName, reader.getAttributeValue( i ) );
+            }
+            if ( reader.getNamespaceCount() > 0 ) {
+                throw new UnsupportedContentException();
+            }
+            // namespace declarations come first
+            Map<String, String> namespaces = new TreeMap<>();
+            for ( Iterator<Map.Entry<String, String>> iterator = attributes.entrySet().iterator(); iterator.hasNext(); ) {
+                Map.Entry<String, String> attribute = iterator.next();
+                if ( attribute.getKey().equals( "xmlns" ) || attribute.getKey().startsWith( "xmlns:" ) ) {
+                    namespaces.put( attribute.getKey(), attribute.getValue() );
+                    iterator.remove();
+                }
+                else if ( attribute.getKey().startsWith( "xmlns" ) ) {
+                    throw new UnsupportedContentException();
+                }
+            }
+            childNodeNum++;
+            flushText( false );
+            startDocument();
+            if ( systemId != null ) {
+                out.append( "<!DOCTYPE " ).append( name )
+                        .append( " PUBLIC " ).append( quote( publicId ) )
+                        .append( ' ' ).append( quote( systemId ) )
+                        .append( '>' ).append( LINE_SEPARATOR );
+                systemId = null;
+            }
+            closeStartTag();
+            if ( shouldIndent() && startNewLine ) {
+                indent( depth );
+            }
+            startNewLine = true;
+            out.append( '<' ).append( name );
+            childNodeNums.push( childNodeNum );
+            childNodeNum = 0;
+            depth++;
+            for ( Map.Entry<String, String> namespace : namespaces.entrySet() ) {
+                String prefix = namespace.getKey().equals( "xmlns" ) ? "" : namespace.getKey().substring( 6 );
+                // declarations repeating the one in scope are left out
+                if ( declareNamespace( prefix, namespace.getValue() ) && ( prefix.isEmpty() || !namespace.getValue().isEmpty() ) ) {
+                    appendAttribute( namespace.getKey(), namespace.getValue() );
+                }
+            }
+            for ( Map.Entry<String, String> attribute : attributes.entrySet() ) {
+                appendAttribute( attribute.getKey(), attribute.getValue() );
+            }
+            startTagOpen = true;
+            prevText = false;
+        }
+
+        private void endElement(String name) {
+            flushText( false );
+            if ( startTagOpen ) {
+                out.append( "/>" );
+                startTagOpen = false;
+            }
+            else {
+                if ( shouldIndent() && ( childNodeNum > 1 || !prevText ) ) {
+                    indent( depth - 1 );
+                }
+                out.append( "</" ).append( name ).append( '>' );
+            }
+            while ( !declaredNamespaces.isEmpty() && declaredNamespaces.peek().depth() >= depth ) {
+                namespaceUris.get( declaredNamespaces.pop().prefix() ).pop();
+            }
+            childNodeNum = childNodeNums.pop();
+            depth--;
+            prevText = false;
+        }
+
+        private boolean declareNamespace(String prefix, String uri) {
+            if ( prefix.startsWith( "xml" ) ) {
+                return false;
+            }
+            Deque<String> uris = namespaceUris.computeIfAbsent( prefix, key -> new ArrayDeque<>() );
+            if ( uri.equals( uris.peek() ) ) {
+                return false;
+            }
+            uris.push( uri );
+            declaredNamespaces.push( new NamespaceDeclaration( prefix, depth ) );
+            return true;
+        }
+
+        private void appendAttribute(String name, String value) {
+            out.append( ' ' ).append( name ).append( "=\"" );
+            appendEscaped( value, false );
+            out.append( '"' );
+        }
+
+        private void endTextNode() {
+            if ( text.length() > 0 ) {
+                run.add( new TextNode( text.toString(), false ) );
+                text.setLength( 0 );
+            }
+        }
+
+        /**
+         * The reader may report one CDATA section in several events, which can not be told
+         * apart from adjacent sections in the document.
+         */
+        private void cdataEvent(String content, String xml) throws UnsupportedContentException {
+            endTextNode();
+            int last = run.size() - 1;
+            if ( last >= 0 && run.get( last ).cdata() ) {
+                if ( xml.contains( "]]><![CDATA[" ) ) {
+                    throw new UnsupportedContentException();
+                }
+                run.set( last, new TextNode( run.get( last ).content() + content, true ) );
+            }
+            else {
+                run.add( new TextNode( content, true ) );
+            }
+        }
+
+        /**
+         * XPath sees adjacent text and CDATA nodes as one text node, or as a CDATA node if
+         * there is no text node among them. The DOM based strategies remove the first of
+         * the nodes if such a text node is whitespace only.
+         */
+        private void endRun() {
+            endTextNode();
+            if ( run.isEmpty() ) {
+                return;
+            }
+            boolean text = run.stream().anyMatch( node -> !node.cdata() );
+            boolean whitespace = run.stream().allMatch( node -> isWhitespace( node.content() ) );
+            for ( int i = text && whitespace ? 1 : 0; i < run.size(); i++ ) {
+                TextNode node = run.get( i );
+                if ( node.cdata() ) {
+                    cdata( node.content() );
+                }
+                else {
+                    closeStartTag();
+                    bufferedText = node.content();
+                }
+            }
+            run.clear();
+        }
+
+        private void flushText(boolean beforeText) {
+            if ( bufferedText != null ) {
+                String content = bufferedText;
+                bufferedText = null;
+                if ( !beforeText ) {
+                    childNodeNum++;
+                }
+                int start = 0;
+                if ( shouldIndent() && childNodeNum > 1 ) {
+                    indent( depth );
+                    startNewLine = true;
+                    while ( start < content.length() && content.charAt( start ) == '\n' ) {
+                        start++;
+                    }
+                    if ( start == content.length() ) {
+                        return;
+                    }
+                }
+                appendEscaped( content.substring( start ), true );
+                prevText = true;
+            }
+        }
+
+        private void cdata(String content) {
+            flushText( true );
+            closeStartTag();
+            if ( content.isEmpty() ) {
+                return;
+            }
+            if ( shouldIndent() && childNodeNum > 1 ) {
+                indent( depth );
+            }
+            out.append( "<![CDATA[" );
+            for ( int i = 0; i < content.length(); i++ ) {
+                char c = content.charAt( i );
+                if ( c == '\n' ) {
+                    out.append( LINE_SEPARATOR );
+                }
+                else {
+                    out.append( c );
+                }
+            }
+            out.append( "]]>" );
+            prevText = true;
+        }
+
+        private void comment(String content) {
+            childNodeNum++;
+            flushText( false );
+            closeStartTag();
+            startDocument();
+            if ( shouldIndent() ) {
+                indent( depth );
+            }
+            out.append( "<!--" );
+            boolean wasDash = false;
+            for ( int i = 0; i < content.length(); i++ ) {
+                char c = content.charAt( i );
+                if ( wasDash && c == '-' ) {
+                    out.append( " -" );
+                }
+                else {
+                    out.append( c );
+                }
+                wasDash = c == '-';
+            }
+            if ( content.endsWith( "-" ) ) {
+                out.append( ' ' );
+            }
+            out.append( "-->" );
+            startNewLine = true;
+        }
+
+        private void processingInstruction(String target, String data) {
+            childNodeNum++;
+            flushText( false );
+            closeStartTag();
+            startDocument();
+            if ( shouldIndent() ) {
+                indent( depth );
+            }
+            out.append( "<?" ).append( target );
+            String trimmed = data == null ? "" : data.stripLeading();
+            if ( !trimmed.isEmpty() && !Character.isSpaceChar( trimmed.charAt( 0 ) ) ) {
+                out.append( ' ' );
+            }
+            out.append( trimmed ).append( "?>" );
+            startNewLine = true;
+        }
+
+        private void endDocument() {
+            flushText( false );
+            if ( !prevText ) {
+                out.append( LINE_SEPARATOR );
+            }
+        }
+
+        private void closeStartTag() {
+            if ( startTagOpen ) {
+                out.append( '>' );
+                startTagOpen = false;
+            }
+        }
+
+        private boolean shouldIndent() {
+            return depth > 0;
+        }
+
+        private void indent(int level) {
+            if ( startNewLine ) {
+                out.append( LINE_SEPARATOR );
+            }
+            out.append( " ".repeat( level * getIndent() ) );
+        }
+
+        private void appendEscaped(String value, boolean inText) {
+            for ( int i = 0; i < value.length(); i++ ) {
+                char c = value.charAt( i );
+                switch ( c ) {
+                    case '<' -> out.append( "&lt;" );
+                    case '>' -> out.append( "&gt;" );
+                    case '&' -> out.append( "&amp;" );
+                    case '\r' -> out.append( "&#13;" );
+                    case '"' -> out.append( inText ? "\"" : "&quot;" );
+                    case '\n' -> out.append( inText ? LINE_SEPARATOR : "&#10;" );
+                    case '\t' -> out.append( inText ? "\t" : "&#9;" );
+                    default -> {
+                        if ( Character.isHighSurrogate( c ) && i + 1 < value.length() ) {
+                            out.append( "&#" ).append( Character.toCodePoint( c, value.charAt( ++i ) ) ).append( ';' );
+                        }
+                        else if ( inText && ( c < 0x20 || ( c >= 0x7F && c <= 0x9F ) ) ) {
+                            out.append( "&#" ).append( (int) c ).append( ';' );
+                        }
+                        else {
+                            out.append( c );
+                        }
+                    }
+                }
+            }
+        }
+
+        private String qualifiedName(String prefix, String localName) {
+            return prefix == null || prefix.isEmpty() ? localName : prefix + ':' + localName;
+        }
+
+    }
+
+}
@@ -35,6 +35,8 @@ public class TrAXPrettyPrinterStrategy extends AbstractXMLPrettyPrinterStrategy
     private static final TransformerFactory TRANSFORMER_FACTORY = TransformerFactory.newInstance(
             "com.sun.org.apache.xalan.internal.xsltc.trax.TransformerFactoryImpl",
             null);
+    // a transformer is not thread safe, but can be reset and reused by one thread
+    private static final ThreadLocal<Transformer> TRANSFORMER = new ThreadLocal<>();
 
     private int indent = 4;
     private boolean omitXmlDeclaration;
@@ -51,9 +53,12 @@ public class TrAXPrettyPrinterStrategy extends AbstractXMLPrettyPrinterStrategy
         return stringWriter.toString();
     }
 
+    /**
+     * @return the transformer of the current thread, configured for the given document
+     */
     protected Transformer newTransformer(final Document document) throws TransformerConfigurationException {
 
-        final Transformer transformer = TRANSFORMER_FACTORY.newTransformer();
+        final Transformer transformer = getTransformer();
         transformer.setOutputProperty(OutputKeys.METHOD, "xml");
         transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
         transformer.setOutputProperty(OutputKeys.INDENT, "yes");
@@ -75,6 +80,20 @@ public class TrAXPrettyPrinterStrategy extends AbstractXMLPrettyPrinterStrategy
         return transformer;
     }
 
+    private static Transformer getTransformer() throws TransformerConfigurationException {
+        Transformer result = TRANSFORMER.get();
+        if (result == null) {
+            synchronized (TRANSFORMER_FACTORY) {
+                result = TRANSFORMER_FACTORY.newTransformer();
+            }
+            TRANSFORMER.set(result);
+        }
+        else {
+            result.reset();
+        }
+        return result;
+    }
+
     public int getIndent() {
         return indent;
     }
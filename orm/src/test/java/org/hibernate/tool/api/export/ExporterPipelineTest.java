@@ -0,0 +1,110 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.api.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.tool.api.metadata.MetadataDescriptor;
+import org.junit.jupiter.api.Test;
+
+public class ExporterPipelineTest {
+
+	private final AtomicInteger builds = new AtomicInteger();
+	private final List<Metadata> used = new CopyOnWriteArrayList<>();
+
+	@Test
+	public void testMetadataIsBuiltOnce() {
+		ExporterPipeline pipeline = new ExporterPipeline(new CountingMetadataDescriptor());
+		pipeline.addExporter(new MetadataExporter());
+		pipeline.addExporter(new MetadataExporter());
+		pipeline.addExporter(new MetadataExporter());
+		pipeline.start();
+		assertEquals(1, builds.get());
+		assertEquals(3, used.size());
+		assertSame(used.get(0), used.get(1));
+		assertSame(used.get(0), used.get(2));
+	}
+
+	@Test
+	public void testExportersRunConcurrently() {
+		ExporterPipeline pipeline = new ExporterPipeline(new CountingMetadataDescriptor());
+		pipeline.setThreads(4);
+		for (int i = 0; i < 8; i++) {
+			pipeline.addExporter(new MetadataExporter());
+		}
+		pipeline.start();
+		assertEquals(1, builds.get());
+		assertEquals(8, used.size());
+		for (Metadata metadata : used) {
+			assertSame(used.get(0), metadata);
+		}
+	}
+
+	@Test
+	public void testFailureIsRethrown() {
+		ExporterPipeline pipeline = new ExporterPipeline(new CountingMetadataDescriptor());
+		pipeline.setThreads(2);
+		pipeline.addExporter(new MetadataExporter());
+		pipeline.addExporter(new MetadataExporter() {
+			@Override
+			public void start() {
+				throw new IllegalStateException("failed");
+			}
+		});
+		IllegalStateException exception = assertThrows(IllegalStateException.class, pipeline::start);
+		assertEquals("failed", exception.getMessage());
+	}
+
+	private class CountingMetadataDescriptor implements MetadataDescriptor {
+		@Override
+		public Metadata createMetadata() {
+			builds.incrementAndGet();
+			return (Metadata) Proxy.newProxyInstance(
+					getClass().getClassLoader(),
+					new Class<?>[] { Metadata.class },
+					(proxy, method, args) -> null);
+		}
+		@Override
+		public Properties getProperties() {
+			return new Properties();
+		}
+	}
+
+	private class MetadataExporter implements Exporter {
+		private final Properties properties = new Properties();
+		@Override
+		public Properties getProperties() {
+			return properties;
+		}
+		@Override
+		public void start() {
+			MetadataDescriptor descriptor = (MetadataDescriptor) properties.get(ExporterConstants.METADATA_DESCRIPTOR);
+			used.add(descriptor.createMetadata());
+		}
+	}
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.export.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class DefaultArtifactCollectorTest {
+
+    @Test
+    public void testFilesAddedConcurrently() {
+        DefaultArtifactCollector collector = new DefaultArtifactCollector();
+        Set<File> notified = ConcurrentHashMap.newKeySet();
+        collector.addListener((file, type) -> notified.add(file));
+        IntStream.range(0, 10000).parallel().forEach(i -> {
+            File file = new File("File" + i + (i % 2 == 0 ? ".java" : ".hbm.xml"));
+            if (i % 3 == 0) {
+                collector.addUnchangedFile(file, i % 2 == 0 ? "java" : "hbm.xml");
+            }
+            else {
+                collector.addFile(file, i % 2 == 0 ? "java" : "hbm.xml");
+            }
+        });
+        assertEquals(5000, collector.getFileCount("java"));
+        assertEquals(5000, collector.getFileCount("hbm.xml"));
+        assertEquals(5000, new HashSet<>(Arrays.asList(collector.getFiles("java"))).size());
+        assertEquals(Set.of("java", "hbm.xml"), collector.getFileTypes());
+        assertEquals(10000, notified.size());
+    }
+
+    @Test
+    public void testListenersOfType() {
+        DefaultArtifactCollector collector = new DefaultArtifactCollector();
+        List<String> notified = new ArrayList<>();
+        collector.addListener("java", (file, type) -> notified.add(
+                "java listener: " + file.getName() + (collector.isUnchanged(file) ? " unchanged" : "")));
+        collector.addListener((file, type) -> notified.add("listener: " + file.getName() + " " + type));
+        collector.addFile(new File("Person.java"), "java");
+        collector.addFile(new File("Person.hbm.xml"), "hbm.xml");
+        collector.addUnchangedFile(new File("Address.java"), "java");
+        assertEquals(
+                List.of(
+                        "listener: Person.java java",
+                        "java listener: Person.java",
+                        "listener: Person.hbm.xml hbm.xml",
+                        "listener: Address.java java",
+                        "java listener: Address.java unchanged"),
+                notified);
+        assertTrue(collector.isThreadSafe());
+    }
+
+}
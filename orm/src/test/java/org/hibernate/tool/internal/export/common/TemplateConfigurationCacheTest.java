@@ -0,0 +1,135 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.export.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TemplateConfigurationCacheTest {
+
+    @TempDir
+    private File tempDir;
+
+    @Test
+    public void testSharedBetweenHelpers() {
+        String[] templatePath = new String[] { tempDir.getPath() };
+        TemplateHelper first = new TemplateHelper();
+        first.init(tempDir, templatePath);
+        TemplateHelper second = new TemplateHelper();
+        second.init(tempDir, new String[] { tempDir.getPath() });
+        assertSame(first.freeMarkerEngine, second.freeMarkerEngine);
+        TemplateHelper classpathOnly = new TemplateHelper();
+        classpathOnly.init(tempDir, new String[0]);
+        assertNotSame(first.freeMarkerEngine, classpathOnly.freeMarkerEngine);
+    }
+
+    @Test
+    public void testChangedTemplateIsReloaded() throws IOException {
+        File template = new File(tempDir, "greeting.ftl");
+        Files.writeString(template.toPath(), "hello");
+        assertEquals("hello", process("greeting.ftl"));
+        Files.writeString(template.toPath(), "goodbye");
+        // make sure the time stamp differs on file systems with a coarse resolution
+        template.setLastModified(template.lastModified() + 2000);
+        assertEquals("goodbye", process("greeting.ftl"));
+    }
+
+    @Test
+    public void testDirectoryCreatedLater() throws IOException {
+        File directory = new File(tempDir, "later");
+        String[] templatePath = new String[] { directory.getPath() };
+        TemplateHelper before = new TemplateHelper();
+        before.init(tempDir, templatePath);
+        Files.createDirectories(directory.toPath());
+        TemplateHelper after = new TemplateHelper();
+        after.init(tempDir, templatePath);
+        assertNotSame(before.freeMarkerEngine, after.freeMarkerEngine);
+    }
+
+    @Test
+    public void testChangedArchiveGetsNewConfiguration() throws IOException {
+        File archive = new File(tempDir, "templates.zip");
+        writeArchive(archive, "greeting.ftl", "hello");
+        String[] templatePath = new String[] { archive.getPath() };
+        TemplateHelper before = new TemplateHelper();
+        before.init(tempDir, templatePath);
+        assertSame(before.freeMarkerEngine, TemplateConfigurationCache.get(templatePath));
+        writeArchive(archive, "greeting.ftl", "goodbye, and longer");
+        archive.setLastModified(archive.lastModified() + 2000);
+        TemplateHelper after = new TemplateHelper();
+        after.init(tempDir, templatePath);
+        assertNotSame(before.freeMarkerEngine, after.freeMarkerEngine);
+        StringWriter output = new StringWriter();
+        after.processTemplate("greeting.ftl", output, null);
+        assertEquals("goodbye, and longer", output.toString());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsDropped() throws IOException {
+        String[] first = new String[] { Files.createDirectories(tempDir.toPath().resolve("first")).toString() };
+        Object configuration = TemplateConfigurationCache.get(first);
+        for (int i = 0; i < TemplateConfigurationCache.MAX_CONFIGURATIONS; i++) {
+            TemplateConfigurationCache.get(new String[] { new File(tempDir, "other" + i).getPath() });
+        }
+        assertNotSame(configuration, TemplateConfigurationCache.get(first));
+    }
+
+    @Test
+    public void testDroppedArchiveConfigurationStaysUsable() throws IOException {
+        File archive = new File(tempDir, "templates.zip");
+        writeArchive(archive, "greeting.ftl", "hello");
+        TemplateHelper running = new TemplateHelper();
+        running.init(tempDir, new String[] { archive.getPath() });
+        for (int i = 0; i < TemplateConfigurationCache.MAX_CONFIGURATIONS; i++) {
+            TemplateConfigurationCache.get(new String[] { new File(tempDir, "other" + i).getPath() });
+        }
+        StringWriter output = new StringWriter();
+        running.processTemplate("greeting.ftl", output, null);
+        assertEquals("hello", output.toString());
+    }
+
+    private static void writeArchive(File archive, String name, String content) throws IOException {
+        try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(archive))) {
+            zip.putNextEntry(new ZipEntry(name));
+            zip.write(content.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+    }
+
+    private String process(String templateName) {
+        TemplateHelper templateHelper = new TemplateHelper();
+        templateHelper.init(tempDir, new String[] { tempDir.getPath() });
+        StringWriter output = new StringWriter();
+        templateHelper.processTemplate(templateName, output, null);
+        return output.toString();
+    }
+
+}
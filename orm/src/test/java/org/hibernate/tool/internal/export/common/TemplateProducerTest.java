@@ -0,0 +1,177 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.export.common;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TemplateProducerTest {
+
+    @TempDir
+    private File tempDir;
+
+    private File templateDir;
+    private File outputDir;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        templateDir = new File(tempDir, "templates");
+        outputDir = new File(tempDir, "output");
+        Files.createDirectories(templateDir.toPath());
+        Files.writeString(new File(templateDir, "greeting.ftl").toPath(), "hello ${name}");
+        Files.writeString(
+                new File(templateDir, "document.ftl").toPath(),
+                "<?xml version=\"1.0\"?><document><name>${name}</name></document>");
+        Files.writeString(new File(templateDir, "blank.ftl").toPath(), "<#if name == \"world\">  \n</#if>");
+    }
+
+    @Test
+    public void testOutputReplacesFile() throws IOException {
+        File destination = new File(outputDir, "greeting.txt");
+        Files.createDirectories(outputDir.toPath());
+        Files.writeString(destination.toPath(), "an older and longer greeting");
+        DefaultArtifactCollector collector = produce("greeting.ftl", destination, "world", false);
+        assertEquals(1, collector.getFileCount("txt"));
+        assertEquals("hello world", Files.readString(destination.toPath()));
+        assertArrayEquals(new String[] { "greeting.txt" }, outputDir.list());
+    }
+
+    @Test
+    public void testBlankOutputIsSkipped() throws IOException {
+        File destination = new File(outputDir, "blank.txt");
+        DefaultArtifactCollector collector = produce("blank.ftl", destination, "world", false);
+        assertEquals(0, collector.getFileCount("txt"));
+        assertFalse(destination.exists());
+        assertEquals(0, outputDir.list().length);
+    }
+
+    @Test
+    public void testUnchangedFileIsNotWritten() throws IOException {
+        File destination = new File(outputDir, "greeting.txt");
+        DefaultArtifactCollector first = produce("greeting.ftl", destination, "world");
+        assertEquals("hello world", Files.readString(destination.toPath()));
+        assertFalse(first.isUnchanged(destination));
+        destination.setLastModified(destination.lastModified() - 10000);
+        long lastModified = destination.lastModified();
+        DefaultArtifactCollector second = produce("greeting.ftl", destination, "world");
+        assertTrue(second.isUnchanged(destination));
+        assertEquals(1, second.getFileCount("txt"));
+        assertEquals(lastModified, destination.lastModified());
+    }
+
+    @Test
+    public void testChangedFileIsWritten() throws IOException {
+        File destination = new File(outputDir, "greeting.txt");
+        produce("greeting.ftl", destination, "world");
+        DefaultArtifactCollector collector = produce("greeting.ftl", destination, "earth");
+        assertFalse(collector.isUnchanged(destination));
+        assertEquals("hello earth", Files.readString(destination.toPath()));
+    }
+
+    @Test
+    public void testFormattedXmlIsCompared() throws IOException {
+        File destination = new File(outputDir, "document.xml");
+        DefaultArtifactCollector first = produce("document.ftl", destination, "world");
+        first.formatFiles();
+        String formatted = Files.readString(destination.toPath());
+        DefaultArtifactCollector second = produce("document.ftl", destination, "world");
+        assertTrue(second.isUnchanged(destination));
+        second.formatFiles();
+        assertEquals(formatted, Files.readString(destination.toPath()));
+    }
+
+    @Test
+    public void testXmlIsFormattedBeforeWriting() throws IOException {
+        File destination = new File(outputDir, "document.xml");
+        DefaultArtifactCollector collector = produce("document.ftl", destination, "world", false);
+        String written = Files.readString(destination.toPath());
+        assertTrue(written.contains("\n    <name>world</name>"));
+        destination.setLastModified(destination.lastModified() - 10000);
+        long lastModified = destination.lastModified();
+        collector.formatFiles();
+        assertEquals(lastModified, destination.lastModified());
+        assertEquals(written, Files.readString(destination.toPath()));
+    }
+
+    @Test
+    public void testAddedFormatter() throws IOException {
+        File destination = new File(outputDir, "greeting.txt");
+        DefaultArtifactCollector collector = new DefaultArtifactCollector();
+        collector.addFormatter("txt", String::toUpperCase);
+        produce("greeting.ftl", destination, "world", false, collector);
+        assertEquals("HELLO WORLD", Files.readString(destination.toPath()));
+        File added = new File(outputDir, "added.txt");
+        Files.writeString(added.toPath(), "added directly");
+        collector.addFile(added, "txt");
+        collector.formatFiles();
+        assertEquals("ADDED DIRECTLY", Files.readString(added.toPath()));
+        assertEquals("HELLO WORLD", Files.readString(destination.toPath()));
+    }
+
+    @Test
+    public void testListenerIsNotifiedOfWrittenFile() throws IOException {
+        File destination = new File(outputDir, "greeting.txt");
+        DefaultArtifactCollector collector = new DefaultArtifactCollector();
+        Map<File, String> notified = new HashMap<>();
+        collector.addListener("txt", (file, type) -> {
+            try {
+                notified.put(file, Files.readString(file.toPath()));
+            }
+            catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        produce("greeting.ftl", destination, "world", false, collector);
+        assertEquals(Map.of(destination, "hello world"), notified);
+    }
+
+    private DefaultArtifactCollector produce(String templateName, File destination, String name) {
+        return produce(templateName, destination, name, true);
+    }
+
+    private DefaultArtifactCollector produce(String templateName, File destination, String name, boolean writeIfChanged) {
+        return produce(templateName, destination, name, writeIfChanged, new DefaultArtifactCollector());
+    }
+
+    private DefaultArtifactCollector produce(
+            String templateName,
+            File destination,
+            String name,
+            boolean writeIfChanged,
+            DefaultArtifactCollector collector) {
+        TemplateHelper templateHelper = new TemplateHelper();
+        templateHelper.init(outputDir, new String[] { templateDir.getPath() });
+        templateHelper.setWriteIfChanged(writeIfChanged);
+        Map<String, Object> context = new HashMap<>();
+        context.put("name", name);
+        new TemplateProducer(templateHelper, collector).produce(context, templateName, destination, name);
+        return collector;
+    }
+}
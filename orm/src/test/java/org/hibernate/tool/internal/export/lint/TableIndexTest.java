@@ -0,0 +1,74 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.export.lint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.hibernate.mapping.Table;
+import org.junit.jupiter.api.Test;
+
+public class TableIndexTest {
+
+    private final Table customer = table("CAT", "SALES", "CUSTOMER");
+    private final Table archivedCustomer = table("CAT", "ARCHIVE", "CUSTOMER");
+    private final Table mixedCase = table("CAT", "SALES", "OrderLine");
+    private final Table lowerCase = table("CAT", "SALES", "orderline");
+    private final Table quoted = table("CAT", "SALES", "`LINE-ITEM`");
+
+    private final TableIndex index = new TableIndex(List.of(customer, archivedCustomer, mixedCase, lowerCase, quoted));
+
+    @Test
+    public void testNamesMatchIgnoringCase() {
+        assertEquals(List.of(customer), index.find("CAT", "SALES", "customer"));
+        assertEquals(List.of(customer), index.find("cat", "sales", "Customer"));
+        assertEquals(List.of(quoted), index.find("CAT", "SALES", "line-item"));
+    }
+
+    @Test
+    public void testMissingCatalogOrSchemaMatchesAny() {
+        assertEquals(List.of(customer, archivedCustomer), index.find(null, null, "CUSTOMER"));
+        assertEquals(List.of(archivedCustomer), index.find(null, "ARCHIVE", "CUSTOMER"));
+    }
+
+    @Test
+    public void testExactNamePreferred() {
+        assertEquals(List.of(mixedCase), index.find("CAT", "SALES", "OrderLine"));
+        assertEquals(List.of(lowerCase), index.find("CAT", "SALES", "orderline"));
+        assertEquals(List.of(mixedCase, lowerCase), index.find("CAT", "SALES", "ORDERLINE"));
+    }
+
+    @Test
+    public void testMissingTable() {
+        assertTrue(index.find("CAT", "SALES", "MISSING").isEmpty());
+        assertTrue(index.find("CAT", "OTHER", "CUSTOMER").isEmpty());
+        // unlike a metadata query, an underscore is not a wildcard
+        assertTrue(index.find("CAT", "SALES", "ORDER_LINE").isEmpty());
+    }
+
+    private static Table table(String catalog, String schema, String name) {
+        Table table = new Table("orm");
+        table.setCatalog(catalog);
+        table.setSchema(schema);
+        table.setName(name);
+        return table;
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.export.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+
+import org.hibernate.tool.api.export.ExporterConstants;
+import org.junit.jupiter.api.Test;
+
+public class QueryExporterTest {
+
+    private final File outputDir = new File("output");
+
+    @Test
+    public void testQueryFileNumbersEachQuery() {
+        QueryExporter exporter = new QueryExporter();
+        exporter.getProperties().put(ExporterConstants.DESTINATION_FOLDER, outputDir);
+        exporter.getProperties().put(ExporterConstants.OUTPUT_FILE_NAME, "queryresult.txt");
+        assertEquals(new File(outputDir, "queryresult-1.txt"), exporter.getQueryFile(0));
+        assertEquals(new File(outputDir, "queryresult-12.txt"), exporter.getQueryFile(11));
+        exporter.getProperties().put(ExporterConstants.OUTPUT_FILE_NAME, "queryresult");
+        assertEquals(new File(outputDir, "queryresult-2"), exporter.getQueryFile(1));
+    }
+
+    @Test
+    public void testNoQueryFileWithoutFileName() {
+        QueryExporter exporter = new QueryExporter();
+        exporter.getProperties().put(ExporterConstants.DESTINATION_FOLDER, outputDir);
+        assertNull(exporter.getQueryFile(0));
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.export.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class QueryRowFormatTest {
+
+    @Test
+    public void testText() {
+        assertEquals("[a, b]", QueryRowFormat.TEXT.format(List.of("a", "b")));
+        assertEquals("null", QueryRowFormat.TEXT.format(null));
+    }
+
+    @Test
+    public void testCsv() {
+        assertEquals("max,jboss,42,", QueryRowFormat.CSV.format(new Object[] { "max", "jboss", 42, null }));
+        assertEquals("\"a,b\",\"say \"\"hi\"\"\",\"two\nlines\"",
+                QueryRowFormat.CSV.format(new Object[] { "a,b", "say \"hi\"", "two\nlines" }));
+        assertEquals("single", QueryRowFormat.CSV.format("single"));
+    }
+
+    @Test
+    public void testJsonLines() {
+        assertEquals("[\"max\",42,true,null]", QueryRowFormat.JSON_LINES.format(new Object[] { "max", 42, true, null }));
+        assertEquals("\"tab\\tquote\\\"back\\\\slash\\u0001\"", QueryRowFormat.JSON_LINES.format("tab\tquote\"back\\slash\u0001"));
+        assertEquals("\"NaN\"", QueryRowFormat.JSON_LINES.format(Double.NaN));
+        assertEquals("1.5", QueryRowFormat.JSON_LINES.format(1.5d));
+    }
+
+    @Test
+    public void testFromName() {
+        assertSame(QueryRowFormat.TEXT, QueryRowFormat.fromName(null));
+        assertSame(QueryRowFormat.TEXT, QueryRowFormat.fromName(" "));
+        assertSame(QueryRowFormat.CSV, QueryRowFormat.fromName("CSV"));
+        assertSame(QueryRowFormat.JSON_LINES, QueryRowFormat.fromName("jsonl"));
+        assertThrows(IllegalArgumentException.class, () -> QueryRowFormat.fromName("xml"));
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.dialect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.hibernate.tool.api.metadata.MetadataConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SnapshotMetaDataDialectTest {
+
+    @TempDir
+    public Path outputDir;
+
+    private Path file;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        file = outputDir.resolve("metadata-snapshot.xml");
+        StringBuilder xml = new StringBuilder();
+        xml.append("<metadata-snapshot version=\"1\" identifier-case=\"upper\">\n<tables>\n");
+        // deliberately not in name order, lookups must keep the snapshot order
+        for (String[] table : new String[][] { { "SALES", "ORDERS" }, { "SALES", "CUSTOMER" }, { "ARCHIVE", "ORDERS" }, { "SALES", "ORDER_LINE" } }) {
+            xml.append("<row>")
+                    .append(value("TABLE_SCHEM", table[0]))
+                    .append(value("TABLE_NAME", table[1]))
+                    .append(value("TABLE_TYPE", "TABLE"))
+                    .append("</row>\n");
+        }
+        xml.append("</tables>\n<columns>\n");
+        for (String[] column : new String[][] { { "SALES", "ORDERS", "ID" }, { "SALES", "ORDERS", "CUSTOMER_ID" }, { "SALES", "CUSTOMER", "ID" }, { "ARCHIVE", "ORDERS", "ID" } }) {
+            xml.append("<row>")
+                    .append(value("TABLE_SCHEM", column[0]))
+                    .append(value("TABLE_NAME", column[1]))
+                    .append(value("COLUMN_NAME", column[2]))
+                    .append("</row>\n");
+        }
+        xml.append("</columns>\n</metadata-snapshot>\n");
+        Files.writeString(file, xml);
+    }
+
+    @Test
+    public void testTablePatterns() {
+        SnapshotMetaDataDialect dialect = SnapshotMetaDataDialect.load(file);
+        assertEquals(
+                List.of("SALES.ORDERS", "SALES.CUSTOMER", "ARCHIVE.ORDERS", "SALES.ORDER_LINE"),
+                tables(dialect.getTables(null, null, "%")));
+        assertEquals(
+                List.of("SALES.ORDERS", "ARCHIVE.ORDERS", "SALES.ORDER_LINE"),
+                tables(dialect.getTables(null, null, "order%")));
+        assertEquals(
+                List.of("SALES.ORDERS", "ARCHIVE.ORDERS"),
+                tables(dialect.getTables(null, null, "ORDERS")));
+        assertEquals(
+                List.of("SALES.ORDERS", "ARCHIVE.ORDERS"),
+                tables(dialect.getTables(null, null, "_RDERS")));
+        assertEquals(
+                List.of("SALES.ORDERS", "SALES.ORDER_LINE"),
+                tables(dialect.getTables(null, "SALES", "ORDER%")));
+        assertEquals(List.of(), tables(dialect.getTables(null, "SALES", "MISSING")));
+    }
+
+    @Test
+    public void testColumnsOfExactTable() {
+        SnapshotMetaDataDialect dialect = SnapshotMetaDataDialect.load(file);
+        List<String> columns = new ArrayList<>();
+        dialect.getColumns(null, "SALES", "ORDERS", null)
+                .forEachRemaining(row -> columns.add((String) row.get("COLUMN_NAME")));
+        assertEquals(List.of("ID", "CUSTOMER_ID"), columns);
+        assertEquals(2, tables(dialect.getColumns(null, null, "ORDERS", "ID")).size());
+    }
+
+    @Test
+    public void testLoadedOnceWhileUnchanged() throws IOException {
+        Properties properties = new Properties();
+        properties.put(MetadataConstants.METADATA_SNAPSHOT_FILE, file.toString());
+        SnapshotMetaDataDialect first = SnapshotMetaDataDialect.fromProperties(properties);
+        assertSame(first, SnapshotMetaDataDialect.fromProperties(properties));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 2000));
+        assertNotSame(first, SnapshotMetaDataDialect.fromProperties(properties));
+    }
+
+    private static String value(String name, String value) {
+        return "<value name=\"" + name + "\" type=\"String\">" + value + "</value>";
+    }
+
+    private static List<String> tables(Iterator<Map<String, Object>> rows) {
+        List<String> result = new ArrayList<>();
+        rows.forEachRemaining(row -> result.add(row.get("TABLE_SCHEM") + "." + row.get("TABLE_NAME")));
+        return result;
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class NameCacheTest {
+
+    @Test
+    public void testConvertsEachNameOnce() {
+        NameCache cache = new NameCache(10);
+        AtomicInteger conversions = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("NAME", cache.get("name", name -> {
+                conversions.incrementAndGet();
+                return name.toUpperCase();
+            }));
+        }
+        assertEquals(1, conversions.get());
+    }
+
+    @Test
+    public void testStaysBounded() {
+        NameCache cache = new NameCache(10);
+        for (int i = 0; i < 100; i++) {
+            assertEquals("name" + i + "!", cache.get("name" + i, name -> name + "!"));
+            assertTrue(cache.size() <= 10);
+        }
+    }
+
+}
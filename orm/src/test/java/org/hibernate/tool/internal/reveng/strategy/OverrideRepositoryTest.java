@@ -0,0 +1,178 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Types;
+
+import org.hibernate.MappingException;
+import org.hibernate.tool.api.reveng.RevengStrategy;
+import org.hibernate.tool.api.reveng.TableIdentifier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class OverrideRepositoryTest {
+
+	// without a DOCTYPE the DTD defaults of match-catalog and match-schema are not applied
+	private static final String FIRST =
+			"<hibernate-reverse-engineering>" +
+			"  <type-mapping>" +
+			"    <sql-type jdbc-type='INTEGER' hibernate-type='long'/>" +
+			"  </type-mapping>" +
+			"  <table-filter match-catalog='.*' match-schema='.*' match-name='.*_AUD' exclude='true'/>" +
+			"  <table-filter match-catalog='.*' match-schema='.*' match-name='ORDER.*' package='org.orders'/>" +
+			"  <table name='ORDERS' class='org.orders.PurchaseOrder'/>" +
+			"</hibernate-reverse-engineering>";
+
+	private static final String SECOND =
+			"<hibernate-reverse-engineering>" +
+			"  <schema-selection match-schema='SALES'/>" +
+			"  <type-mapping>" +
+			"    <sql-type jdbc-type='INTEGER' hibernate-type='int'/>" +
+			"    <sql-type jdbc-type='VARCHAR' hibernate-type='text'/>" +
+			"  </type-mapping>" +
+			"  <table-filter match-catalog='.*' match-schema='.*' match-name='ORDERS_AUD' exclude='false'/>" +
+			"  <table-filter match-catalog='.*' match-schema='.*' match-name='CUSTOMER' package='org.customers'/>" +
+			"</hibernate-reverse-engineering>";
+
+	@TempDir
+	File outputDir;
+
+	@Test
+	public void testStreamingInputStream() {
+		OverrideRepository repository = new OverrideRepository();
+		repository.addInputStream(stream(FIRST));
+		RevengStrategy strategy = repository.getReverseEngineeringStrategy(new DefaultStrategy());
+		assertEquals("long", typeOf(strategy, Types.INTEGER));
+		assertTrue(strategy.excludeTable(TableIdentifier.create(null, null, "ORDERS_AUD")));
+		assertEquals(
+				"org.orders.PurchaseOrder",
+				strategy.tableToClassName(TableIdentifier.create(null, null, "ORDERS")));
+		assertEquals(
+				"org.orders.OrderLine",
+				strategy.tableToClassName(TableIdentifier.create(null, null, "ORDER_LINE")));
+	}
+
+	@Test
+	public void testAddFilesKeepsFileOrder() throws IOException {
+		File[] files = new File[] { write("first.reveng.xml", FIRST), write("second.reveng.xml", SECOND) };
+		OverrideRepository parallel = new OverrideRepository().addFiles(files);
+		OverrideRepository serial = new OverrideRepository();
+		for (File file : files) {
+			serial.addFile(file);
+		}
+		for (OverrideRepository repository : new OverrideRepository[] { parallel, serial }) {
+			RevengStrategy strategy = repository.getReverseEngineeringStrategy(new DefaultStrategy());
+			// the mapping of the first file is found first
+			assertEquals("long", typeOf(strategy, Types.INTEGER));
+			assertEquals("text", typeOf(strategy, Types.VARCHAR));
+			// and so is its exclude filter
+			assertTrue(strategy.excludeTable(TableIdentifier.create(null, null, "ORDERS_AUD")));
+			assertFalse(strategy.excludeTable(TableIdentifier.create(null, null, "CUSTOMER")));
+			assertEquals(
+					"org.customers.Customer",
+					strategy.tableToClassName(TableIdentifier.create(null, null, "CUSTOMER")));
+			assertEquals(1, strategy.getSchemaSelections().size());
+			assertEquals("SALES", strategy.getSchemaSelections().get(0).getMatchSchema());
+		}
+	}
+
+	@Test
+	public void testInvalidDocument() throws IOException {
+		File broken = write("broken.reveng.xml", "<hibernate-reverse-engineering><table name='X'>");
+		File valid = write("valid.reveng.xml", FIRST);
+		MappingException e = assertThrows(
+				MappingException.class,
+				() -> new OverrideRepository().addFiles(valid, broken));
+		assertTrue(e.getMessage().contains("broken.reveng.xml"));
+		assertThrows(
+				MappingException.class,
+				() -> new OverrideRepository().addInputStream(stream("<hibernate-reverse-engineering>")));
+	}
+
+	@Test
+	public void testInvalidDocumentBindsNothing() {
+		OverrideRepository repository = new OverrideRepository();
+		assertThrows(
+				MappingException.class,
+				() -> repository.addInputStream(stream(
+						"<hibernate-reverse-engineering>" +
+						"  <table-filter match-catalog='.*' match-schema='.*' match-name='ORDERS' exclude='true'/>" +
+						"  <table name='ORDERS' class='org.orders.PurchaseOrder'/>" +
+						"  <table name='X'>")));
+		RevengStrategy strategy = repository.getReverseEngineeringStrategy(new DefaultStrategy());
+		assertFalse(strategy.excludeTable(TableIdentifier.create(null, null, "ORDERS")));
+		assertEquals("Orders", strategy.tableToClassName(TableIdentifier.create(null, null, "ORDERS")));
+	}
+
+	@Test
+	public void testInvalidDocumentKeepsEarlierDocuments() {
+		OverrideRepository repository = new OverrideRepository();
+		repository.addInputStream(stream(FIRST));
+		assertThrows(
+				MappingException.class,
+				() -> repository.addInputStream(stream(
+						"<hibernate-reverse-engineering>" +
+						"  <type-mapping>" +
+						"    <sql-type jdbc-type='VARCHAR' hibernate-type='text'/>" +
+						"  </type-mapping>" +
+						"  <table-filter match-catalog='.*' match-schema='.*' match-name='ITEM' package='org.items'/>" +
+						"  <table name='ORDERS' class='org.orders.Order'/>" +
+						"  <table name='X'>")));
+		RevengStrategy strategy = repository.getReverseEngineeringStrategy(new DefaultStrategy());
+		assertEquals("long", typeOf(strategy, Types.INTEGER));
+		assertEquals("string", typeOf(strategy, Types.VARCHAR));
+		// only the filters of the first document include tables
+		assertTrue(strategy.excludeTable(TableIdentifier.create(null, null, "ITEM")));
+		assertEquals(
+				"org.orders.PurchaseOrder",
+				strategy.tableToClassName(TableIdentifier.create(null, null, "ORDERS")));
+	}
+
+	private static String typeOf(RevengStrategy strategy, int sqlType) {
+		return strategy.columnToHibernateTypeName(
+				null,
+				null,
+				sqlType,
+				SQLTypeMapping.UNKNOWN_LENGTH,
+				SQLTypeMapping.UNKNOWN_PRECISION,
+				SQLTypeMapping.UNKNOWN_SCALE,
+				false,
+				false);
+	}
+
+	private static ByteArrayInputStream stream(String xml) {
+		return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private File write(String name, String xml) throws IOException {
+		File file = new File(outputDir, name);
+		Files.writeString(file.toPath(), xml);
+		return file;
+	}
+
+}
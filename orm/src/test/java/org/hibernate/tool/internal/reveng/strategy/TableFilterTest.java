@@ -0,0 +1,96 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.hibernate.tool.api.reveng.TableIdentifier;
+import org.junit.jupiter.api.Test;
+
+public class TableFilterTest {
+
+	@Test
+	public void testMatcherModes() {
+		assertTrue(new TableFilter.Matcher(".*").match(null));
+		assertTrue(new TableFilter.Matcher("ORDERS").match("ORDERS"));
+		assertFalse(new TableFilter.Matcher("ORDERS").match("ORDERS_AUD"));
+		assertTrue(new TableFilter.Matcher("ORDER.*").match("ORDER_LINE"));
+		assertTrue(new TableFilter.Matcher(".*_AUD").match("ORDERS_AUD"));
+		assertTrue(new TableFilter.Matcher(".*DER.*").match("ORDERS"));
+		assertFalse(new TableFilter.Matcher("ORDER.*").match(null));
+		// plain names may contain '$' and '.'
+		assertTrue(new TableFilter.Matcher("SYS$TABLES").match("SYS$TABLES"));
+	}
+
+	@Test
+	public void testRegexMatcher() {
+		TableFilter.Matcher matcher = new TableFilter.Matcher("ORDER_(LINE|HEAD)[0-9]+");
+		assertTrue(matcher.match("ORDER_LINE1"));
+		assertTrue(matcher.match("ORDER_HEAD42"));
+		assertFalse(matcher.match("ORDER_LINE"));
+		assertFalse(matcher.match("X_ORDER_LINE1"));
+		assertTrue(new TableFilter.Matcher("A.*B").match("AXXB"));
+	}
+
+	@Test
+	public void testFirstMatchWins() {
+		OverrideRepository repository = new OverrideRepository();
+		repository.addTableFilter(filter(".*_AUD", true, null));
+		repository.addTableFilter(filter("ORDER.*", false, "org.orders"));
+		repository.addTableFilter(filter("ORDERS_AUD", false, "org.audit"));
+		repository.addTableFilter(filter("[A-Z]+_TMP", true, null));
+		repository.addTableFilter(filter("ORDERS", false, "org.exact"));
+
+		assertTrue(repository.excludeTable(identifier("ORDERS_AUD")));
+		assertFalse(repository.excludeTable(identifier("ORDERS")));
+		assertEquals("org.orders", repository.getPackageName(identifier("ORDERS")));
+		assertTrue(repository.excludeTable(identifier("CUSTOMER_TMP")));
+		assertNull(repository.getPackageName(identifier("CUSTOMER")));
+		// there are include filters, so unmatched tables are excluded
+		assertTrue(repository.excludeTable(identifier("CUSTOMER")));
+
+		// adding a filter after a lookup is taken into account
+		repository.addTableFilter(filter("CUSTOMER", false, "org.customers"));
+		assertFalse(repository.excludeTable(identifier("CUSTOMER")));
+		assertEquals("org.customers", repository.getPackageName(identifier("CUSTOMER")));
+	}
+
+	@Test
+	public void testOnlyExcludeFilters() {
+		OverrideRepository repository = new OverrideRepository();
+		repository.addTableFilter(filter(".*_AUD", true, null));
+		assertTrue(repository.excludeTable(identifier("ORDERS_AUD")));
+		assertFalse(repository.excludeTable(identifier("ORDERS")));
+	}
+
+	private static TableFilter filter(String name, boolean exclude, String packageName) {
+		TableFilter result = new TableFilter();
+		result.setMatchName(name);
+		result.setExclude(exclude);
+		result.setPackage(packageName);
+		return result;
+	}
+
+	private static TableIdentifier identifier(String name) {
+		return TableIdentifier.create(null, null, name);
+	}
+
+}
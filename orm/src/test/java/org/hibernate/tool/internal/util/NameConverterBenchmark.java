@@ -0,0 +1,94 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntSupplier;
+
+import org.hibernate.tool.internal.reveng.strategy.DefaultStrategy;
+
+/**
+ * Compares the String based name conversion with the char based one and with
+ * the memoized conversion of {@link DefaultStrategy}, on column names as they
+ * typically repeat over the tables of a large schema. Not a test, run it with
+ * {@code java org.hibernate.tool.internal.util.NameConverterBenchmark [columns]}.
+ */
+public class NameConverterBenchmark {
+
+    private static final String[] WORDS = {
+            "id", "name", "created", "updated", "by", "customer", "order", "line", "amount",
+            "status", "code", "description", "valid", "from", "to", "version", "parent", "type" };
+
+    public static void main(String[] args) {
+        int columns = args.length > 0 ? Integer.parseInt(args[0]) : 300_000;
+        List<String> names = columnNames(columns);
+        DefaultStrategy strategy = new DefaultStrategy();
+        for (int round = 0; round < 5; round++) {
+            report("string based", names, () -> {
+                int length = 0;
+                for (String name : names) {
+                    length += NameConverterTest.stringBasedToUpperCamelCase(name).length();
+                }
+                return length;
+            });
+            report("char based  ", names, () -> {
+                int length = 0;
+                for (String name : names) {
+                    length += NameConverter.toUpperCamelCase(name).length();
+                }
+                return length;
+            });
+            report("strategy    ", names, () -> {
+                int length = 0;
+                for (String name : names) {
+                    length += strategy.columnToPropertyName(null, name).length();
+                }
+                return length;
+            });
+            System.out.println();
+        }
+    }
+
+    private static List<String> columnNames(int columns) {
+        Random random = new Random(42);
+        List<String> names = new ArrayList<>(columns);
+        for (int i = 0; i < columns; i++) {
+            StringBuilder name = new StringBuilder();
+            int words = 1 + random.nextInt(3);
+            for (int j = 0; j < words; j++) {
+                if (j > 0) {
+                    name.append('_');
+                }
+                name.append(WORDS[random.nextInt(WORDS.length)].toUpperCase());
+            }
+            names.add(name.toString());
+        }
+        return names;
+    }
+
+    private static void report(String label, List<String> names, IntSupplier run) {
+        long start = System.nanoTime();
+        int result = run.getAsInt();
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%s %8.2f ms %6.1f ns/name (%d)%n",
+                label, elapsed / 1_000_000.0, (double) elapsed / names.size(), result);
+    }
+
+}
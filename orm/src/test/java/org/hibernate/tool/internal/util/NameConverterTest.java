@@ -0,0 +1,111 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class NameConverterTest {
+
+    private static final String ALPHABET = "abcxyzABCXYZ019_- $éÉßıİiIǅ";
+
+    @Test
+    public void testToUpperCamelCase() {
+        assertEquals("", NameConverter.toUpperCamelCase(""));
+        assertEquals("EmployeeName", NameConverter.toUpperCamelCase("employee_name"));
+        assertEquals("EmployeeName", NameConverter.toUpperCamelCase("EMPLOYEE_NAME"));
+        assertEquals("LabelForField", NameConverter.toUpperCamelCase("LabelForField"));
+        assertEquals("NameToMe", NameConverter.toUpperCamelCase("_name-To-Me"));
+        assertEquals("Order2Line", NameConverter.toUpperCamelCase("order 2 line"));
+        assertEquals("Été", NameConverter.toUpperCamelCase("été"));
+    }
+
+    @Test
+    public void testSameAsStringBasedConversion() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            for (Locale locale : new Locale[] { Locale.ROOT, Locale.GERMAN, Locale.forLanguageTag("tr") }) {
+                Locale.setDefault(locale);
+                Random random = new Random(42);
+                for (int i = 0; i < 10000; i++) {
+                    String name = randomName(random);
+                    assertEquals(stringBasedToUpperCamelCase(name), NameConverter.toUpperCamelCase(name),
+                            "'" + name + "' in locale " + locale);
+                }
+            }
+        }
+        finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    private static String randomName(Random random) {
+        char[] chars = new char[1 + random.nextInt(12)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * The conversion as it was done before it worked on chars, kept as the reference.
+     */
+    static String stringBasedToUpperCamelCase(String s) {
+        if (s.isEmpty()) {
+            return s;
+        }
+        StringBuilder result = new StringBuilder();
+
+        boolean capitalize = true;
+        boolean lastCapital = false;
+        boolean lastDecapitalized = false;
+        for (int i = 0; i < s.length(); i++) {
+            String c = s.substring(i, i + 1);
+            if ( "_".equals(c) || " ".equals(c) || "-".equals(c) ) {
+                capitalize = true;
+                continue;
+            }
+
+            if ( c.toUpperCase().equals(c) ) {
+                if (lastDecapitalized && !lastCapital) {
+                    capitalize = true;
+                }
+                lastCapital = true;
+            }
+            else {
+                lastCapital = false;
+            }
+
+            if (capitalize) {
+                result.append(c.toUpperCase());
+                capitalize = false;
+            }
+            else {
+                result.append(c.toLowerCase() );
+                lastDecapitalized = true;
+            }
+
+        }
+        return result.toString();
+    }
+
+}
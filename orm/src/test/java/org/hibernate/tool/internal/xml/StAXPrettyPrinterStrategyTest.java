@@ -0,0 +1,81 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.xml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class StAXPrettyPrinterStrategyTest {
+
+    private static final String NL = System.lineSeparator();
+
+    private static final String[] DOCUMENTS = {
+            "<foo><bar>foobar</bar></foo>",
+            "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?><foo a=\"x &lt; y\" b='\"'>\n  <bar/>\n</foo>",
+            "<foo>text<bar>more text</bar> and more\n  <baz/>\n</foo><!-- end -->",
+            "<foo><![CDATA[ <select> ]]><bar><![CDATA[\n]]></bar>a<![CDATA[b]]>\n</foo>",
+            "<foo>&amp;&#13;&#x85;&#x1F600;<?pi data?><bar tab=\"&#9;\" nl=\"&#10;\"/></foo>",
+            "<p:foo xmlns:p=\"urn:p\" xmlns=\"urn:q\"><p:bar xmlns:p=\"urn:p\"/><bar xmlns=\"\"/></p:foo>",
+            "<foo><!-- a - comment --><bar>  </bar></foo>",
+            // handed to the TrAX strategy
+            "<!DOCTYPE foo PUBLIC \"-//foo\" \"foo.dtd\" [ <!ENTITY bar \"bar\"> ]><foo>&bar;</foo>",
+            "<foo><![CDATA[a]]><![CDATA[b]]></foo>"
+    };
+
+    @Test
+    public void testPrettyPrint() throws Exception {
+        String expected =
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>" + NL +
+                "<!DOCTYPE hibernate-mapping PUBLIC \"-//Hibernate/Hibernate Mapping DTD 3.0//EN\" \"http://www.hibernate.org/dtd/hibernate-mapping-3.0.dtd\">" + NL +
+                "<hibernate-mapping>" + NL +
+                "    <!-- a comment -->" + NL +
+                "    <class name=\"Foo\" table=\"FOO\">" + NL +
+                "        <id name=\"id\" type=\"long\"/>" + NL +
+                "    </class>" + NL +
+                "</hibernate-mapping>" + NL;
+        assertEquals( expected, new StAXPrettyPrinterStrategy().prettyPrint(
+                "<?xml version=\"1.0\"?>\n" +
+                "<!DOCTYPE hibernate-mapping PUBLIC \"-//Hibernate/Hibernate Mapping DTD 3.0//EN\"\n" +
+                "  \"http://www.hibernate.org/dtd/hibernate-mapping-3.0.dtd\">\n" +
+                "<hibernate-mapping>\n" +
+                "<!-- a comment -->\n" +
+                "  <class table=\"FOO\" name=\"Foo\">\n" +
+                "\n" +
+                "    <id name=\"id\" type=\"long\"></id>\n" +
+                "  </class>\n" +
+                "</hibernate-mapping>" ) );
+    }
+
+    @Test
+    public void testSameAsTrAX() throws Exception {
+        StAXPrettyPrinterStrategy stax = new StAXPrettyPrinterStrategy();
+        TrAXPrettyPrinterStrategy trax = new TrAXPrettyPrinterStrategy();
+        for ( String xml : DOCUMENTS ) {
+            assertEquals( trax.prettyPrint( xml ), stax.prettyPrint( xml ), xml );
+        }
+        stax.setIndent( 2 );
+        stax.setOmitXmlDeclaration( true );
+        trax.setIndent( 2 );
+        trax.setOmitXmlDeclaration( true );
+        for ( String xml : DOCUMENTS ) {
+            assertEquals( trax.prettyPrint( xml ), stax.prettyPrint( xml ), xml );
+        }
+    }
+
+}